@@ -12,6 +12,31 @@ package org.hibernate.models.bytebuddy;
 public interface Settings {
 	/**
 	 * Used to pass the ByteBuddy {@linkplain net.bytebuddy.pool.TypePool}.
+	 * Takes precedence over {@linkplain #CLASSPATH_PARAM}.
 	 */
 	String TYPE_POOL_PARAM = "hibernate.models.bytebuddy.typePool";
+
+	/**
+	 * Classpath roots (directories and/or jar files) from which to build a
+	 * {@linkplain net.bytebuddy.pool.TypePool} when one is not
+	 * {@linkplain #TYPE_POOL_PARAM passed}.  Accepts a {@linkplain java.util.Collection}
+	 * of {@linkplain java.nio.file.Path}, {@linkplain java.io.File}, {@linkplain java.net.URL}
+	 * or {@linkplain String} references, or a single String using the
+	 * {@linkplain java.io.File#pathSeparator platform path separator}.
+	 */
+	String CLASSPATH_PARAM = "hibernate.models.bytebuddy.classpath";
+
+	/**
+	 * The caching strategy for a {@linkplain #CLASSPATH_PARAM built} {@linkplain net.bytebuddy.pool.TypePool}.
+	 * Accepts a {@linkplain TypePoolCacheMode}, its name or a
+	 * {@linkplain net.bytebuddy.pool.TypePool.CacheProvider} instance.
+	 * Defaults to {@linkplain TypePoolCacheMode#UNBOUNDED}.
+	 */
+	String TYPE_POOL_CACHE_PARAM = "hibernate.models.bytebuddy.typePoolCache";
+
+	/**
+	 * The maximum number of entries kept when using {@linkplain TypePoolCacheMode#LRU}.
+	 * Defaults to {@code 5000}.
+	 */
+	String TYPE_POOL_CACHE_SIZE_PARAM = "hibernate.models.bytebuddy.typePoolCacheSize";
 }
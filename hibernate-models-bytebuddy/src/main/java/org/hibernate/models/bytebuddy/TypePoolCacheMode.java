@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy;
+
+import java.util.Locale;
+
+/**
+ * Caching strategies for a {@linkplain net.bytebuddy.pool.TypePool} built
+ * from {@linkplain Settings#CLASSPATH_PARAM classpath roots}.
+ *
+ * @see Settings#TYPE_POOL_CACHE_PARAM
+ *
+ * @author Steve Ebersole
+ */
+public enum TypePoolCacheMode {
+	/**
+	 * No caching - every lookup re-parses the class file.
+	 */
+	NONE,
+	/**
+	 * Unbounded cache, scoped to the ModelsContext.
+	 */
+	UNBOUNDED,
+	/**
+	 * Cache bounded to a {@linkplain Settings#TYPE_POOL_CACHE_SIZE_PARAM maximum size},
+	 * evicting the least recently used entries.
+	 */
+	LRU,
+	/**
+	 * Cache whose entries are softly reachable, and so may be reclaimed under memory pressure.
+	 */
+	SOFT,
+	/**
+	 * Unbounded cache shared by all contexts built over the same classpath roots
+	 * and {@linkplain org.hibernate.models.spi.ClassLoading ClassLoading}, kept for
+	 * as long as the ClassLoading is reachable.
+	 */
+	SHARED;
+
+	public static TypePoolCacheMode interpret(Object value) {
+		if ( value == null ) {
+			return UNBOUNDED;
+		}
+		if ( value instanceof TypePoolCacheMode mode ) {
+			return mode;
+		}
+		return valueOf( value.toString().trim().toUpperCase( Locale.ROOT ) );
+	}
+}
@@ -5,9 +5,12 @@
 package org.hibernate.models.bytebuddy.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
+import org.hibernate.models.serial.spi.ArchivableAnnotationTarget;
 import org.hibernate.models.support.AnnotationTargetSupport;
 
 import net.bytebuddy.description.annotation.AnnotationSource;
@@ -15,7 +18,7 @@ import net.bytebuddy.description.annotation.AnnotationSource;
 /**
  * @author Steve Ebersole
  */
-public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
+public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport, ArchivableAnnotationTarget {
 	private final ByteBuddyModelsContext modelContext;
 
 	private Map<Class<? extends Annotation>, ? extends Annotation> usageMap;
@@ -38,9 +41,19 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 		return usageMap;
 	}
 
+	@Override
+	public List<AnnotationUsageDescription> describeDirectAnnotationUsages() {
+		if ( usageMap != null ) {
+			// the usages have been realized, and may since have been changed
+			return null;
+		}
+		return ByteBuddyBuilders.describeUsages( getAnnotationSource() );
+	}
+
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
 }
@@ -9,8 +9,12 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -37,6 +41,7 @@ import org.hibernate.models.internal.ArrayTypeDescriptor;
 import org.hibernate.models.jdk.JdkBuilders;
 import org.hibernate.models.internal.util.CollectionHelper;
 import org.hibernate.models.internal.util.StringHelper;
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.AttributeDescriptor;
@@ -48,6 +53,7 @@ import org.hibernate.models.spi.ValueTypeDescriptor;
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.annotation.AnnotationSource;
+import net.bytebuddy.description.enumeration.EnumerationDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.pool.TypePool;
@@ -68,7 +74,7 @@ public class ByteBuddyBuilders {
 	 * @param name The class name
 	 * @param modelsContext The hibernate-models context
 	 *
-	 * @return The created ClassDetails; may be {@code null}.
+	 * @return The created ClassDetails, or {@code null} if the TypePool could not resolve the name.
 	 */
 	public static ClassDetails buildDetails(String name, ByteBuddyModelsContext modelsContext) {
 		if ( StringHelper.isEmpty( name ) ) {
@@ -92,28 +98,36 @@ public class ByteBuddyBuilders {
 
 		final TypePool typePool = modelsContext.getTypePool();
 
-		try {
-			return new ClassDetailsImpl( typePool.describe( name ).resolve(), modelsContext );
-		}
-		catch (Exception noClass) {
-			// continue to the next checks
+		final TypePool.Resolution resolution = typePool.describe( name );
+		recordClassResolution( resolution.isResolved(), modelsContext );
+		if ( resolution.isResolved() ) {
+			return new ClassDetailsImpl( resolution.resolve(), modelsContext );
 		}
 
-		try {
-			// potentially handle package names
-			final String packageInfoName = name + ".package-info";
-			// just make sure it is resolvable
-			typePool.describe( packageInfoName ).resolve();
+		// potentially handle package names
+		final String packageInfoName = name + ".package-info";
+		final TypePool.Resolution packageInfoResolution = typePool.describe( packageInfoName );
+		recordPackageInfoResolution( packageInfoResolution.isResolved(), modelsContext );
+		if ( packageInfoResolution.isResolved() ) {
 			// package-info is safe to load through using Class
 			return JdkBuilders.buildClassDetailsStatic( packageInfoName, modelsContext );
 		}
-		catch (Exception noClass) {
-			// continue to the next checks
-		}
 
 		return null;
 	}
 
+	private static void recordClassResolution(boolean hit, ByteBuddyModelsContext modelsContext) {
+		if ( modelsContext.getTypePoolStatistics() instanceof TypePoolStatisticsImpl statistics ) {
+			statistics.classResolved( hit );
+		}
+	}
+
+	private static void recordPackageInfoResolution(boolean hit, ByteBuddyModelsContext modelsContext) {
+		if ( modelsContext.getTypePoolStatistics() instanceof TypePoolStatisticsImpl statistics ) {
+			statistics.packageInfoResolved( hit );
+		}
+	}
+
 	/**
 	 * Build a MethodDetails from the Byte Buddy form.
 	 *
@@ -274,6 +288,69 @@ public class ByteBuddyBuilders {
 		return annotationDescriptor.createUsage( attributeValues, modelsContext );
 	}
 
+	/**
+	 * Describe the annotations declared on a source, by name, for archiving.
+	 *
+	 * @param annotationSource The Byte Buddy annotation source
+	 *
+	 * @return The descriptions
+	 */
+	public static List<AnnotationUsageDescription> describeUsages(AnnotationSource annotationSource) {
+		if ( annotationSource == null ) {
+			return Collections.emptyList();
+		}
+		final List<AnnotationUsageDescription> result = new ArrayList<>();
+		for ( AnnotationDescription annotation : annotationSource.getDeclaredAnnotations() ) {
+			if ( annotation.getAnnotationType().represents( Documented.class )
+					|| annotation.getAnnotationType().represents( Repeatable.class )
+					|| annotation.getAnnotationType().represents( Retention.class )
+					|| annotation.getAnnotationType().represents( Target.class ) ) {
+				continue;
+			}
+			result.add( describeUsage( annotation ) );
+		}
+		return result;
+	}
+
+	private static AnnotationUsageDescription describeUsage(AnnotationDescription annotation) {
+		final Map<String, Object> values = new LinkedHashMap<>();
+		for ( MethodDescription.InDefinedShape attribute : annotation.getAnnotationType().getDeclaredMethods() ) {
+			if ( !attribute.isMethod() || attribute.isStatic() ) {
+				continue;
+			}
+			values.put(
+					attribute.getName(),
+					describeValue( annotation.getValue( attribute ).resolve(), attribute.getReturnType().asErasure() )
+			);
+		}
+		return new AnnotationUsageDescription( annotation.getAnnotationType().getName(), values );
+	}
+
+	private static Object describeValue(Object value, TypeDescription declaredType) {
+		if ( value instanceof TypeDescription typeDescription ) {
+			return new AnnotationUsageDescription.ClassValue( typeDescription.getName() );
+		}
+		if ( value instanceof EnumerationDescription enumerationDescription ) {
+			return new AnnotationUsageDescription.EnumValue(
+					enumerationDescription.getEnumerationType().getName(),
+					enumerationDescription.getValue()
+			);
+		}
+		if ( value instanceof AnnotationDescription nested ) {
+			return describeUsage( nested );
+		}
+		if ( declaredType.isArray() ) {
+			final TypeDescription componentType = declaredType.getComponentType();
+			final int length = Array.getLength( value );
+			final List<Object> elements = new ArrayList<>( length );
+			for ( int i = 0; i < length; i++ ) {
+				elements.add( describeValue( Array.get( value, i ), componentType ) );
+			}
+			return new AnnotationUsageDescription.ArrayValue( componentType.getName(), elements );
+		}
+		return value;
+	}
+
 	private static <A extends Annotation> Map<String, Object> extractAttributeValues(
 			AnnotationDescription annotationDescription,
 			AnnotationDescriptor<A> annotationDescriptor,
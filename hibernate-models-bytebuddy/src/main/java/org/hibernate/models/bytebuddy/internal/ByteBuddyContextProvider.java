@@ -27,7 +27,7 @@ public class ByteBuddyContextProvider implements ModelsContextProvider {
 			ClassLoading classLoading,
 			RegistryPrimer registryPrimer,
 			Map<Object, Object> configProperties) {
-		final TypePool typePool = resolveTypePool( configProperties );
+		final TypePool typePool = resolveTypePool( configProperties, classLoading );
 		final boolean trackImplementors = ModelsConfiguration.shouldTrackImplementors( configProperties );
 
 		if ( typePool != null ) {
@@ -37,9 +37,12 @@ public class ByteBuddyContextProvider implements ModelsContextProvider {
 		return new BasicModelsContextImpl( classLoading, trackImplementors, registryPrimer );
 	}
 
-	private TypePool resolveTypePool(Map<Object, Object> configProperties) {
-		// todo : do we want to have the ability to create the TypePool or resolve one from another source?
-		//		- note: if building, be sure to apply BaseLineJavaTypes
-		return (TypePool) configProperties.get( Settings.TYPE_POOL_PARAM );
+	private TypePool resolveTypePool(Map<Object, Object> configProperties, ClassLoading classLoading) {
+		final TypePool explicitTypePool = (TypePool) configProperties.get( Settings.TYPE_POOL_PARAM );
+		if ( explicitTypePool != null ) {
+			return explicitTypePool;
+		}
+
+		return TypePoolBuilder.buildTypePool( configProperties, classLoading );
 	}
 }
@@ -30,6 +30,7 @@ public class ByteBuddyModelsContextImpl
 		extends AbstractModelsContext
 		implements ByteBuddyModelsContext {
 	private final TypePool typePool;
+	private final TypePoolStatisticsImpl typePoolStatistics = new TypePoolStatisticsImpl();
 
 	private final ClassDetailsRegistryImpl classDetailsRegistry;
 	private final ModuleDetailsRegistryImpl moduleDetailsRegistry;
@@ -56,11 +57,38 @@ public class ByteBuddyModelsContextImpl
 		primeRegistries( registryPrimer );
 	}
 
+	/**
+	 * Constructor for a {@linkplain #fork() fork} of the given context.
+	 */
+	protected ByteBuddyModelsContextImpl(ByteBuddyModelsContextImpl parent) {
+		super( parent.getClassLoading() );
+
+		this.typePool = parent.typePool;
+
+		this.classDetailsRegistry = new ClassDetailsRegistryImpl(
+				this,
+				parent.classDetailsRegistry.isTrackingImplementors(),
+				parent.classDetailsRegistry
+		);
+		this.moduleDetailsRegistry = new ModuleDetailsRegistryImpl( this, parent.moduleDetailsRegistry );
+		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard( this, parent.descriptorRegistry );
+	}
+
+	@Override
+	public ByteBuddyModelsContextImpl fork() {
+		return new ByteBuddyModelsContextImpl( this );
+	}
+
 	@Override
 	public TypePool getTypePool() {
 		return typePool;
 	}
 
+	@Override
+	public TypePoolStatisticsImpl getTypePoolStatistics() {
+		return typePoolStatistics;
+	}
+
 	@Override
 	public MutableClassDetailsRegistry getClassDetailsRegistry() {
 		return classDetailsRegistry;
@@ -24,4 +24,10 @@ public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
 		assert modelsContext == modelContext;
 		return ByteBuddyBuilders.buildDetails( name, modelContext );
 	}
+
+	@Override
+	public ClassDetails findClassDetails(String name, ModelsContext modelsContext) {
+		assert modelsContext == modelContext;
+		return ByteBuddyBuilders.buildDetails( name, modelContext );
+	}
 }
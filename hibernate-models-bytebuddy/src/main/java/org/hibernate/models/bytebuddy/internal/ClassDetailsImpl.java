@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
+import org.hibernate.models.internal.ClassDetailsCaches;
 import org.hibernate.models.support.ClassDetailsSupport;
 import org.hibernate.models.serial.internal.SerialClassDetailsImpl;
 import org.hibernate.models.internal.util.CollectionHelper;
@@ -52,11 +53,14 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	private List<MethodDetails> methods;
 	private List<RecordComponentDetails> recordComponents;
 
+	private final ClassDetailsCaches caches;
+
 	public ClassDetailsImpl(TypeDescription typeDescription, ByteBuddyModelsContext modelContext) {
 		super( modelContext );
 		assert !typeDescription.isPrimitive();
 		this.typeDescription = typeDescription;
 		this.superClassDetails = determineSuperType( typeDescription, modelContext );
+		this.caches = new ClassDetailsCaches( this, modelContext );
 	}
 
 	@Override
@@ -138,9 +142,24 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 		return typeParameters;
 	}
 
+	@Override
+	public ClassDetailsCaches getCaches() {
+		return caches;
+	}
+
 	@Override
 	public boolean isImplementor(Class<?> checkType) {
-		return typeDescription.isAssignableTo( checkType );
+		return caches.isImplementor( checkType.getName() );
+	}
+
+	@Override
+	public boolean isImplementor(ClassDetails checkType) {
+		return caches.isImplementor( checkType.getName() );
+	}
+
+	@Override
+	public boolean isSuperclass(ClassDetails classDetails) {
+		return caches.isSuperclass( classDetails.getName() );
 	}
 
 	@Override
@@ -182,6 +201,7 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		caches.invalidate();
 	}
 
 	@Override
@@ -207,6 +227,7 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		caches.invalidate();
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import org.hibernate.models.jdk.JdkBuilders;
 import org.hibernate.models.jdk.JdkClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 
 /**
  * @author Steve Ebersole
@@ -19,7 +20,14 @@ public class ClassDetailsRegistryImpl extends AbstractClassDetailsRegistry {
 	private final ClassDetailsBuilderImpl classDetailsBuilder;
 
 	public ClassDetailsRegistryImpl(ByteBuddyModelsContextImpl context, boolean trackImplementors) {
-		super( trackImplementors, context );
+		this( context, trackImplementors, null );
+	}
+
+	public ClassDetailsRegistryImpl(
+			ByteBuddyModelsContextImpl context,
+			boolean trackImplementors,
+			ClassDetailsRegistry parent) {
+		super( trackImplementors, parent, context );
 		this.classDetailsBuilder = new ClassDetailsBuilderImpl( context );
 	}
 
@@ -30,13 +38,14 @@ public class ClassDetailsRegistryImpl extends AbstractClassDetailsRegistry {
 
 	@Override
 	protected ClassDetails createClassDetails(String name) {
-		final ClassDetails fromByteBuddy = classDetailsBuilder.buildClassDetails( name, context );
+		final ClassDetails fromByteBuddy = classDetailsBuilder.findClassDetails( name, context );
 		if ( fromByteBuddy != null ) {
 			addClassDetails( name, fromByteBuddy );
 			return fromByteBuddy;
 		}
 
-		final JdkClassDetails jdkClassDetails = JdkBuilders.DEFAULT_BUILDER.buildClassDetails( name, context );
+		// probe, rather than build, so that a miss is reported once below
+		final JdkClassDetails jdkClassDetails = JdkBuilders.findClassDetailsStatic( name, context );
 		if ( jdkClassDetails != null ) {
 			addClassDetails( name, jdkClassDetails );
 			return jdkClassDetails;
@@ -6,6 +6,7 @@ package org.hibernate.models.bytebuddy.internal;
 
 import org.hibernate.models.internal.ModuleDetailsRegistryStandard;
 import org.hibernate.models.spi.ModuleDetails;
+import org.hibernate.models.spi.ModuleDetailsRegistry;
 
 import net.bytebuddy.description.module.ModuleDescription;
 
@@ -23,7 +24,16 @@ public class ModuleDetailsRegistryImpl extends ModuleDetailsRegistryStandard {
 	///
 	/// @param context The owning Byte Buddy models context
 	public ModuleDetailsRegistryImpl(ByteBuddyModelsContextImpl context) {
-		super( context );
+		this( context, null );
+	}
+
+	/// Constructs a registry bound to the given Byte Buddy models context
+	/// which reads through to the given parent registry.
+	///
+	/// @param context The owning Byte Buddy models context
+	/// @param parent The parent registry, if one
+	public ModuleDetailsRegistryImpl(ByteBuddyModelsContextImpl context, ModuleDetailsRegistry parent) {
+		super( context, parent );
 		this.context = context;
 	}
 
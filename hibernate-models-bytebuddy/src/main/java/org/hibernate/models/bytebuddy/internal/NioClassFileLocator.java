@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.internal;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.util.StringHelper;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+
+/**
+ * ClassFileLocator over a single classpath root using NIO.  Jar files are
+ * opened as a zip {@linkplain FileSystem} so that entries are read directly
+ * from the central directory rather than through a stream over the whole jar.
+ * <p/>
+ * A single FileSystem is opened per jar and shared by every locator (and so every
+ * TypePool) over that jar, rather than one per locator.  Locators are not tied
+ * to the lifecycle of a ModelsContext and so are never reliably closed - instead the
+ * FileSystem is closed once no locator over the jar is reachable any longer.  The
+ * FileSystem is re-opened if the jar is modified, or after {@linkplain #closeJarFileSystems()}.
+ *
+ * @author Steve Ebersole
+ */
+public class NioClassFileLocator implements ClassFileLocator {
+	private static final ConcurrentHashMap<Path, SharedJar> JAR_FILE_SYSTEMS = new ConcurrentHashMap<>();
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final Path root;
+	private final Path jar;
+
+	private NioClassFileLocator(Path root, Path jar) {
+		this.root = root;
+		this.jar = jar;
+	}
+
+	/**
+	 * Create a locator for the given classpath root, which may be either a
+	 * directory or a jar file.
+	 */
+	public static NioClassFileLocator forRoot(Path root) {
+		if ( Files.isDirectory( root ) ) {
+			return new NioClassFileLocator( root, null );
+		}
+
+		if ( !Files.isRegularFile( root ) ) {
+			throw new ModelsException( "Classpath root does not exist : " + root );
+		}
+
+		final Path jar = root.toAbsolutePath().normalize();
+		JAR_FILE_SYSTEMS.compute( jar, (path, existing) -> {
+			final SharedJar sharedJar = existing == null ? new SharedJar() : existing;
+			sharedJar.users++;
+			sharedJar.refresh( path );
+			return sharedJar;
+		} );
+		final NioClassFileLocator locator = new NioClassFileLocator( null, jar );
+		// must not refer to the locator itself
+		CLEANER.register( locator, () -> release( jar ) );
+		return locator;
+	}
+
+	private static void release(Path jar) {
+		JAR_FILE_SYSTEMS.computeIfPresent( jar, (path, sharedJar) -> {
+			if ( --sharedJar.users > 0 ) {
+				return sharedJar;
+			}
+			sharedJar.close();
+			return null;
+		} );
+	}
+
+	/**
+	 * Close the FileSystems opened for all jars.  Locators still in use re-open them as needed.
+	 */
+	public static void closeJarFileSystems() {
+		JAR_FILE_SYSTEMS.replaceAll( (path, sharedJar) -> {
+			sharedJar.close();
+			return sharedJar;
+		} );
+	}
+
+	@Override
+	public Resolution locate(String name) throws IOException {
+		if ( jar == null ) {
+			return locate( root, name );
+		}
+
+		try {
+			while ( true ) {
+				final JarFileSystem jarFileSystem = openJarFileSystem();
+				jarFileSystem.lock.readLock().lock();
+				try {
+					if ( !jarFileSystem.closed ) {
+						return locate( jarFileSystem.fileSystem.getPath( "/" ), name );
+					}
+					// closed since it was opened - try again
+				}
+				finally {
+					jarFileSystem.lock.readLock().unlock();
+				}
+			}
+		}
+		finally {
+			// the jar must not be released while in use
+			Reference.reachabilityFence( this );
+		}
+	}
+
+	private static Resolution locate(Path root, String name) throws IOException {
+		final Path classFile = root.resolve( StringHelper.classNameToResourceName( name ) );
+		if ( !Files.isRegularFile( classFile ) ) {
+			return new Resolution.Illegal( name );
+		}
+		return new Resolution.Explicit( Files.readAllBytes( classFile ) );
+	}
+
+	private JarFileSystem openJarFileSystem() {
+		final SharedJar sharedJar = JAR_FILE_SYSTEMS.get( jar );
+		final JarFileSystem current = sharedJar == null ? null : sharedJar.current;
+		if ( current != null && !current.closed ) {
+			return current;
+		}
+		// closed (or re-opened) since this locator was created
+		return JAR_FILE_SYSTEMS.compute( jar, (path, existing) -> {
+			// this locator is still reachable, and so still counted as a user
+			final SharedJar refreshed = existing == null ? new SharedJar() : existing;
+			if ( existing == null ) {
+				refreshed.users = 1;
+			}
+			refreshed.refresh( path );
+			return refreshed;
+		} ).current;
+	}
+
+	@Override
+	public void close() {
+		// jar FileSystems are shared, and closed once no longer used
+	}
+
+	@Override
+	public String toString() {
+		return "NioClassFileLocator(" + ( jar == null ? root : jar ) + ")";
+	}
+
+	private static FileTime lastModified(Path jar) {
+		try {
+			return Files.getLastModifiedTime( jar );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to access classpath root : " + jar, e );
+		}
+	}
+
+	/**
+	 * The FileSystem currently opened for a jar, and the number of locators using the jar.
+	 * Only ever changed within {@linkplain ConcurrentHashMap#compute} for the jar.
+	 */
+	private static class SharedJar {
+		private int users;
+		private volatile JarFileSystem current;
+
+		private void refresh(Path jar) {
+			final FileTime lastModified = lastModified( jar );
+			final JarFileSystem existing = current;
+			if ( existing != null ) {
+				if ( !existing.closed && existing.lastModified.equals( lastModified ) ) {
+					return;
+				}
+				// the jar changed - its central directory is no longer valid anyway
+				existing.close();
+			}
+			current = JarFileSystem.open( jar, lastModified );
+		}
+
+		private void close() {
+			final JarFileSystem existing = current;
+			if ( existing != null ) {
+				existing.close();
+			}
+		}
+	}
+
+	/**
+	 * An opened FileSystem.  Reads hold the read lock, so that closing - under the write lock -
+	 * waits for reads in progress.
+	 */
+	private static class JarFileSystem {
+		private final FileSystem fileSystem;
+		private final FileTime lastModified;
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private volatile boolean closed;
+
+		private JarFileSystem(FileSystem fileSystem, FileTime lastModified) {
+			this.fileSystem = fileSystem;
+			this.lastModified = lastModified;
+		}
+
+		private static JarFileSystem open(Path jar, FileTime lastModified) {
+			try {
+				return new JarFileSystem( FileSystems.newFileSystem( jar, (ClassLoader) null ), lastModified );
+			}
+			catch (IOException e) {
+				throw new ModelsException( "Unable to open classpath root : " + jar, e );
+			}
+		}
+
+		private void close() {
+			lock.writeLock().lock();
+			try {
+				if ( closed ) {
+					return;
+				}
+				closed = true;
+				fileSystem.close();
+			}
+			catch (IOException ignore) {
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+}
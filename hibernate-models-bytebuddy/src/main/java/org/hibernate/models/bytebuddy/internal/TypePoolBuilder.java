@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.bytebuddy.Settings;
+import org.hibernate.models.internal.BaseLineJavaTypes;
+import org.hibernate.models.internal.util.StringHelper;
+import org.hibernate.models.spi.ClassLoading;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+/**
+ * Support for building a Byte Buddy {@linkplain TypePool} from
+ * {@linkplain Settings#CLASSPATH_PARAM classpath roots}.
+ * <p/>
+ * Built pools delegate {@code java.*} types to a process-wide {@linkplain #baselineTypePool() baseline pool}
+ * over the bootstrap class loader, so that the {@linkplain BaseLineJavaTypes baseline JDK types}
+ * are parsed once and shared across all contexts.  Types from the bootstrap loader are never
+ * unloaded, so sharing them does not pin any application class loader.  The baseline pool is not
+ * a parent of the built pools - a parent is consulted first for every name, and the baseline pool
+ * does not cache misses, so every application type lookup would re-probe the bootstrap loader.
+ *
+ * @author Steve Ebersole
+ */
+public class TypePoolBuilder {
+	/**
+	 * Build a TypePool based on the given configuration settings.
+	 *
+	 * @return The built TypePool, or {@code null} if no {@linkplain Settings#CLASSPATH_PARAM classpath} was specified.
+	 */
+	public static TypePool buildTypePool(Map<Object, Object> configProperties, ClassLoading classLoading) {
+		final Object classpathSetting = configProperties.get( Settings.CLASSPATH_PARAM );
+		if ( classpathSetting == null ) {
+			return null;
+		}
+
+		final List<Path> classpathRoots = resolveClasspathRoots( classpathSetting );
+		final TypePool.CacheProvider cacheProvider = TypePoolCacheProviders.resolveCacheProvider(
+				configProperties,
+				classpathRoots,
+				classLoading
+		);
+		return buildTypePool( classpathRoots, cacheProvider, classLoading );
+	}
+
+	/**
+	 * Build a TypePool over the given classpath roots.  Types not found in the roots
+	 * are located through {@code classLoading}.
+	 *
+	 * @implNote With a {@linkplain TypePoolCacheProviders.Shared shared} cache, the pool only refers to
+	 * {@code classLoading} weakly - the caller (generally the ModelsContext) must keep it reachable.
+	 */
+	public static TypePool buildTypePool(
+			List<Path> classpathRoots,
+			TypePool.CacheProvider cacheProvider,
+			ClassLoading classLoading) {
+		final List<ClassFileLocator> locators = new ArrayList<>( classpathRoots.size() + 1 );
+		for ( Path classpathRoot : classpathRoots ) {
+			locators.add( NioClassFileLocator.forRoot( classpathRoot ) );
+		}
+		if ( classLoading != null ) {
+			locators.add( cacheProvider instanceof TypePoolCacheProviders.Shared
+					? new ClassLoadingClassFileLocator( new WeakReference<>( classLoading )::get )
+					: new ClassLoadingClassFileLocator( () -> classLoading ) );
+		}
+
+		return new BaselineDelegatingTypePool( cacheProvider, new ClassFileLocator.Compound( locators ) );
+	}
+
+	/**
+	 * The process-wide TypePool over the bootstrap class loader, primed with
+	 * the {@linkplain BaseLineJavaTypes baseline JDK types}.
+	 */
+	public static TypePool baselineTypePool() {
+		return BaselineTypePoolHolder.BASELINE_TYPE_POOL;
+	}
+
+	public static List<Path> resolveClasspathRoots(Object setting) {
+		final List<Path> roots = new ArrayList<>();
+		if ( setting instanceof Collection<?> collection ) {
+			for ( Object entry : collection ) {
+				roots.add( toPath( entry ) );
+			}
+		}
+		else if ( setting instanceof Object[] array ) {
+			for ( Object entry : array ) {
+				roots.add( toPath( entry ) );
+			}
+		}
+		else if ( setting instanceof String string ) {
+			for ( String entry : string.split( File.pathSeparator ) ) {
+				if ( StringHelper.isNotEmpty( entry.trim() ) ) {
+					roots.add( toPath( entry.trim() ) );
+				}
+			}
+		}
+		else {
+			roots.add( toPath( setting ) );
+		}
+		return roots;
+	}
+
+	private static Path toPath(Object entry) {
+		if ( entry instanceof Path path ) {
+			return path.toAbsolutePath();
+		}
+		if ( entry instanceof File file ) {
+			return file.toPath().toAbsolutePath();
+		}
+		if ( entry instanceof URL url ) {
+			try {
+				return Path.of( url.toURI() ).toAbsolutePath();
+			}
+			catch (URISyntaxException e) {
+				throw new ModelsException( "Unable to interpret classpath root : " + url, e );
+			}
+		}
+		if ( entry instanceof String string ) {
+			return Path.of( string ).toAbsolutePath();
+		}
+		throw new ModelsException( "Unable to interpret classpath root : " + entry );
+	}
+
+	private static class BaselineTypePoolHolder {
+		private static final TypePool BASELINE_TYPE_POOL = createBaselineTypePool();
+
+		private static TypePool createBaselineTypePool() {
+			final TypePool typePool = new TypePool.Default(
+					new TypePoolCacheProviders.ResolvedOnly(),
+					ClassFileLocator.ForClassLoader.ofBootLoader(),
+					TypePool.Default.ReaderMode.FAST
+			);
+			BaseLineJavaTypes.forEachJavaType( (javaType) -> typePool.describe( javaType.getName() ).resolve() );
+			return typePool;
+		}
+	}
+
+	/**
+	 * TypePool which describes {@code java.*} types through the {@linkplain #baselineTypePool() baseline pool}
+	 * and all others through its own locator and cache.
+	 */
+	private static class BaselineDelegatingTypePool extends TypePool.Default {
+		private BaselineDelegatingTypePool(CacheProvider cacheProvider, ClassFileLocator classFileLocator) {
+			super( cacheProvider, classFileLocator, ReaderMode.FAST );
+		}
+
+		@Override
+		public Resolution describe(String name) {
+			if ( name.startsWith( "java." ) ) {
+				final Resolution baselineResolution = baselineTypePool().describe( name );
+				if ( baselineResolution.isResolved() ) {
+					return baselineResolution;
+				}
+			}
+			return super.describe( name );
+		}
+	}
+
+	/**
+	 * ClassFileLocator bridging to {@linkplain ClassLoading#locateResource}.
+	 */
+	private static class ClassLoadingClassFileLocator implements ClassFileLocator {
+		private final Supplier<ClassLoading> classLoading;
+
+		private ClassLoadingClassFileLocator(Supplier<ClassLoading> classLoading) {
+			this.classLoading = classLoading;
+		}
+
+		@Override
+		public Resolution locate(String name) throws IOException {
+			final ClassLoading classLoading = this.classLoading.get();
+			if ( classLoading == null ) {
+				// only referred to weakly, and no longer used
+				return new Resolution.Illegal( name );
+			}
+			final URL resource = classLoading.locateResource( StringHelper.classNameToResourceName( name ) );
+			if ( resource == null ) {
+				return new Resolution.Illegal( name );
+			}
+			try (InputStream stream = resource.openStream()) {
+				return new Resolution.Explicit( stream.readAllBytes() );
+			}
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
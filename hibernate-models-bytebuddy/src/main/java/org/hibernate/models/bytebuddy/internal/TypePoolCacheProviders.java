@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.bytebuddy.Settings;
+import org.hibernate.models.bytebuddy.TypePoolCacheMode;
+import org.hibernate.models.spi.ClassLoading;
+
+import net.bytebuddy.pool.TypePool;
+
+/**
+ * {@linkplain TypePool.CacheProvider} implementations used when
+ * {@linkplain TypePoolBuilder building} a {@linkplain TypePool}.
+ *
+ * @author Steve Ebersole
+ */
+public class TypePoolCacheProviders {
+	public static final int DEFAULT_LRU_SIZE = 5000;
+
+	/**
+	 * Caches shared by all contexts built over the same classpath roots and {@linkplain ClassLoading} -
+	 * types not found in the roots are located through the ClassLoading, so the resolutions are only
+	 * valid for it.  Keyed weakly by the ClassLoading, so that its caches are dropped along with it.
+	 *
+	 * @see TypePoolCacheMode#SHARED
+	 */
+	private static final Map<ClassLoading, Map<List<?>, Shared>> SHARED_CACHES = new WeakHashMap<>();
+
+	/**
+	 * Resolve the CacheProvider to use based on {@linkplain Settings#TYPE_POOL_CACHE_PARAM}.
+	 *
+	 * @param configProperties The configuration settings
+	 * @param classpathRoots The classpath roots, used (along with {@code classLoading}) as the key for {@linkplain TypePoolCacheMode#SHARED shared} caches
+	 * @param classLoading The ClassLoading through which types not found in the roots are located
+	 */
+	public static TypePool.CacheProvider resolveCacheProvider(
+			Map<Object, Object> configProperties,
+			List<?> classpathRoots,
+			ClassLoading classLoading) {
+		final Object setting = configProperties.get( Settings.TYPE_POOL_CACHE_PARAM );
+		if ( setting instanceof TypePool.CacheProvider explicit ) {
+			return explicit;
+		}
+
+		return switch ( TypePoolCacheMode.interpret( setting ) ) {
+			case NONE -> TypePool.CacheProvider.NoOp.INSTANCE;
+			case UNBOUNDED -> new TypePool.CacheProvider.Simple();
+			case LRU -> new LeastRecentlyUsed( resolveLruSize( configProperties ) );
+			case SOFT -> new SoftlyReferenced();
+			case SHARED -> resolveSharedCache( classpathRoots, classLoading );
+		};
+	}
+
+	private static Shared resolveSharedCache(List<?> classpathRoots, ClassLoading classLoading) {
+		synchronized ( SHARED_CACHES ) {
+			return SHARED_CACHES.computeIfAbsent( classLoading, (key) -> new HashMap<>() )
+					.computeIfAbsent( List.copyOf( classpathRoots ), (roots) -> new Shared() );
+		}
+	}
+
+	private static int resolveLruSize(Map<Object, Object> configProperties) {
+		final Object value = configProperties.get( Settings.TYPE_POOL_CACHE_SIZE_PARAM );
+		if ( value == null ) {
+			return DEFAULT_LRU_SIZE;
+		}
+		return value instanceof Number number
+				? number.intValue()
+				: Integer.parseInt( value.toString().trim() );
+	}
+
+	/**
+	 * CacheProvider which only caches successful resolutions.  Used for the
+	 * process-wide baseline pool so that misses for application types
+	 * do not accumulate there.
+	 */
+	public static class ResolvedOnly implements TypePool.CacheProvider {
+		private final ConcurrentHashMap<String, TypePool.Resolution> cache = new ConcurrentHashMap<>();
+
+		@Override
+		public TypePool.Resolution find(String name) {
+			return cache.get( name );
+		}
+
+		@Override
+		public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+			if ( !resolution.isResolved() ) {
+				return resolution;
+			}
+			final TypePool.Resolution existing = cache.putIfAbsent( name, resolution );
+			return existing == null ? resolution : existing;
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Unbounded CacheProvider shared by all contexts built over the same classpath roots and ClassLoading.
+	 * The resolutions it holds refer to the TypePool which made them, and so to that pool's ClassLoading -
+	 * a pool using it must only refer to its ClassLoading weakly, or the ClassLoading would never be
+	 * dropped from the {@linkplain #SHARED_CACHES shared caches}.
+	 *
+	 * @see TypePoolCacheMode#SHARED
+	 * @see TypePoolBuilder#buildTypePool(List, TypePool.CacheProvider, ClassLoading)
+	 */
+	public static class Shared implements TypePool.CacheProvider {
+		private final ConcurrentHashMap<String, TypePool.Resolution> cache = new ConcurrentHashMap<>();
+
+		private Shared() {
+		}
+
+		@Override
+		public TypePool.Resolution find(String name) {
+			return cache.get( name );
+		}
+
+		@Override
+		public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+			final TypePool.Resolution existing = cache.putIfAbsent( name, resolution );
+			return existing == null ? resolution : existing;
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * CacheProvider bounded to a maximum number of entries, evicting the least recently used.
+	 *
+	 * @see TypePoolCacheMode#LRU
+	 */
+	public static class LeastRecentlyUsed implements TypePool.CacheProvider {
+		private final Map<String, TypePool.Resolution> cache;
+
+		public LeastRecentlyUsed(int maxSize) {
+			if ( maxSize <= 0 ) {
+				throw new IllegalArgumentException( "LRU TypePool cache size must be positive : " + maxSize );
+			}
+			this.cache = new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, TypePool.Resolution> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
+
+		@Override
+		public synchronized TypePool.Resolution find(String name) {
+			return cache.get( name );
+		}
+
+		@Override
+		public synchronized TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+			final TypePool.Resolution existing = cache.putIfAbsent( name, resolution );
+			return existing == null ? resolution : existing;
+		}
+
+		@Override
+		public synchronized void clear() {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * CacheProvider whose entries are softly reachable.
+	 *
+	 * @see TypePoolCacheMode#SOFT
+	 */
+	public static class SoftlyReferenced implements TypePool.CacheProvider {
+		private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+		private final ReferenceQueue<TypePool.Resolution> queue = new ReferenceQueue<>();
+
+		@Override
+		public TypePool.Resolution find(String name) {
+			expungeStaleEntries();
+			final Entry entry = cache.get( name );
+			return entry == null ? null : entry.get();
+		}
+
+		@Override
+		public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+			expungeStaleEntries();
+			cache.put( name, new Entry( name, resolution, queue ) );
+			return resolution;
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+			expungeStaleEntries();
+		}
+
+		private void expungeStaleEntries() {
+			Entry stale;
+			while ( ( stale = (Entry) queue.poll() ) != null ) {
+				cache.remove( stale.name, stale );
+			}
+		}
+
+		private static class Entry extends SoftReference<TypePool.Resolution> {
+			private final String name;
+
+			private Entry(String name, TypePool.Resolution referent, ReferenceQueue<TypePool.Resolution> queue) {
+				super( referent, queue );
+				this.name = name;
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.models.bytebuddy.spi.TypePoolStatistics;
+
+/**
+ * Standard TypePoolStatistics implementation
+ *
+ * @author Steve Ebersole
+ */
+public class TypePoolStatisticsImpl implements TypePoolStatistics {
+	private final LongAdder classHits = new LongAdder();
+	private final LongAdder classMisses = new LongAdder();
+	private final LongAdder packageInfoHits = new LongAdder();
+	private final LongAdder packageInfoMisses = new LongAdder();
+
+	public void classResolved(boolean hit) {
+		( hit ? classHits : classMisses ).increment();
+	}
+
+	public void packageInfoResolved(boolean hit) {
+		( hit ? packageInfoHits : packageInfoMisses ).increment();
+	}
+
+	@Override
+	public long getClassHitCount() {
+		return classHits.sum();
+	}
+
+	@Override
+	public long getClassMissCount() {
+		return classMisses.sum();
+	}
+
+	@Override
+	public long getPackageInfoHitCount() {
+		return packageInfoHits.sum();
+	}
+
+	@Override
+	public long getPackageInfoMissCount() {
+		return packageInfoMisses.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "TypePoolStatistics(classes=" + getClassHitCount() + "/" + getClassMissCount()
+				+ ", package-infos=" + getPackageInfoHitCount() + "/" + getPackageInfoMissCount() + ")";
+	}
+}
@@ -51,7 +51,7 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( typeDescription.getTypeName() );
-		return new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS );
+		return modelsContext.internTypeDetails( new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS ) );
 	}
 
 	@Override
@@ -59,7 +59,7 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( typeDescription.getTypeName() );
-		return new PrimitiveTypeDetailsImpl( classDetails );
+		return modelsContext.internTypeDetails( new PrimitiveTypeDetailsImpl( classDetails ) );
 	}
 
 	@Override
@@ -68,7 +68,7 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 				.getClassDetailsRegistry()
 				// allows for void or Void
 				.resolveClassDetails( typeDescription.getTypeName() );
-		return new VoidTypeDetailsImpl( classDetails );
+		return modelsContext.internTypeDetails( new VoidTypeDetailsImpl( classDetails ) );
 	}
 
 	@Override
@@ -78,11 +78,11 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( typeDescription.asErasure().getName() );
-		return new ParameterizedTypeDetailsImpl(
+		return modelsContext.internTypeDetails( new ParameterizedTypeDetailsImpl(
 				classDetails,
 				resolveTypes( typeDescription.asGenericType().getTypeArguments(), this, modelsContext ),
 				null
-		);
+		) );
 	}
 
 	@Override
@@ -102,7 +102,8 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 			isExtends = false;
 		}
 
-		return new WildcardTypeDetailsImpl( TypeSwitcher.switchType( bound.get( 0 ), this, modelsContext ), isExtends );
+		final TypeDetails boundDetails = TypeSwitcher.switchType( bound.get( 0 ), this, modelsContext );
+		return modelsContext.internTypeDetails( new WildcardTypeDetailsImpl( boundDetails, isExtends ) );
 	}
 
 	private boolean isExtends(TypeList.Generic upperBounds, TypeList.Generic lowerBounds) {
@@ -17,5 +17,10 @@ import net.bytebuddy.pool.TypePool;
 public interface ByteBuddyModelsContext extends ModelsContext {
 	TypePool getTypePool();
 
+	/**
+	 * Statistics about probing the {@linkplain #getTypePool() TypePool}.
+	 */
+	TypePoolStatistics getTypePoolStatistics();
+
 	<V> ValueExtractor<V> getValueExtractor(ValueTypeDescriptor<V> valueTypeDescriptor);
 }
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.spi;
+
+/**
+ * Statistics about probing the {@linkplain ByteBuddyModelsContext#getTypePool() TypePool}
+ * while building {@linkplain org.hibernate.models.spi.ClassDetails ClassDetails}.
+ *
+ * @see ByteBuddyModelsContext#getTypePoolStatistics()
+ *
+ * @author Steve Ebersole
+ */
+public interface TypePoolStatistics {
+	/**
+	 * Number of class names successfully resolved from the TypePool.
+	 */
+	long getClassHitCount();
+
+	/**
+	 * Number of class names which could not be resolved from the TypePool.
+	 */
+	long getClassMissCount();
+
+	/**
+	 * Number of {@code package-info} names successfully resolved from the TypePool.
+	 */
+	long getPackageInfoHitCount();
+
+	/**
+	 * Number of {@code package-info} names which could not be resolved from the TypePool.
+	 */
+	long getPackageInfoMissCount();
+}
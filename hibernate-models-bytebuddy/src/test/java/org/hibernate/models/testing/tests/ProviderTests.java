@@ -4,9 +4,19 @@
  */
 package org.hibernate.models.testing.tests;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.models.bytebuddy.Settings;
+import org.hibernate.models.bytebuddy.TypePoolCacheMode;
 import org.hibernate.models.bytebuddy.internal.ByteBuddyModelsContextImpl;
+import org.hibernate.models.bytebuddy.internal.TypePoolBuilder;
+import org.hibernate.models.bytebuddy.internal.TypePoolCacheProviders;
 import org.hibernate.models.internal.BasicModelsContextImpl;
+import org.hibernate.models.internal.SimpleClassLoading;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ModelsConfiguration;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.testing.shared.intg.ByteBuddyModelsContextFactory;
@@ -50,4 +60,42 @@ public class ProviderTests {
 		assertThat( context ).isNotNull();
 		assertThat( context ).isInstanceOf( ByteBuddyModelsContextImpl.class );
 	}
+
+	@Test
+	void testBuildingTypePool() throws Exception {
+		final Path testClassesRoot = Path.of( ProviderTests.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+		final ModelsContext context = new ModelsConfiguration()
+				.setExplicitContextProvider( BYTEBUDDY_PROVIDER )
+				.configValue( Settings.CLASSPATH_PARAM, List.of( testClassesRoot ) )
+				.configValue( Settings.TYPE_POOL_CACHE_PARAM, TypePoolCacheMode.LRU )
+				.configValue( Settings.TYPE_POOL_CACHE_SIZE_PARAM, 10 )
+				.bootstrap();
+		assertThat( context ).isInstanceOf( ByteBuddyModelsContextImpl.class );
+
+		final ClassDetails classDetails = context.getClassDetailsRegistry().resolveClassDetails( ProviderTests.class.getName() );
+		assertThat( classDetails.getName() ).isEqualTo( ProviderTests.class.getName() );
+
+		// baseline JDK types are shared from the process-wide pool
+		final TypePool typePool = ( (ByteBuddyModelsContextImpl) context ).getTypePool();
+		assertThat( typePool.describe( String.class.getName() ).resolve() )
+				.isSameAs( TypePoolBuilder.baselineTypePool().describe( String.class.getName() ).resolve() );
+	}
+
+	@Test
+	void testSharedTypePoolCacheIsScopedToClassLoading() throws Exception {
+		final Path testClassesRoot = Path.of( ProviderTests.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+		final Map<Object, Object> settings = Map.of( Settings.TYPE_POOL_CACHE_PARAM, TypePoolCacheMode.SHARED );
+		final ClassLoading otherClassLoading = new SimpleClassLoading();
+
+		final TypePool.CacheProvider cache = TypePoolCacheProviders.resolveCacheProvider(
+				settings,
+				List.of( testClassesRoot ),
+				SIMPLE_CLASS_LOADING
+		);
+		assertThat( TypePoolCacheProviders.resolveCacheProvider( settings, List.of( testClassesRoot ), SIMPLE_CLASS_LOADING ) )
+				.isSameAs( cache );
+		// types not found in the roots are located through the ClassLoading, so its cache is not shared with others
+		assertThat( TypePoolCacheProviders.resolveCacheProvider( settings, List.of( testClassesRoot ), otherClassLoading ) )
+				.isNotSameAs( cache );
+	}
 }
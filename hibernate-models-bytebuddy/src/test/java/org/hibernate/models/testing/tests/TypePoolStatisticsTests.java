@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
+import org.hibernate.models.bytebuddy.spi.TypePoolStatistics;
+import org.hibernate.models.testing.shared.intg.ByteBuddyModelsContextFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+public class TypePoolStatisticsTests {
+	@Test
+	void testHitsAndMisses() {
+		final ByteBuddyModelsContext context = new ByteBuddyModelsContextFactory().createModelContext( null, TypePoolStatisticsTests.class );
+		final TypePoolStatistics statistics = context.getTypePoolStatistics();
+
+		final long classHits = statistics.getClassHitCount();
+		context.getClassDetailsRegistry().resolveClassDetails( TypePoolStatisticsTests.class.getName() );
+		assertThat( statistics.getClassHitCount() ).isEqualTo( classHits + 1 );
+
+		final long classMisses = statistics.getClassMissCount();
+		final long packageInfoMisses = statistics.getPackageInfoMissCount();
+		assertThatThrownBy( () -> context.getClassDetailsRegistry().resolveClassDetails( "does.not.Exist" ) )
+				.isInstanceOf( UnknownClassException.class );
+		assertThat( statistics.getClassMissCount() ).isEqualTo( classMisses + 1 );
+		assertThat( statistics.getPackageInfoMissCount() ).isEqualTo( packageInfoMisses + 1 );
+	}
+}
@@ -5,15 +5,19 @@
 package org.hibernate.models.jandex.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.models.jandex.spi.JandexModelsContext;
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
+import org.hibernate.models.serial.spi.ArchivableAnnotationTarget;
 import org.hibernate.models.support.AnnotationTargetSupport;
 import org.hibernate.models.spi.ModelsContext;
 
 /**
  * @author Steve Ebersole
  */
-public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
+public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport, ArchivableAnnotationTarget {
 	private final ModelsContext modelContext;
 
 	private Map<Class<? extends Annotation>, ? extends Annotation> usageMap;
@@ -40,8 +44,21 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 		return usageMap;
 	}
 
+	@Override
+	public List<AnnotationUsageDescription> describeDirectAnnotationUsages() {
+		if ( usageMap != null ) {
+			// the usages have been realized, and may since have been changed
+			return null;
+		}
+		return AnnotationUsageBuilder.describeUsages(
+				getJandexAnnotationTarget(),
+				modelContext.as( JandexModelsContext.class ).getJandexIndex()
+		);
+	}
+
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 }
@@ -9,9 +9,13 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -19,13 +23,19 @@ import java.util.function.BiConsumer;
 import org.hibernate.models.internal.util.CollectionHelper;
 import org.hibernate.models.jandex.spi.JandexModelsContext;
 import org.hibernate.models.jandex.spi.JandexValueExtractor;
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.AttributeDescriptor;
 import org.hibernate.models.spi.ModelsContext;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 /**
  * Helper for building annotation usages/instances based on
@@ -146,6 +156,81 @@ public class AnnotationUsageBuilder {
 		return valueMap;
 	}
 
+	/**
+	 * Describe the annotations declared on a target, by name, for archiving.
+	 *
+	 * @return The descriptions, or {@code null} if an annotation type is not part of the
+	 * index, and so its attributes and their default values are not known.
+	 */
+	public static List<AnnotationUsageDescription> describeUsages(
+			org.jboss.jandex.AnnotationTarget jandexAnnotationTarget,
+			IndexView index) {
+		if ( jandexAnnotationTarget == null ) {
+			return Collections.emptyList();
+		}
+		if ( index == null ) {
+			return null;
+		}
+		final List<AnnotationUsageDescription> result = new ArrayList<>();
+		for ( AnnotationInstance annotation : jandexAnnotationTarget.declaredAnnotations() ) {
+			if ( annotation.name().equals( DOCUMENTED )
+					|| annotation.name().equals( REPEATABLE )
+					|| annotation.name().equals( RETENTION )
+					|| annotation.name().equals( TARGET ) ) {
+				continue;
+			}
+			final AnnotationUsageDescription description = describeUsage( annotation, index );
+			if ( description == null ) {
+				return null;
+			}
+			result.add( description );
+		}
+		return result;
+	}
+
+	private static AnnotationUsageDescription describeUsage(AnnotationInstance annotation, IndexView index) {
+		final ClassInfo annotationClass = index.getClassByName( annotation.name() );
+		if ( annotationClass == null ) {
+			return null;
+		}
+		final Map<String, Object> values = new LinkedHashMap<>();
+		for ( MethodInfo attribute : annotationClass.methods() ) {
+			if ( Modifier.isStatic( attribute.flags() ) || attribute.parametersCount() > 0 ) {
+				continue;
+			}
+			final AnnotationValue explicitValue = annotation.value( attribute.name() );
+			final AnnotationValue value = explicitValue != null ? explicitValue : attribute.defaultValue();
+			final Object description = value == null ? null : describeValue( value, attribute.returnType(), index );
+			if ( description == null ) {
+				return null;
+			}
+			values.put( attribute.name(), description );
+		}
+		return new AnnotationUsageDescription( annotation.name().toString(), values );
+	}
+
+	private static Object describeValue(AnnotationValue value, Type declaredType, IndexView index) {
+		return switch ( value.kind() ) {
+			case CLASS -> new AnnotationUsageDescription.ClassValue( value.asClass().name().toString() );
+			case ENUM -> new AnnotationUsageDescription.EnumValue( value.asEnumType().toString(), value.asEnum() );
+			case NESTED -> describeUsage( value.asNested(), index );
+			case ARRAY -> {
+				final Type componentType = declaredType.asArrayType().constituent();
+				final List<Object> elements = new ArrayList<>();
+				for ( AnnotationValue element : value.asArray() ) {
+					final Object description = describeValue( element, componentType, index );
+					if ( description == null ) {
+						yield null;
+					}
+					elements.add( description );
+				}
+				yield new AnnotationUsageDescription.ArrayValue( componentType.name().toString(), elements );
+			}
+			case UNKNOWN -> null;
+			default -> value.value();
+		};
+	}
+
 	private AnnotationUsageBuilder() {
 		// disallow direct instantiation
 	}
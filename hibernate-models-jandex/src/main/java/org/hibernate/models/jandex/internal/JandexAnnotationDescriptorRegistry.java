@@ -5,6 +5,7 @@
 package org.hibernate.models.jandex.internal;
 
 import org.hibernate.models.internal.AnnotationDescriptorRegistryStandard;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ModelsContext;
 
 /**
@@ -16,4 +17,8 @@ public class JandexAnnotationDescriptorRegistry extends AnnotationDescriptorRegi
 	public JandexAnnotationDescriptorRegistry(ModelsContext modelsContext) {
 		super( modelsContext );
 	}
+
+	public JandexAnnotationDescriptorRegistry(ModelsContext modelsContext, AnnotationDescriptorRegistry parent) {
+		super( modelsContext, parent );
+	}
 }
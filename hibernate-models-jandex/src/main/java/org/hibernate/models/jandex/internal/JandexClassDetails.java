@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.models.DynamicClassException;
+import org.hibernate.models.internal.ClassDetailsCaches;
 import org.hibernate.models.support.ClassDetailsSupport;
 import org.hibernate.models.serial.internal.SerialClassDetailsImpl;
 import org.hibernate.models.internal.util.CollectionHelper;
@@ -52,11 +53,14 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	private List<MethodDetails> methods;
 	private List<RecordComponentDetails> recordComponents;
 
+	private final ClassDetailsCaches caches;
+
 	public JandexClassDetails(ClassInfo classInfo, ModelsContext modelContext) {
 		super( modelContext );
 		this.classInfo = classInfo;
 
 		this.superClass = determineSuperType( classInfo, modelContext );
+		this.caches = new ClassDetailsCaches( this, modelContext );
 	}
 
 	@Override
@@ -142,22 +146,23 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	}
 
 	@Override
-	public boolean isImplementor(Class<?> checkType) {
-		if ( getClassName().equals( checkType.getName() ) ) {
-			return true;
-		}
+	public ClassDetailsCaches getCaches() {
+		return caches;
+	}
 
-		if ( superClass != null && superClass.isImplementor( checkType ) ) {
-			return true;
-		}
+	@Override
+	public boolean isImplementor(Class<?> checkType) {
+		return caches.isImplementor( checkType.getName() );
+	}
 
-		for ( TypeDetails intf : getImplementedInterfaces() ) {
-			if ( intf.isImplementor( checkType ) ) {
-				return true;
-			}
-		}
+	@Override
+	public boolean isImplementor(ClassDetails checkType) {
+		return caches.isImplementor( checkType.getName() );
+	}
 
-		return false;
+	@Override
+	public boolean isSuperclass(ClassDetails classDetails) {
+		return caches.isSuperclass( classDetails.getName() );
 	}
 
 	@Override
@@ -199,6 +204,7 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		caches.invalidate();
 	}
 
 	@Override
@@ -241,6 +247,7 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		caches.invalidate();
 	}
 
 	private Class<?> javaClass;
@@ -10,6 +10,7 @@ import org.hibernate.models.jdk.JdkBuilders;
 import org.hibernate.models.jdk.JdkClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
 
 import org.jboss.jandex.IndexView;
@@ -24,7 +25,15 @@ public class JandexClassDetailsRegistry extends AbstractClassDetailsRegistry {
 	private final ClassDetailsBuilder classDetailsBuilder;
 
 	public JandexClassDetailsRegistry(IndexView jandexIndex, boolean trackImplementors, ModelsContext context) {
-		super( trackImplementors, context );
+		this( jandexIndex, trackImplementors, null, context );
+	}
+
+	public JandexClassDetailsRegistry(
+			IndexView jandexIndex,
+			boolean trackImplementors,
+			ClassDetailsRegistry parent,
+			ModelsContext context) {
+		super( trackImplementors, parent, context );
 		this.jandexIndex = jandexIndex;
 		this.classDetailsBuilder = new JandexClassDetailsBuilderImpl( jandexIndex, context );
 	}
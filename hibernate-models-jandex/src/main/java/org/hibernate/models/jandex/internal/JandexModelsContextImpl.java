@@ -56,6 +56,29 @@ public class JandexModelsContextImpl extends AbstractModelsContext implements Ja
 		primeRegistries( registryPrimer );
 	}
 
+	/**
+	 * Constructor for a {@linkplain #fork() fork} of the given context.
+	 */
+	protected JandexModelsContextImpl(JandexModelsContextImpl parent) {
+		super( parent.getClassLoading() );
+
+		this.jandexIndex = parent.jandexIndex;
+
+		this.descriptorRegistry = new JandexAnnotationDescriptorRegistry( this, parent.descriptorRegistry );
+		this.classDetailsRegistry = new JandexClassDetailsRegistry(
+				jandexIndex,
+				parent.classDetailsRegistry.isTrackingImplementors(),
+				parent.classDetailsRegistry,
+				this
+		);
+		this.moduleDetailsRegistry = new JandexModuleDetailsRegistry( jandexIndex, this, parent.moduleDetailsRegistry );
+	}
+
+	@Override
+	public JandexModelsContextImpl fork() {
+		return new JandexModelsContextImpl( this );
+	}
+
 	@Override
 	public MutableAnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
 		return descriptorRegistry;
@@ -7,6 +7,7 @@ package org.hibernate.models.jandex.internal;
 import org.hibernate.models.internal.ModuleDetailsRegistryStandard;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.ModuleDetails;
+import org.hibernate.models.spi.ModuleDetailsRegistry;
 
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
@@ -28,7 +29,17 @@ public class JandexModuleDetailsRegistry extends ModuleDetailsRegistryStandard {
 	/// @param jandexIndex The Jandex index
 	/// @param context The owning models context
 	public JandexModuleDetailsRegistry(IndexView jandexIndex, ModelsContext context) {
-		super( context );
+		this( jandexIndex, context, null );
+	}
+
+	/// Constructs a registry bound to the given Jandex index and models context
+	/// which reads through to the given parent registry.
+	///
+	/// @param jandexIndex The Jandex index
+	/// @param context The owning models context
+	/// @param parent The parent registry, if one
+	public JandexModuleDetailsRegistry(IndexView jandexIndex, ModelsContext context, ModuleDetailsRegistry parent) {
+		super( context, parent );
 		this.jandexIndex = jandexIndex;
 		this.context = context;
 	}
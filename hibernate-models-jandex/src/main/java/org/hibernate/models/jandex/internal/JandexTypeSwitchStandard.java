@@ -59,7 +59,7 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( classType.name().toString() );
-		return new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS );
+		return modelsContext.internTypeDetails( new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS ) );
 	}
 
 	@Override
@@ -67,7 +67,7 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( primitiveType.name().toString() );
-		return new PrimitiveTypeDetailsImpl( classDetails );
+		return modelsContext.internTypeDetails( new PrimitiveTypeDetailsImpl( classDetails ) );
 	}
 
 	@Override
@@ -76,7 +76,7 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 				.getClassDetailsRegistry()
 				// allows for void or Void
 				.resolveClassDetails( voidType.name().toString() );
-		return new VoidTypeDetailsImpl( classDetails );
+		return modelsContext.internTypeDetails( new VoidTypeDetailsImpl( classDetails ) );
 	}
 
 	@Override
@@ -86,11 +86,11 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( parameterizedType.name().toString() );
-		return new ParameterizedTypeDetailsImpl(
+		return modelsContext.internTypeDetails( new ParameterizedTypeDetailsImpl(
 				classDetails,
 				resolveTypes( parameterizedType.arguments(), this, modelsContext ),
 				null
-		);
+		) );
 	}
 
 	@Override
@@ -98,7 +98,8 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 		try {
 			final Type bound = (Type) BOUND_METHOD.invoke( wildcardType );
 			final boolean isExtends = (boolean) IS_EXTENDS_METHOD.invoke( wildcardType );
-			return new WildcardTypeDetailsImpl( JandexTypeSwitcher.switchType( bound, this, modelsContext ), isExtends );
+			final TypeDetails boundDetails = JandexTypeSwitcher.switchType( bound, this, modelsContext );
+			return modelsContext.internTypeDetails( new WildcardTypeDetailsImpl( boundDetails, isExtends ) );
 		}
 		catch (IllegalAccessException | InvocationTargetException e) {
 			throw new RuntimeException( e );
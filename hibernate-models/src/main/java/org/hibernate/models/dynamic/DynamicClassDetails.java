@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.hibernate.models.DynamicClassException;
 import org.hibernate.models.dynamic.internal.AbstractAnnotationTarget;
+import org.hibernate.models.internal.ClassDetailsCaches;
 import org.hibernate.models.support.ClassDetailsSupport;
 import org.hibernate.models.internal.ClassTypeDetailsImpl;
 import org.hibernate.models.serial.internal.SerialDynamicClassDetails;
@@ -41,6 +42,8 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 	private List<FieldDetails> fields;
 	private List<MethodDetails> methods;
 
+	private final ClassDetailsCaches caches;
+
 	private Class<?> javaType;
 
 	public DynamicClassDetails(String name, ModelsContext modelsContext) {
@@ -80,6 +83,7 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 		this.superClass = superClass;
 		this.genericSuperType = genericSuperType;
 		this.javaType = javaType;
+		this.caches = new ClassDetailsCaches( this, modelsContext );
 	}
 
 	@Override
@@ -155,6 +159,11 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 		return Collections.emptyList();
 	}
 
+	@Override
+	public ClassDetailsCaches getCaches() {
+		return caches;
+	}
+
 	@Override
 	public boolean isImplementor(Class<?> checkType) {
 		return !isEmpty( className ) && checkType.isAssignableFrom( javaType );
@@ -175,6 +184,7 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 			this.fields = new ArrayList<>();
 		}
 		this.fields.add( fieldDetails );
+		caches.invalidate();
 	}
 
 	@Override
@@ -196,6 +206,7 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 			this.methods = new ArrayList<>();
 		}
 		this.methods.add( methodDetails );
+		caches.invalidate();
 	}
 
 	/**
@@ -209,7 +220,7 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 			ModelsContext context) {
 		return applyAttribute(
 				name,
-				new ClassTypeDetailsImpl( type, TypeDetails.Kind.CLASS ),
+				context.internTypeDetails( new ClassTypeDetailsImpl( type, TypeDetails.Kind.CLASS ) ),
 				isArray,
 				isPlural,
 				context
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.dynamic;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.models.IllegalCastException;
+import org.hibernate.models.dynamic.internal.AbstractAnnotationTarget;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.MutableMemberDetails;
+import org.hibernate.models.spi.RecordComponentDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableScope;
+
+import static org.hibernate.models.internal.util.ReflectionHelper.resolveJavaMember;
+
+/// MethodDetails which does not necessarily map to a physical Method (dynamic models).
+///
+/// @author Steve Ebersole
+public class DynamicMethodDetails extends AbstractAnnotationTarget implements MethodDetails, MutableMemberDetails {
+	private final String name;
+	private final TypeDetails type;
+	private final ClassDetails declaringType;
+	private final MethodKind methodKind;
+	private final int modifierFlags;
+	private final ClassDetails returnType;
+	private final List<ClassDetails> argumentTypes;
+
+	private final boolean isArray;
+	private final boolean isPlural;
+
+	private Method method;
+
+	/// Constructs a dynamic MethodDetails.
+	///
+	/// @param name The name of the "method"
+	/// @param type The type of the "method" - the type of the attribute it gets or sets, if any
+	/// @param declaringType The type on which the "method" is declared
+	/// @param methodKind The kind of "method"
+	/// @param modifierFlags The modifiers of the "method"
+	/// @param returnType The return type of the "method"
+	/// @param argumentTypes The argument types of the "method"
+	/// @param isArray Whether the attribute gotten or set by the "method" is an array
+	/// @param isPlural Whether the attribute gotten or set by the "method" is plural
+	/// @param modelsContext Context for the creation (access to useful information).
+	public DynamicMethodDetails(
+			String name,
+			TypeDetails type,
+			ClassDetails declaringType,
+			MethodKind methodKind,
+			int modifierFlags,
+			ClassDetails returnType,
+			List<ClassDetails> argumentTypes,
+			boolean isArray,
+			boolean isPlural,
+			ModelsContext modelsContext) {
+		super( modelsContext );
+		this.name = name;
+		this.type = type;
+		this.declaringType = declaringType;
+		this.methodKind = methodKind;
+		this.modifierFlags = modifierFlags;
+		this.returnType = returnType;
+		this.argumentTypes = List.copyOf( argumentTypes );
+		this.isArray = isArray;
+		this.isPlural = isPlural;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public MethodKind getMethodKind() {
+		return methodKind;
+	}
+
+	@Override
+	public TypeDetails getType() {
+		return type;
+	}
+
+	@Override
+	public ClassDetails getDeclaringType() {
+		return declaringType;
+	}
+
+	@Override
+	public boolean isPlural() {
+		return isPlural;
+	}
+
+	@Override
+	public boolean isArray() {
+		return isArray;
+	}
+
+	@Override
+	public int getModifiers() {
+		return modifierFlags;
+	}
+
+	@Override
+	public ClassDetails getReturnType() {
+		return returnType;
+	}
+
+	@Override
+	public List<ClassDetails> getArgumentTypes() {
+		return argumentTypes;
+	}
+
+	@Override
+	public Method toJavaMember() {
+		if ( method == null && getDeclaringType().getClassName() != null ) {
+			final Class<?> declaringClass = getDeclaringType().toJavaClass();
+			method = toJavaMember( declaringClass, getModelContext().getClassLoading(), getModelContext() );
+		}
+		return method;
+	}
+
+	@Override
+	public Method toJavaMember(Class<?> declaringClass, ClassLoading classLoading, ModelsContext modelContext) {
+		return resolveJavaMember( this, declaringClass, classLoading, modelContext );
+	}
+
+	@Override
+	public TypeDetails resolveRelativeType(TypeVariableScope container) {
+		return type;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"DynamicMethodDetails( [%s] %s )",
+				methodKind.name(),
+				name
+		);
+	}
+
+	@Override
+	public MethodDetails asMethodDetails() {
+		return this;
+	}
+
+	@Override
+	public MutableMemberDetails asMemberDetails() {
+		return this;
+	}
+
+	@Override
+	public FieldDetails asFieldDetails() {
+		throw new IllegalCastException( "MethodDetails cannot be cast as FieldDetails" );
+	}
+
+	@Override
+	public RecordComponentDetails asRecordComponentDetails() {
+		throw new IllegalCastException( "MethodDetails cannot be cast as RecordComponentDetails" );
+	}
+
+	@Override
+	public MutableClassDetails asClassDetails() {
+		throw new IllegalCastException( "MethodDetails cannot be cast as ClassDetails" );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationDescriptor<A> asAnnotationDescriptor() {
+		throw new IllegalCastException( "MethodDetails cannot be cast as AnnotationDescriptor" );
+	}
+}
@@ -5,8 +5,11 @@
 package org.hibernate.models.dynamic.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.models.support.AnnotationTargetSupport;
 import org.hibernate.models.spi.ModelsContext;
@@ -17,6 +20,7 @@ import org.hibernate.models.spi.ModelsContext;
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final ModelsContext modelContext;
 	private final Map<Class<? extends Annotation>, ? extends Annotation> usageMap = new HashMap<>();
+	private volatile Supplier<? extends Collection<? extends Annotation>> deferredUsages;
 
 	public AbstractAnnotationTarget(ModelsContext modelContext) {
 		this.modelContext = modelContext;
@@ -28,11 +32,43 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
+		if ( deferredUsages != null ) {
+			applyDeferredUsages();
+		}
 		return usageMap;
 	}
 
+	private synchronized void applyDeferredUsages() {
+		final Supplier<? extends Collection<? extends Annotation>> deferred = deferredUsages;
+		if ( deferred != null ) {
+			for ( Annotation usage : deferred.get() ) {
+				//noinspection unchecked,rawtypes
+				( (Map) usageMap ).put( usage.annotationType(), usage );
+			}
+			deferredUsages = null;
+		}
+	}
+
+	@Override
+	public synchronized void deferAnnotationUsages(Supplier<? extends Collection<? extends Annotation>> usages) {
+		final Supplier<? extends Collection<? extends Annotation>> existing = deferredUsages;
+		if ( existing == null ) {
+			deferredUsages = usages;
+		}
+		else {
+			deferredUsages = () -> {
+				final ArrayList<Annotation> combined = new ArrayList<>( existing.get() );
+				combined.addAll( usages.get() );
+				return combined;
+			};
+		}
+		annotationUsagesChanged();
+	}
+
 	@Override
 	public void clearAnnotationUsages() {
+		deferredUsages = null;
 		usageMap.clear();
+		annotationUsagesChanged();
 	}
 }
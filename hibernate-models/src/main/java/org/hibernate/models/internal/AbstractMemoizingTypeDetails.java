@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * Base support for types which memoize resolutions against themselves - their
+ * {@linkplain ResolvedSuperTypes super types} and {@linkplain ResolvedRelativeTypes relative types}.
+ * Each memo is created on the first write, as most types never have anything resolved against them,
+ * and never once the type is {@linkplain #share() shared}.
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractMemoizingTypeDetails implements TypeDetails {
+	private volatile ResolvedSuperTypes resolvedSuperTypes;
+	private volatile ResolvedRelativeTypes resolvedRelativeTypes;
+	private volatile boolean shared;
+
+	/**
+	 * The super types memoized for this type, or {@code null} if none have been.
+	 */
+	public ResolvedSuperTypes getResolvedSuperTypes() {
+		return resolvedSuperTypes;
+	}
+
+	/**
+	 * The super types memoized for this type, created if need be - or {@code null}
+	 * if this type is {@linkplain #share() shared} and so memoizes nothing.
+	 */
+	public ResolvedSuperTypes memoizeSuperTypes() {
+		ResolvedSuperTypes result = resolvedSuperTypes;
+		if ( result == null && !shared ) {
+			synchronized ( this ) {
+				result = resolvedSuperTypes;
+				if ( result == null && !shared ) {
+					result = resolvedSuperTypes = new ResolvedSuperTypes();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The relative types memoized for this type, or {@code null} if none have been.
+	 */
+	public ResolvedRelativeTypes getResolvedRelativeTypes() {
+		return resolvedRelativeTypes;
+	}
+
+	/**
+	 * The relative types memoized for this type, created if need be - or {@code null}
+	 * if this type is {@linkplain #share() shared} and so memoizes nothing.
+	 */
+	public ResolvedRelativeTypes memoizeRelativeTypes() {
+		ResolvedRelativeTypes result = resolvedRelativeTypes;
+		if ( result == null && !shared ) {
+			synchronized ( this ) {
+				result = resolvedRelativeTypes;
+				if ( result == null && !shared ) {
+					result = resolvedRelativeTypes = new ResolvedRelativeTypes();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Mark this type as shared across contexts, dropping and no longer memoizing resolutions
+	 * against it.
+	 *
+	 * @return {@code false} if the type was already shared
+	 */
+	public synchronized boolean share() {
+		if ( shared ) {
+			return false;
+		}
+		shared = true;
+		resolvedSuperTypes = null;
+		resolvedRelativeTypes = null;
+		return true;
+	}
+}
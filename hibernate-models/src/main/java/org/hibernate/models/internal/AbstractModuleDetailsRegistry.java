@@ -23,12 +23,23 @@ import org.hibernate.models.spi.ModuleDetailsRegistry;
 public abstract class AbstractModuleDetailsRegistry implements ModuleDetailsRegistry {
 	protected final ModelsContext context;
 	protected final Map<String, ModuleDetails> moduleDetailsMap = new HashMap<>();
+	private final ModuleDetailsRegistry parent;
 
 	/// Constructs a registry bound to the given models context.
 	///
 	/// @param context The models context which owns this registry
 	public AbstractModuleDetailsRegistry(ModelsContext context) {
+		this( context, null );
+	}
+
+	/// Constructs a registry bound to the given models context which reads
+	/// through to the given parent registry, but registers new modules locally.
+	///
+	/// @param context The models context which owns this registry
+	/// @param parent The parent registry, if one
+	public AbstractModuleDetailsRegistry(ModelsContext context, ModuleDetailsRegistry parent) {
 		this.context = context;
+		this.parent = parent;
 	}
 
 	@Override
@@ -61,7 +72,11 @@ public abstract class AbstractModuleDetailsRegistry implements ModuleDetailsRegi
 
 	@Override
 	public ModuleDetails findModuleDetails(String name) {
-		return moduleDetailsMap.get( name );
+		final ModuleDetails local = moduleDetailsMap.get( name );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.findModuleDetails( name );
 	}
 
 	protected ModuleDetails createModuleDetails(String name) {
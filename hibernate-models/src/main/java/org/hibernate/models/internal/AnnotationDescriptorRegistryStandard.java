@@ -9,6 +9,7 @@ import java.lang.annotation.Repeatable;
 import java.util.Map;
 
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.StandardAnnotationDescriptor;
 import org.hibernate.models.support.AbstractAnnotationDescriptorRegistry;
@@ -27,6 +28,11 @@ public class AnnotationDescriptorRegistryStandard
 	private final ModelsContext modelsContext;
 
 	public AnnotationDescriptorRegistryStandard(ModelsContext modelsContext) {
+		this( modelsContext, null );
+	}
+
+	public AnnotationDescriptorRegistryStandard(ModelsContext modelsContext, AnnotationDescriptorRegistry parent) {
+		super( parent );
 		this.modelsContext = modelsContext;
 	}
 
@@ -49,15 +55,24 @@ public class AnnotationDescriptorRegistryStandard
 	public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
 			Class<A> javaType,
 			DescriptorCreator<A> creator) {
-		//noinspection unchecked
-		final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+		final AnnotationDescriptor<A> existing = findDescriptor( javaType );
 		if ( existing != null ) {
 			return existing;
 		}
 
-		final AnnotationDescriptor<A> created = creator.createDescriptor( javaType );
-		descriptorMap.put( javaType, created );
-		return created;
+		return registerIfAbsent( javaType, creator.createDescriptor( javaType ) );
+	}
+
+	/**
+	 * Register the descriptor unless one was registered concurrently, returning
+	 * whichever is registered so that all callers see the same descriptor.
+	 */
+	private <A extends Annotation> AnnotationDescriptor<A> registerIfAbsent(
+			Class<A> javaType,
+			AnnotationDescriptor<A> descriptor) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.putIfAbsent( javaType, descriptor );
+		return existing == null ? descriptor : existing;
 	}
 
 	private <A extends Annotation> AnnotationDescriptor<A> buildAdHocAnnotationDescriptor(Class<A> javaType) {
@@ -71,9 +86,7 @@ public class AnnotationDescriptorRegistryStandard
 			containerDescriptor = null;
 		}
 
-		final AnnotationDescriptor<A> descriptor = buildAnnotationDescriptor( javaType, containerDescriptor );
-		descriptorMap.put( javaType, descriptor );
-		return descriptor;
+		return registerIfAbsent( javaType, buildAnnotationDescriptor( javaType, containerDescriptor ) );
 	}
 
 	protected <A extends Annotation> AnnotationDescriptor<A> buildAnnotationDescriptor(
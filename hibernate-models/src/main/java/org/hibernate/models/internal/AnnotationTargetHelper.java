@@ -13,6 +13,7 @@ import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.MutableClassDetailsRegistry;
+import org.hibernate.models.support.AbstractClassDetailsRegistry;
 
 /**
  * Utilities related to {@linkplain org.hibernate.models.spi.AnnotationTarget}
@@ -26,6 +27,8 @@ public class AnnotationTargetHelper {
 	 *
 	 * @apiNote {@code classDetails} may be the ClassDetails for a `package-info` itself,
 	 * in which case this returns the `package-info` ClassDetails for the containing package.
+	 *
+	 * @implNote The result is cached per package by the {@linkplain AbstractClassDetailsRegistry registry}, if it supports it.
 	 */
 	public static ClassDetails resolvePackageInfo(
 			ClassDetails classDetails,
@@ -37,7 +40,18 @@ public class AnnotationTargetHelper {
 		if ( containingPackageName == null ) {
 			return null;
 		}
+		if ( modelsContext.getClassDetailsRegistry() instanceof AbstractClassDetailsRegistry registry ) {
+			return registry.resolveContainer(
+					containingPackageName,
+					(packageName) -> doResolvePackageInfo( packageName, modelsContext )
+			);
+		}
+		return doResolvePackageInfo( containingPackageName, modelsContext );
+	}
 
+	private static ClassDetails doResolvePackageInfo(
+			String containingPackageName,
+			ModelsContext modelsContext) {
 		final String packageInfoClassName = containingPackageName + ".package-info";
 
 		return modelsContext.getClassDetailsRegistry()
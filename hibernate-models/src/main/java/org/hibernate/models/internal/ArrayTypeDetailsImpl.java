@@ -13,6 +13,7 @@ import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.PrimitiveTypeDetails;
 import org.hibernate.models.spi.TypeDetails;
 import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.support.AbstractClassDetailsRegistry;
 
 /**
  * @author Steve Ebersole
@@ -36,16 +37,29 @@ public class ArrayTypeDetailsImpl implements ArrayTypeDetails {
 	public static ArrayTypeDetailsImpl arrayOf(
 			TypeDetails constituentType,
 			ClassDetailsRegistry classDetailsRegistry) {
+		if ( classDetailsRegistry instanceof AbstractClassDetailsRegistry registry ) {
+			return registry.resolveArrayType(
+					constituentType,
+					(constituent) -> buildArrayOf( constituent, classDetailsRegistry )
+			);
+		}
+		return buildArrayOf( constituentType, classDetailsRegistry );
+	}
+
+	private static ArrayTypeDetailsImpl buildArrayOf(
+			TypeDetails constituentType,
+			ClassDetailsRegistry classDetailsRegistry) {
 		final String arrayClassName;
 		if ( constituentType.getTypeKind() == Kind.PRIMITIVE ) {
 			final PrimitiveTypeDetails primitiveType = constituentType.asPrimitiveType();
 			arrayClassName = "[" + primitiveType.getPrimitiveKind().getJavaTypeChar();
 		}
 		else {
+			// use the Class#getName form so that the array class details are shared with the JDK
 			final String rawComponentName = constituentType.determineRawClass().getName();
 			arrayClassName = constituentType.getTypeKind() == Kind.ARRAY
 					? "[" + rawComponentName
-					: "[L" + rawComponentName.replace( '.', '/' ) + ";";
+					: "[L" + rawComponentName + ";";
 		}
 		return new ArrayTypeDetailsImpl(
 				classDetailsRegistry.resolveClassDetails( arrayClassName ),
@@ -0,0 +1,272 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.hibernate.models.jdk.JdkBuilders;
+import org.hibernate.models.jdk.JdkClassDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableAnnotationDescriptorRegistry;
+import org.hibernate.models.spi.MutableClassDetailsRegistry;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.support.AbstractModelsContext;
+
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.spi.ClassDetails.OBJECT_CLASS_DETAILS;
+
+/**
+ * Process-wide ModelsContext holding the {@linkplain BaseLineJavaTypes baseline Java types},
+ * whose {@linkplain #getClassDetailsRegistry() registry} is used as the
+ * {@linkplain org.hibernate.models.support.AbstractClassDetailsRegistry#getParent() parent}
+ * of the registries of JDK-based contexts ({@linkplain BasicModelsContextImpl}).  This allows the
+ * baseline types to be built once and shared, rather than rebuilt for every such context.
+ * <p/>
+ * The state of the baseline types - super types, interfaces, type parameters, annotation usages,
+ * members and the state derived from them - is built up front, along with the class-level state of
+ * every type this registers.  After that the context is {@linkplain JdkClassDetails#seal() sealed},
+ * which blocks mutation but not retention: nothing further is interned here and classes first
+ * resolved later are only weakly registered, but state built for a sealed class is retained by it.
+ *
+ * @implNote Only JDK types are ever registered here - the baseline types and the types
+ * referenced from them - which are never unloaded, so sharing them across
+ * contexts does not pin any application class loader.
+ *
+ * @author Steve Ebersole
+ */
+public class BaseLineModelsContext extends AbstractModelsContext {
+	/**
+	 * The shared baseline context.
+	 */
+	public static BaseLineModelsContext baseLineModelsContext() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * The {@linkplain #getClassDetailsRegistry() registry} of the shared baseline context.
+	 */
+	public static ClassDetailsRegistry baseLineClassDetailsRegistry() {
+		return Holder.INSTANCE.classDetailsRegistry;
+	}
+
+	private final AnnotationDescriptorRegistryStandard descriptorRegistry;
+	private final BaseLineClassDetailsRegistry classDetailsRegistry;
+	private final ModuleDetailsRegistryStandard moduleDetailsRegistry;
+
+	private volatile boolean sealed;
+
+	private BaseLineModelsContext() {
+		super( SIMPLE_CLASS_LOADING );
+
+		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard( this );
+		this.classDetailsRegistry = new BaseLineClassDetailsRegistry( this );
+		this.moduleDetailsRegistry = new ModuleDetailsRegistryStandard( this );
+
+		primeRegistries( null );
+		prebuild();
+		seal();
+	}
+
+	/**
+	 * Build the state of the primed types - class-level state, members and the state derived from
+	 * them - and the class-level state of every type registered along the way.
+	 */
+	private void prebuild() {
+		final List<ClassDetails> primed = List.copyOf( classDetailsRegistry.classDetailsMap().values() );
+		for ( ClassDetails classDetails : primed ) {
+			prebuildMembers( classDetails );
+		}
+
+		final Set<String> built = new HashSet<>();
+		boolean builtAny;
+		do {
+			builtAny = false;
+			for ( ClassDetails classDetails : List.copyOf( classDetailsRegistry.classDetailsMap().values() ) ) {
+				if ( built.add( classDetails.getName() ) ) {
+					prebuildClassLevel( classDetails );
+					builtAny = true;
+				}
+			}
+		} while ( builtAny );
+
+		for ( ClassDetails classDetails : primed ) {
+			prebuildDerived( classDetails );
+		}
+	}
+
+	private static void prebuildMembers(ClassDetails classDetails) {
+		classDetails.forEachConstructor( (index, constructor) -> constructor.getDirectAnnotationUsages() );
+		classDetails.forEachField( (index, field) -> field.getDirectAnnotationUsages() );
+		classDetails.forEachMethod( (index, method) -> method.getDirectAnnotationUsages() );
+		classDetails.forEachRecordComponent( (index, recordComponent) -> recordComponent.getDirectAnnotationUsages() );
+	}
+
+	private static void prebuildClassLevel(ClassDetails classDetails) {
+		classDetails.getDirectAnnotationUsages();
+		classDetails.getImplementedInterfaces();
+		classDetails.getGenericSuperType();
+		classDetails.getTypeParameters();
+		classDetails.isImplementor( OBJECT_CLASS_DETAILS );
+
+		final TypeVariableDetails typeVariable = findTypeVariable( classDetails );
+		if ( typeVariable != null ) {
+			// builds the bindings of the whole hierarchy
+			classDetails.resolveTypeVariable( typeVariable );
+		}
+	}
+
+	private void prebuildDerived(ClassDetails classDetails) {
+		classDetails.getProperties();
+		classDetails.getEffectivePersistableMembers();
+		classDetails.getEffectiveAnnotationUsages( this );
+	}
+
+	private static TypeVariableDetails findTypeVariable(ClassDetails classDetails) {
+		if ( !classDetails.getTypeParameters().isEmpty() ) {
+			return classDetails.getTypeParameters().get( 0 );
+		}
+		final ClassDetails superClass = classDetails.getSuperClass();
+		if ( superClass != null && !superClass.getTypeParameters().isEmpty() ) {
+			return superClass.getTypeParameters().get( 0 );
+		}
+		return null;
+	}
+
+	private void seal() {
+		sealed = true;
+		classDetailsRegistry.classDetailsMap().values().forEach( (classDetails) -> {
+			if ( classDetails instanceof JdkClassDetails jdkClassDetails ) {
+				jdkClassDetails.seal();
+			}
+		} );
+	}
+
+	/**
+	 * Whether the context has been sealed - see the class documentation.
+	 */
+	public boolean isSealed() {
+		return sealed;
+	}
+
+	@Override
+	public <T extends TypeDetails> T internTypeDetails(T typeDetails) {
+		return sealed ? typeDetails : super.internTypeDetails( typeDetails );
+	}
+
+	@Override
+	public MutableAnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
+		return descriptorRegistry;
+	}
+
+	@Override
+	public MutableClassDetailsRegistry getClassDetailsRegistry() {
+		return classDetailsRegistry;
+	}
+
+	@Override
+	public ModuleDetailsRegistryStandard getModuleDetailsRegistry() {
+		return moduleDetailsRegistry;
+	}
+
+	private static class Holder {
+		private static final BaseLineModelsContext INSTANCE = new BaseLineModelsContext();
+	}
+
+	/**
+	 * Registry of the baseline context.  Classes first resolved after the context is sealed are only
+	 * weakly registered - they stay resolvable while in use, but are neither retained nor visible as
+	 * registered classes (iteration, subtypes, implementors).
+	 */
+	private static class BaseLineClassDetailsRegistry extends ClassDetailsRegistryStandard {
+		private final BaseLineModelsContext context;
+		private final ConcurrentHashMap<String, WeakClassDetails> lateClassDetailsMap = new ConcurrentHashMap<>();
+		private final ReferenceQueue<ClassDetails> staleLateClassDetails = new ReferenceQueue<>();
+
+		private BaseLineClassDetailsRegistry(BaseLineModelsContext context) {
+			super( new FreezingBuilder( context ), true, context );
+			this.context = context;
+		}
+
+		@Override
+		public ClassDetails findClassDetails(String name) {
+			final ClassDetails registered = super.findClassDetails( name );
+			if ( registered != null || !context.sealed ) {
+				return registered;
+			}
+			final WeakClassDetails late = lateClassDetailsMap.get( name );
+			return late == null ? null : late.get();
+		}
+
+		@Override
+		public void addClassDetails(String name, ClassDetails classDetails) {
+			if ( !context.sealed ) {
+				super.addClassDetails( name, classDetails );
+				return;
+			}
+
+			WeakClassDetails stale;
+			while ( ( stale = (WeakClassDetails) staleLateClassDetails.poll() ) != null ) {
+				lateClassDetailsMap.remove( stale.name, stale );
+			}
+			lateClassDetailsMap.put( name, new WeakClassDetails( name, classDetails, staleLateClassDetails ) );
+		}
+
+		@Override
+		public ArrayTypeDetailsImpl resolveArrayType(
+				TypeDetails constituentType,
+				Function<TypeDetails, ArrayTypeDetailsImpl> creator) {
+			return context.sealed
+					? creator.apply( constituentType )
+					: super.resolveArrayType( constituentType, creator );
+		}
+	}
+
+	private static class WeakClassDetails extends WeakReference<ClassDetails> {
+		private final String name;
+
+		private WeakClassDetails(String name, ClassDetails referent, ReferenceQueue<ClassDetails> queue) {
+			super( referent, queue );
+			this.name = name;
+		}
+	}
+
+	/**
+	 * Builds JDK ClassDetails, {@linkplain JdkClassDetails#freeze() freezing} each - or
+	 * {@linkplain JdkClassDetails#seal() sealing} each once the context is sealed.
+	 */
+	private record FreezingBuilder(BaseLineModelsContext context) implements ClassDetailsBuilder {
+		@Override
+		public ClassDetails buildClassDetails(String name, ModelsContext modelsContext) {
+			return freeze( JdkBuilders.DEFAULT_BUILDER.buildClassDetails( name, modelsContext ) );
+		}
+
+		@Override
+		public ClassDetails findClassDetails(String name, ModelsContext modelsContext) {
+			return freeze( JdkBuilders.DEFAULT_BUILDER.findClassDetails( name, modelsContext ) );
+		}
+
+		private ClassDetails freeze(ClassDetails classDetails) {
+			if ( classDetails instanceof JdkClassDetails jdkClassDetails ) {
+				if ( context.sealed ) {
+					jdkClassDetails.seal();
+				}
+				else {
+					jdkClassDetails.freeze();
+				}
+			}
+			return classDetails;
+		}
+	}
+}
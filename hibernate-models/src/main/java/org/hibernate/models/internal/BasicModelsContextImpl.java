@@ -7,6 +7,7 @@ package org.hibernate.models.internal;
 import java.util.Map;
 
 import org.hibernate.models.Settings;
+import org.hibernate.models.jdk.JdkBuilders;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.RegistryPrimer;
 import org.hibernate.models.support.AbstractModelsContext;
@@ -16,7 +17,12 @@ import org.hibernate.models.spi.MutableClassDetailsRegistry;
 import static java.lang.Boolean.parseBoolean;
 
 /**
- * Standard ModelsContext implementation
+ * Standard ModelsContext implementation.
+ * <p/>
+ * The {@linkplain BaseLineJavaTypes baseline Java types} are not built per context, but
+ * shared from the {@linkplain BaseLineModelsContext baseline context}.  This applies only
+ * to this JDK-based context - the Jandex and Byte Buddy contexts build the baseline types
+ * from their own sources.
  *
  * @author Steve Ebersole
  */
@@ -32,10 +38,37 @@ public class BasicModelsContextImpl extends AbstractModelsContext {
 		super( classLoadingAccess );
 
 		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard( this );
-		this.classDetailsRegistry = new ClassDetailsRegistryStandard( trackImplementors, this );
+		this.classDetailsRegistry = new ClassDetailsRegistryStandard(
+				JdkBuilders.DEFAULT_BUILDER,
+				trackImplementors,
+				BaseLineModelsContext.baseLineClassDetailsRegistry(),
+				this
+		);
 		this.moduleDetailsRegistry = new ModuleDetailsRegistryStandard( this );
 
-		primeRegistries( registryPrimer );
+		// the baseline types are inherited from the baseline registry
+		applyRegistryPrimer( registryPrimer );
+	}
+
+	/**
+	 * Constructor for a {@linkplain #fork() fork} of the given context.
+	 */
+	protected BasicModelsContextImpl(BasicModelsContextImpl parent) {
+		super( parent.getClassLoading() );
+
+		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard( this, parent.descriptorRegistry );
+		this.classDetailsRegistry = new ClassDetailsRegistryStandard(
+				parent.classDetailsRegistry.getClassDetailsBuilder(),
+				parent.classDetailsRegistry.isTrackingImplementors(),
+				parent.classDetailsRegistry,
+				this
+		);
+		this.moduleDetailsRegistry = new ModuleDetailsRegistryStandard( this, parent.moduleDetailsRegistry );
+	}
+
+	@Override
+	public BasicModelsContextImpl fork() {
+		return new BasicModelsContextImpl( this );
 	}
 
 	private static boolean shouldTrackImplementors(Map<Object, Object> configValues) {
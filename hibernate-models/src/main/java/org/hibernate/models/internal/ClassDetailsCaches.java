@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.EffectiveMemberDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.PropertyDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+
+/**
+ * The state derived from a single {@linkplain ClassDetails class}, built lazily and held for the
+ * class by its {@linkplain org.hibernate.models.support.ClassDetailsSupport implementation} -
+ * <ul>
+ *     <li>{@linkplain TypeVariableBindings type variable bindings}</li>
+ *     <li>{@linkplain SupertypeIds super type ids}</li>
+ *     <li>{@linkplain EffectivePersistableMembers effective persistable members}</li>
+ *     <li>{@linkplain EffectiveAnnotationUsages effective annotation usages}</li>
+ *     <li>{@linkplain PropertyIndex properties}</li>
+ * </ul>
+ * State derived from the members or annotation usages of the class is dropped by {@linkplain #invalidate()}.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsCaches {
+	private final ClassDetails classDetails;
+	private final ModelsContext modelsContext;
+
+	private volatile TypeVariableBindings typeVariableBindings;
+	private volatile SupertypeIds supertypeIds;
+	private volatile EffectivePersistableMembers effectivePersistableMembers;
+	private volatile EffectiveAnnotationUsages effectiveAnnotationUsages;
+	private volatile Map<String, PropertyDetails> properties;
+
+	public ClassDetailsCaches(ClassDetails classDetails, ModelsContext modelsContext) {
+		this.classDetails = classDetails;
+		this.modelsContext = modelsContext;
+	}
+
+	public TypeDetails resolveTypeVariable(TypeVariableDetails typeVariable) {
+		TypeVariableBindings result = typeVariableBindings;
+		if ( result == null ) {
+			result = TypeVariableBindings.of( classDetails );
+			typeVariableBindings = result;
+		}
+		return result.resolve( typeVariable );
+	}
+
+	/**
+	 * @see SupertypeIds#isImplementor
+	 */
+	public boolean isImplementor(String typeName) {
+		return supertypeIds().isImplementor( typeName );
+	}
+
+	/**
+	 * @see SupertypeIds#isSuperclass
+	 */
+	public boolean isSuperclass(String typeName) {
+		return supertypeIds().isSuperclass( typeName );
+	}
+
+	private SupertypeIds supertypeIds() {
+		SupertypeIds result = supertypeIds;
+		if ( result == null ) {
+			result = SupertypeIds.of( classDetails, ClassIds.of( modelsContext ) );
+			supertypeIds = result;
+		}
+		return result;
+	}
+
+	public List<EffectiveMemberDetails> getEffectivePersistableMembers() {
+		EffectivePersistableMembers result = effectivePersistableMembers;
+		if ( result == null || !result.isCurrent( classDetails ) ) {
+			result = EffectivePersistableMembers.of( classDetails );
+			effectivePersistableMembers = result;
+		}
+		return result.getMembers();
+	}
+
+	public Map<Class<? extends Annotation>, ? extends Annotation> getEffectiveAnnotationUsages(ModelsContext modelsContext) {
+		EffectiveAnnotationUsages result = effectiveAnnotationUsages;
+		if ( result == null || !result.isCurrent( classDetails, modelsContext ) ) {
+			result = EffectiveAnnotationUsages.of( classDetails, modelsContext );
+			effectiveAnnotationUsages = result;
+		}
+		return result.getUsages();
+	}
+
+	public Map<String, PropertyDetails> getProperties() {
+		Map<String, PropertyDetails> result = properties;
+		if ( result == null ) {
+			result = PropertyIndex.of( classDetails );
+			properties = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Drop the state derived from the members and annotation usages of the class, after either changes.
+	 */
+	public void invalidate() {
+		effectivePersistableMembers = null;
+		effectiveAnnotationUsages = null;
+		properties = null;
+	}
+}
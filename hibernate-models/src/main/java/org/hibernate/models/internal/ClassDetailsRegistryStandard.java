@@ -10,6 +10,7 @@ import java.util.Map;
 import org.hibernate.models.jdk.JdkBuilders;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.support.AbstractClassDetailsRegistry;
 
@@ -27,7 +28,15 @@ public class ClassDetailsRegistryStandard
 	}
 
 	public ClassDetailsRegistryStandard(ClassDetailsBuilder classDetailsBuilder, boolean trackImplementors, ModelsContext context) {
-		super( trackImplementors, context );
+		this( classDetailsBuilder, trackImplementors, null, context );
+	}
+
+	public ClassDetailsRegistryStandard(
+			ClassDetailsBuilder classDetailsBuilder,
+			boolean trackImplementors,
+			ClassDetailsRegistry parent,
+			ModelsContext context) {
+		super( trackImplementors, parent, context );
 		this.classDetailsBuilder = classDetailsBuilder;
 	}
 
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.support.AbstractModelsContext;
+
+/**
+ * Dense ids for the class names of a context, assigned in order of first use and
+ * used by {@linkplain SupertypeIds} to describe a type hierarchy compactly.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassIds {
+	/**
+	 * Returned from {@linkplain #findId} for names without an id.
+	 */
+	public static final int NO_ID = -1;
+
+	private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	/**
+	 * The ids of the given context, or new ids if the context does not track them.
+	 */
+	public static ClassIds of(ModelsContext modelsContext) {
+		return modelsContext instanceof AbstractModelsContext abstractModelsContext
+				? abstractModelsContext.getClassIds()
+				: new ClassIds();
+	}
+
+	/**
+	 * The id of the given class name, assigning one if needed.
+	 */
+	public int idOf(String className) {
+		final Integer existing = ids.get( className );
+		if ( existing != null ) {
+			return existing;
+		}
+		return ids.computeIfAbsent( className, name -> nextId.getAndIncrement() );
+	}
+
+	/**
+	 * The id of the given class name, or {@linkplain #NO_ID} if none has been assigned.
+	 */
+	public int findId(String className) {
+		final Integer id = ids.get( className );
+		return id == null ? NO_ID : id;
+	}
+}
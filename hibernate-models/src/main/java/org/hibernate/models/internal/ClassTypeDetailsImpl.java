@@ -14,7 +14,7 @@ import org.hibernate.models.spi.TypeVariableDetails;
 /**
  * @author Steve Ebersole
  */
-public class ClassTypeDetailsImpl implements ClassTypeDetails {
+public class ClassTypeDetailsImpl extends AbstractMemoizingTypeDetails implements ClassTypeDetails {
 	private final ClassDetails classDetails;
 	private final Kind kind;
 
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import static org.hibernate.models.spi.ClassDetails.OBJECT_CLASS_DETAILS;
+
+/**
+ * The {@linkplain ClassDetails#getEffectiveAnnotationUsages effective annotation usages} of a class -
+ * the {@linkplain java.lang.annotation.Inherited inherited} usages of its super class's effective usages
+ * (its "prefix") overlaid with its own direct usages.  A class which declares no annotations and whose
+ * super class's effective usages are all inherited simply shares that super class's usages.
+ * <p/>
+ * Remembers the prefix it was built from, so that a change to any super class - which rebuilds that
+ * super class's usages - can be detected.
+ *
+ * @author Steve Ebersole
+ */
+public class EffectiveAnnotationUsages {
+	private final Map<Class<? extends Annotation>, ? extends Annotation> superUsages;
+	private final Map<Class<? extends Annotation>, ? extends Annotation> usages;
+
+	private EffectiveAnnotationUsages(
+			Map<Class<? extends Annotation>, ? extends Annotation> superUsages,
+			Map<Class<? extends Annotation>, ? extends Annotation> usages) {
+		this.superUsages = superUsages;
+		this.usages = usages;
+	}
+
+	public static EffectiveAnnotationUsages of(ClassDetails classDetails, ModelsContext modelsContext) {
+		final Map<Class<? extends Annotation>, ? extends Annotation> superUsages = superUsages( classDetails, modelsContext );
+		final AnnotationDescriptorRegistry descriptorRegistry = modelsContext.getAnnotationDescriptorRegistry();
+
+		final HashMap<Class<? extends Annotation>, Annotation> usages = new HashMap<>();
+		for ( Map.Entry<Class<? extends Annotation>, ? extends Annotation> superUsage : superUsages.entrySet() ) {
+			if ( descriptorRegistry.getDescriptor( superUsage.getKey() ).isInherited() ) {
+				usages.put( superUsage.getKey(), superUsage.getValue() );
+			}
+		}
+
+		final Collection<? extends Annotation> directUsages = classDetails.getDirectAnnotationUsages();
+		if ( directUsages.isEmpty() && usages.size() == superUsages.size() ) {
+			return new EffectiveAnnotationUsages( superUsages, superUsages );
+		}
+		// direct usages take precedence over inherited ones
+		for ( Annotation directUsage : directUsages ) {
+			usages.put( directUsage.annotationType(), directUsage );
+		}
+		return new EffectiveAnnotationUsages( superUsages, Collections.unmodifiableMap( usages ) );
+	}
+
+	private static Map<Class<? extends Annotation>, ? extends Annotation> superUsages(
+			ClassDetails classDetails,
+			ModelsContext modelsContext) {
+		final ClassDetails superClass = classDetails.getSuperClass();
+		return superClass == null || superClass == OBJECT_CLASS_DETAILS
+				? Collections.emptyMap()
+				: superClass.getEffectiveAnnotationUsages( modelsContext );
+	}
+
+	public Map<Class<? extends Annotation>, ? extends Annotation> getUsages() {
+		return usages;
+	}
+
+	/**
+	 * Whether these usages are still current for the given class - whether its super class usages are
+	 * still the ones they were built from.  Changes to the class's own usages must be handled by the class.
+	 */
+	public boolean isCurrent(ClassDetails classDetails, ModelsContext modelsContext) {
+		return superUsages( classDetails, modelsContext ) == superUsages;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.EffectiveMemberDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+import static org.hibernate.models.spi.ClassDetails.OBJECT_CLASS_DETAILS;
+
+/**
+ * The {@linkplain ClassDetails#getEffectivePersistableMembers() effective persistable members} of a class,
+ * built from those of its super class (its "prefix") followed by its own.  Inherited members whose type is
+ * already fully resolved are reused as-is; the others are re-resolved relative to the class.
+ * <p/>
+ * Remembers the prefix it was built from, so that a change to any super class - which rebuilds that
+ * super class's members - can be detected.
+ *
+ * @author Steve Ebersole
+ */
+public class EffectivePersistableMembers {
+	private final List<EffectiveMemberDetails> inheritedMembers;
+	private final List<EffectiveMemberDetails> members;
+
+	private EffectivePersistableMembers(List<EffectiveMemberDetails> inheritedMembers, List<EffectiveMemberDetails> members) {
+		this.inheritedMembers = inheritedMembers;
+		this.members = members;
+	}
+
+	public static EffectivePersistableMembers of(ClassDetails classDetails) {
+		final List<EffectiveMemberDetails> inheritedMembers = inheritedMembers( classDetails );
+		final ArrayList<EffectiveMemberDetails> members = new ArrayList<>( inheritedMembers.size() + 8 );
+		for ( EffectiveMemberDetails inheritedMember : inheritedMembers ) {
+			final TypeDetails inheritedType = inheritedMember.type();
+			if ( inheritedType != null && inheritedType.isResolved() ) {
+				members.add( inheritedMember );
+			}
+			else {
+				members.add( new EffectiveMemberDetails(
+						inheritedMember.member(),
+						inheritedMember.member().resolveRelativeType( classDetails )
+				) );
+			}
+		}
+		classDetails.forEachPersistableMember( (member) -> members.add(
+				new EffectiveMemberDetails( member, member.resolveRelativeType( classDetails ) )
+		) );
+		return new EffectivePersistableMembers( inheritedMembers, Collections.unmodifiableList( members ) );
+	}
+
+	private static List<EffectiveMemberDetails> inheritedMembers(ClassDetails classDetails) {
+		final ClassDetails superClass = classDetails.getSuperClass();
+		return superClass == null || superClass == OBJECT_CLASS_DETAILS
+				? Collections.emptyList()
+				: superClass.getEffectivePersistableMembers();
+	}
+
+	public List<EffectiveMemberDetails> getMembers() {
+		return members;
+	}
+
+	/**
+	 * Whether these members are still current for the given class - whether its super class members are
+	 * still the ones they were built from.  Changes to the class's own members must be handled by the class.
+	 */
+	public boolean isCurrent(ClassDetails classDetails) {
+		return inheritedMembers( classDetails ) == inheritedMembers;
+	}
+}
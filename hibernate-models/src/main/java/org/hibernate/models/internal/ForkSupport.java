@@ -0,0 +1,394 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.AnnotationAccessException;
+import org.hibernate.models.dynamic.DynamicClassDetails;
+import org.hibernate.models.dynamic.DynamicFieldDetails;
+import org.hibernate.models.dynamic.DynamicMethodDetails;
+import org.hibernate.models.jdk.JdkBuilders;
+import org.hibernate.models.jdk.JdkClassDetails;
+import org.hibernate.models.jdk.JdkMethodDetails;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.ArrayTypeDetails;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassTypeDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableAnnotationDescriptor;
+import org.hibernate.models.spi.MutableAnnotationTarget;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
+import org.hibernate.models.spi.RecordComponentDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.spi.TypeVariableReferenceDetails;
+import org.hibernate.models.spi.TypeVariableScope;
+import org.hibernate.models.spi.WildcardTypeDetails;
+
+/**
+ * Support for {@linkplain ModelsContext#fork() forked} contexts, which copy each mutable
+ * ClassDetails of their parent as it is first resolved through the fork, so that changes
+ * made through the fork are never visible to the parent, and vice versa.  Types of the
+ * parent referring to its mutable classes are {@linkplain #localizeType re-resolved}
+ * against the fork.
+ *
+ * @author Steve Ebersole
+ */
+public class ForkSupport {
+	/**
+	 * Whether the inherited ClassDetails is immutable, and can therefore be
+	 * shared with a fork rather than copied.
+	 */
+	public static boolean isShareable(ClassDetails inherited) {
+		return !( inherited instanceof MutableClassDetails )
+				|| inherited instanceof JdkClassDetails jdkClassDetails && jdkClassDetails.isFrozen();
+	}
+
+	/**
+	 * Create a dynamic copy of a class from the parent context, for classes which are
+	 * dynamic to begin with or which cannot be rebuilt from source.  Members are copied
+	 * by {@linkplain #copyMembers}.
+	 */
+	public static DynamicClassDetails copyAsDynamicClassDetails(ClassDetails inherited, ModelsContext context) {
+		return new DynamicClassCopy( inherited, localizeClass( inherited.getSuperClass(), context ), context );
+	}
+
+	/**
+	 * Bring the copy, freshly built from the same source as the inherited class, up to the
+	 * current state of the inherited class - members added to the inherited class are added
+	 * to the copy, and the annotation usages of the class and its members are deep-copied.
+	 */
+	public static void copyMembers(ClassDetails inherited, MutableClassDetails copy, ModelsContext context) {
+		copyAnnotationUsages( inherited, copy, context );
+
+		for ( FieldDetails inheritedField : inherited.getFields() ) {
+			final FieldDetails copyField = copy.findFieldByName( inheritedField.getName() );
+			if ( copyField != null ) {
+				copyAnnotationUsages( inheritedField, copyField, context );
+			}
+			else {
+				final DynamicFieldDetails addedField = new DynamicFieldDetails(
+						inheritedField.getName(),
+						localizeType( inheritedField.getType(), context ),
+						copy,
+						inheritedField.getModifiers(),
+						inheritedField.isArray(),
+						inheritedField.isPlural(),
+						context
+				);
+				copyAnnotationUsages( inheritedField, addedField, context );
+				copy.addField( addedField );
+			}
+		}
+
+		final Map<String, MethodDetails> copyMethods = new HashMap<>();
+		for ( MethodDetails copyMethod : copy.getMethods() ) {
+			copyMethods.put( methodKey( copyMethod ), copyMethod );
+		}
+		for ( MethodDetails inheritedMethod : inherited.getMethods() ) {
+			final MethodDetails copyMethod = copyMethods.get( methodKey( inheritedMethod ) );
+			if ( copyMethod != null ) {
+				copyAnnotationUsages( inheritedMethod, copyMethod, context );
+			}
+			else {
+				final MethodDetails addedMethod = copyAddedMethod( inheritedMethod, copy, context );
+				copyAnnotationUsages( inheritedMethod, addedMethod, context );
+				copy.addMethod( addedMethod );
+			}
+		}
+
+		for ( RecordComponentDetails inheritedComponent : inherited.getRecordComponents() ) {
+			final RecordComponentDetails copyComponent = copy.findRecordComponentByName( inheritedComponent.getName() );
+			if ( copyComponent != null ) {
+				copyAnnotationUsages( inheritedComponent, copyComponent, context );
+			}
+		}
+	}
+
+	private static MethodDetails copyAddedMethod(MethodDetails inheritedMethod, ClassDetails copy, ModelsContext context) {
+		if ( inheritedMethod instanceof JdkMethodDetails ) {
+			return JdkBuilders.buildMethodDetails( (Method) inheritedMethod.toJavaMember(), copy, context );
+		}
+
+		final List<ClassDetails> argumentTypes = new ArrayList<>( inheritedMethod.getArgumentTypes().size() );
+		for ( ClassDetails argumentType : inheritedMethod.getArgumentTypes() ) {
+			argumentTypes.add( localizeClass( argumentType, context ) );
+		}
+		return new DynamicMethodDetails(
+				inheritedMethod.getName(),
+				localizeType( inheritedMethod.getType(), context ),
+				copy,
+				inheritedMethod.getMethodKind(),
+				inheritedMethod.getModifiers(),
+				localizeClass( inheritedMethod.getReturnType(), context ),
+				argumentTypes,
+				inheritedMethod.isArray(),
+				inheritedMethod.isPlural(),
+				context
+		);
+	}
+
+	private static void copyAnnotationUsages(AnnotationTarget inherited, AnnotationTarget copy, ModelsContext context) {
+		if ( !( copy instanceof MutableAnnotationTarget mutableCopy ) ) {
+			return;
+		}
+
+		mutableCopy.clearAnnotationUsages();
+		for ( Annotation usage : inherited.getDirectAnnotationUsages() ) {
+			mutableCopy.addAnnotationUsage( copyUsage( usage, context ) );
+		}
+	}
+
+	/**
+	 * Deep-copy a usage, including nested usages.  Usages of annotations without a
+	 * mutable contract are JDK annotations, and immutable, and so are shared.
+	 */
+	private static <A extends Annotation> A copyUsage(A usage, ModelsContext context) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> descriptor = (AnnotationDescriptor<A>) context
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( usage.annotationType() );
+		if ( !( descriptor instanceof MutableAnnotationDescriptor ) ) {
+			return usage;
+		}
+
+		final LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+		for ( AttributeDescriptor<?> attribute : descriptor.getAttributes() ) {
+			try {
+				values.put( attribute.getName(), copyValue( attribute.getAttributeMethod().invoke( usage ), context ) );
+			}
+			catch (IllegalAccessException | InvocationTargetException e) {
+				throw new AnnotationAccessException(
+						"Unable to copy attribute value [%s] of annotation [%s]".formatted( attribute.getName(), usage ),
+						e
+				);
+			}
+		}
+		return descriptor.createUsage( values, context );
+	}
+
+	private static Object copyValue(Object value, ModelsContext context) {
+		if ( value instanceof Annotation nestedUsage ) {
+			return copyUsage( nestedUsage, context );
+		}
+		if ( value != null && value.getClass().isArray() ) {
+			final int length = Array.getLength( value );
+			final Object copy = Array.newInstance( value.getClass().getComponentType(), length );
+			for ( int i = 0; i < length; i++ ) {
+				Array.set( copy, i, copyValue( Array.get( value, i ), context ) );
+			}
+			return copy;
+		}
+		return value;
+	}
+
+	/**
+	 * Resolve the view, from the fork, of a class of the parent context - the class
+	 * itself if {@linkplain #isShareable shareable}, otherwise its copy.
+	 */
+	public static ClassDetails localizeClass(ClassDetails classDetails, ModelsContext context) {
+		if ( classDetails == null || isShareable( classDetails ) ) {
+			return classDetails;
+		}
+		return context.getClassDetailsRegistry().resolveClassDetails( classDetails.getName() );
+	}
+
+	/**
+	 * Re-resolve a type of the parent context against the fork, replacing the classes
+	 * it refers to by their {@linkplain #localizeClass view from the fork}.  Returns the
+	 * type itself if it only refers to shareable classes.
+	 */
+	public static TypeDetails localizeType(TypeDetails type, ModelsContext context) {
+		return type == null ? null : new TypeLocalizer( context ).localize( type );
+	}
+
+	private static String methodKey(MethodDetails method) {
+		final StringBuilder key = new StringBuilder( method.getName() ).append( '(' );
+		for ( ClassDetails argumentType : method.getArgumentTypes() ) {
+			key.append( argumentType.getName() ).append( ',' );
+		}
+		return key.append( ')' ).toString();
+	}
+
+	/**
+	 * Dynamic copy of a class, whose generic super type is re-resolved against the fork
+	 * on first access - it may refer to the class itself, which must be registered first.
+	 */
+	private static class DynamicClassCopy extends DynamicClassDetails {
+		private final TypeDetails inheritedGenericSuperType;
+		private volatile TypeDetails genericSuperType;
+
+		private DynamicClassCopy(ClassDetails inherited, ClassDetails superClass, ModelsContext context) {
+			super(
+					inherited.getName(),
+					inherited.getClassName(),
+					inherited.isAbstract(),
+					superClass,
+					null,
+					context
+			);
+			this.inheritedGenericSuperType = inherited.getGenericSuperType();
+		}
+
+		@Override
+		public TypeDetails getGenericSuperType() {
+			TypeDetails result = genericSuperType;
+			if ( result == null && inheritedGenericSuperType != null ) {
+				result = localizeType( inheritedGenericSuperType, getModelContext() );
+				genericSuperType = result;
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Re-resolves a type of the parent context against the fork.  Type variables declared
+	 * by a copied class resolve to the type parameters of the copy - or, when the copy
+	 * declares none, to a new type variable whose bounds may refer back to it.
+	 */
+	private static class TypeLocalizer {
+		private final ModelsContext context;
+		// type variables being localized, and the references to them awaiting their target
+		private final Map<TypeVariableDetails, List<TypeVariableReferenceDetailsImpl>> inProgress = new IdentityHashMap<>();
+
+		private TypeLocalizer(ModelsContext context) {
+			this.context = context;
+		}
+
+		private TypeDetails localize(TypeDetails type) {
+			return switch ( type.getTypeKind() ) {
+				case CLASS -> localizeClassType( type.asClassType() );
+				case ARRAY -> localizeArrayType( type.asArrayType() );
+				case PARAMETERIZED_TYPE -> localizeParameterizedType( type.asParameterizedType() );
+				case WILDCARD_TYPE -> localizeWildcardType( type.asWildcardType() );
+				case TYPE_VARIABLE -> localizeTypeVariable( type.asTypeVariable() );
+				case TYPE_VARIABLE_REFERENCE -> localizeTypeVariableReference( type.asTypeVariableReference() );
+				// primitive and void types only ever refer to shareable classes
+				default -> type;
+			};
+		}
+
+		private TypeDetails localizeClassType(ClassTypeDetails classType) {
+			final ClassDetails localized = localizeClass( classType.getClassDetails(), context );
+			return localized == classType.getClassDetails()
+					? classType
+					: context.internTypeDetails( new ClassTypeDetailsImpl( localized, TypeDetails.Kind.CLASS ) );
+		}
+
+		private TypeDetails localizeArrayType(ArrayTypeDetails arrayType) {
+			final TypeDetails constituentType = localize( arrayType.getConstituentType() );
+			return constituentType == arrayType.getConstituentType()
+					? arrayType
+					: ArrayTypeDetailsImpl.arrayOf( constituentType, context.getClassDetailsRegistry() );
+		}
+
+		private TypeDetails localizeParameterizedType(ParameterizedTypeDetails parameterizedType) {
+			final ClassDetails rawClass = localizeClass( parameterizedType.getRawClassDetails(), context );
+			final List<TypeDetails> arguments = localizeAll( parameterizedType.getArguments() );
+			final TypeVariableScope owner = localizeScope( parameterizedType.getOwner() );
+			if ( rawClass == parameterizedType.getRawClassDetails()
+					&& arguments == parameterizedType.getArguments()
+					&& owner == parameterizedType.getOwner() ) {
+				return parameterizedType;
+			}
+			return context.internTypeDetails( new ParameterizedTypeDetailsImpl( rawClass, arguments, owner ) );
+		}
+
+		private TypeDetails localizeWildcardType(WildcardTypeDetails wildcardType) {
+			if ( wildcardType.getBound() == null ) {
+				return wildcardType;
+			}
+			final TypeDetails bound = localize( wildcardType.getBound() );
+			return bound == wildcardType.getBound()
+					? wildcardType
+					: context.internTypeDetails( new WildcardTypeDetailsImpl( bound, wildcardType.isExtends() ) );
+		}
+
+		private TypeDetails localizeTypeVariable(TypeVariableDetails typeVariable) {
+			final ClassDetails declaringType = localizeClass( typeVariable.getDeclaringType(), context );
+			if ( declaringType != typeVariable.getDeclaringType() ) {
+				for ( TypeVariableDetails typeParameter : declaringType.getTypeParameters() ) {
+					if ( typeParameter.getIdentifier().equals( typeVariable.getIdentifier() ) ) {
+						return typeParameter;
+					}
+				}
+			}
+
+			final List<TypeVariableReferenceDetailsImpl> pendingReferences = inProgress.get( typeVariable );
+			if ( pendingReferences != null ) {
+				// referred to from its own bounds
+				final TypeVariableReferenceDetailsImpl reference = new TypeVariableReferenceDetailsImpl( typeVariable.getIdentifier() );
+				pendingReferences.add( reference );
+				return reference;
+			}
+
+			inProgress.put( typeVariable, new ArrayList<>() );
+			final List<TypeDetails> bounds = localizeAll( typeVariable.getBounds() );
+			final List<TypeVariableReferenceDetailsImpl> references = inProgress.remove( typeVariable );
+			if ( declaringType == typeVariable.getDeclaringType() && bounds == typeVariable.getBounds() ) {
+				references.forEach( (reference) -> reference.setTarget( typeVariable ) );
+				return typeVariable;
+			}
+			final TypeVariableDetails localized = new TypeVariableDetailsImpl( typeVariable.getIdentifier(), declaringType, bounds );
+			references.forEach( (reference) -> reference.setTarget( localized ) );
+			return localized;
+		}
+
+		private TypeDetails localizeTypeVariableReference(TypeVariableReferenceDetails reference) {
+			final TypeDetails target = localize( reference.getTarget() );
+			if ( target == reference.getTarget() ) {
+				return reference;
+			}
+			if ( target.getTypeKind() == TypeDetails.Kind.TYPE_VARIABLE_REFERENCE ) {
+				// the target is still being localized
+				return target;
+			}
+			return new TypeVariableReferenceDetailsImpl( reference.getIdentifier(), target.asTypeVariable() );
+		}
+
+		private TypeVariableScope localizeScope(TypeVariableScope scope) {
+			if ( scope instanceof ClassDetails classDetails ) {
+				return localizeClass( classDetails, context );
+			}
+			if ( scope instanceof TypeDetails typeDetails ) {
+				return localize( typeDetails );
+			}
+			return scope;
+		}
+
+		/**
+		 * Localize each of the types, returning the given list itself if none changed.
+		 */
+		private List<TypeDetails> localizeAll(List<TypeDetails> types) {
+			List<TypeDetails> localized = null;
+			for ( int i = 0; i < types.size(); i++ ) {
+				final TypeDetails type = types.get( i );
+				final TypeDetails localizedType = localize( type );
+				if ( localized == null && localizedType != type ) {
+					localized = new ArrayList<>( types.subList( 0, i ) );
+				}
+				if ( localized != null ) {
+					localized.add( localizedType );
+				}
+			}
+			return localized == null ? types : localized;
+		}
+	}
+}
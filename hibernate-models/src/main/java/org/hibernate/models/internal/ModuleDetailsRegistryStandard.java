@@ -7,6 +7,7 @@ package org.hibernate.models.internal;
 import org.hibernate.models.jdk.JdkModuleDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.ModuleDetails;
+import org.hibernate.models.spi.ModuleDetailsRegistry;
 
 /// Standard JDK-based module details registry implementation.
 ///
@@ -22,6 +23,15 @@ public class ModuleDetailsRegistryStandard extends AbstractModuleDetailsRegistry
 		super( context );
 	}
 
+	/// Constructs a registry bound to the given models context which reads
+	/// through to the given parent registry.
+	///
+	/// @param context The models context which owns this registry
+	/// @param parent The parent registry
+	public ModuleDetailsRegistryStandard(ModelsContext context, ModuleDetailsRegistry parent) {
+		super( context, parent );
+	}
+
 	@Override
 	protected ModuleDetails createModuleDetails(Module module) {
 		return new JdkModuleDetails( module, context );
@@ -17,7 +17,7 @@ import static org.hibernate.models.spi.TypeDetailsHelper.resolveTypeVariableFrom
 /**
  * @author Steve Ebersole
  */
-public class ParameterizedTypeDetailsImpl implements ParameterizedTypeDetails {
+public class ParameterizedTypeDetailsImpl extends AbstractMemoizingTypeDetails implements ParameterizedTypeDetails {
 	private final ClassDetails genericClassDetails;
 	private final List<TypeDetails> arguments;
 	private final TypeVariableScope owner;
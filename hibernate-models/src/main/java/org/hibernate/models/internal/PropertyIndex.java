@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.util.StringHelper;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.PropertyDetails;
+
+/**
+ * Index of the {@linkplain ClassDetails#getProperties() properties} declared by a class, built with a
+ * single pass over its fields and methods so that pairing an attribute's field, getter and setter
+ * does not mean scanning the members again for each attribute.
+ *
+ * @author Steve Ebersole
+ */
+public class PropertyIndex {
+	private PropertyIndex() {
+	}
+
+	public static Map<String, PropertyDetails> of(ClassDetails classDetails) {
+		final LinkedHashMap<String, FieldDetails> fields = new LinkedHashMap<>();
+		classDetails.forEachField( (i, field) -> {
+			if ( !field.isStatic() && !ModifierUtils.isSynthetic( field.getModifiers() ) ) {
+				fields.put( field.getName(), field );
+			}
+		} );
+
+		final LinkedHashMap<String, MethodDetails> getters = new LinkedHashMap<>();
+		final LinkedHashMap<String, List<MethodDetails>> setters = new LinkedHashMap<>();
+		classDetails.forEachMethod( (i, method) -> {
+			// bridge methods duplicate the accessors they bridge, with erased types
+			if ( method.isStatic()
+					|| ModifierUtils.isSynthetic( method.getModifiers() )
+					|| ModifierUtils.isBridge( method.getModifiers() ) ) {
+				return;
+			}
+			if ( method.getMethodKind() == MethodDetails.MethodKind.GETTER ) {
+				final String attributeName = method.resolveAttributeName();
+				final MethodDetails existing = getters.get( attributeName );
+				// prefer `getX` over `isX`
+				if ( existing == null || existing.getName().startsWith( "is" ) ) {
+					getters.put( attributeName, method );
+				}
+			}
+			else if ( method.getMethodKind() == MethodDetails.MethodKind.SETTER ) {
+				final String attributeName = StringHelper.decapitalize( method.getName().substring( 3 ) );
+				setters.computeIfAbsent( attributeName, (name) -> new ArrayList<>( 1 ) ).add( method );
+			}
+		} );
+
+		final LinkedHashMap<String, PropertyDetails> properties = new LinkedHashMap<>();
+		fields.forEach( (name, field) -> properties.put( name, property( name, field, getters, setters ) ) );
+		getters.forEach( (name, getter) -> properties.computeIfAbsent( name, (n) -> property( n, null, getters, setters ) ) );
+		setters.forEach( (name, setter) -> properties.computeIfAbsent( name, (n) -> property( n, null, getters, setters ) ) );
+		return Collections.unmodifiableMap( properties );
+	}
+
+	private static PropertyDetails property(
+			String name,
+			FieldDetails field,
+			Map<String, MethodDetails> getters,
+			Map<String, List<MethodDetails>> setters) {
+		final MethodDetails getter = getters.get( name );
+		return new PropertyDetails( name, field, getter, matchSetter( setters.get( name ), getter != null ? getter : field ) );
+	}
+
+	private static MethodDetails matchSetter(List<MethodDetails> candidates, MemberDetails typeSource) {
+		if ( candidates == null ) {
+			return null;
+		}
+		if ( candidates.size() > 1 && typeSource != null && typeSource.getType() != null ) {
+			final String typeName = typeSource.getType().determineRawClass().getName();
+			for ( MethodDetails candidate : candidates ) {
+				if ( candidate.getType() != null && typeName.equals( candidate.getType().determineRawClass().getName() ) ) {
+					return candidate;
+				}
+			}
+		}
+		return candidates.get( 0 );
+	}
+}
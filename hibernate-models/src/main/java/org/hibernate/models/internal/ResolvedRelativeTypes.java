@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.spi.ClassBasedTypeDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableScope;
+
+/**
+ * Memo of the {@linkplain org.hibernate.models.spi.TypeDetailsHelper#resolveRelativeType relative types}
+ * resolved for a single (type variable or parameterized) member type, keyed by the container they were
+ * resolved against.  Held by the member type itself, so that resolving the attributes of a generic
+ * super class relative to each of its subclasses is a lookup after the first time.  The type creates
+ * it on the first write, and never for a type shared across contexts.
+ *
+ * @author Steve Ebersole
+ */
+public class ResolvedRelativeTypes {
+	private volatile ConcurrentHashMap<TypeVariableScope, TypeDetails> relativeTypes;
+	private volatile ConcurrentHashMap<TypeVariableScope, ClassBasedTypeDetails> relativeClassTypes;
+
+	public TypeDetails findRelativeType(TypeVariableScope container) {
+		final ConcurrentHashMap<TypeVariableScope, TypeDetails> relativeTypes = this.relativeTypes;
+		return relativeTypes == null ? null : relativeTypes.get( container );
+	}
+
+	/**
+	 * Cache the type resolved relative to the container.
+	 *
+	 * @return the cached type, which is a previously cached one if another thread got there first
+	 */
+	public TypeDetails cacheRelativeType(TypeVariableScope container, TypeDetails resolvedType) {
+		ConcurrentHashMap<TypeVariableScope, TypeDetails> relativeTypes = this.relativeTypes;
+		if ( relativeTypes == null ) {
+			synchronized ( this ) {
+				relativeTypes = this.relativeTypes;
+				if ( relativeTypes == null ) {
+					relativeTypes = this.relativeTypes = new ConcurrentHashMap<>();
+				}
+			}
+		}
+		return cache( relativeTypes, container, resolvedType );
+	}
+
+	public ClassBasedTypeDetails findRelativeClassType(TypeVariableScope container) {
+		final ConcurrentHashMap<TypeVariableScope, ClassBasedTypeDetails> relativeClassTypes = this.relativeClassTypes;
+		return relativeClassTypes == null ? null : relativeClassTypes.get( container );
+	}
+
+	/**
+	 * Cache the class type resolved relative to the container.
+	 *
+	 * @return the cached type, which is a previously cached one if another thread got there first
+	 */
+	public ClassBasedTypeDetails cacheRelativeClassType(TypeVariableScope container, ClassBasedTypeDetails resolvedType) {
+		ConcurrentHashMap<TypeVariableScope, ClassBasedTypeDetails> relativeClassTypes = this.relativeClassTypes;
+		if ( relativeClassTypes == null ) {
+			synchronized ( this ) {
+				relativeClassTypes = this.relativeClassTypes;
+				if ( relativeClassTypes == null ) {
+					relativeClassTypes = this.relativeClassTypes = new ConcurrentHashMap<>();
+				}
+			}
+		}
+		return cache( relativeClassTypes, container, resolvedType );
+	}
+
+	private static <T extends TypeDetails> T cache(
+			ConcurrentHashMap<TypeVariableScope, T> resolvedTypes,
+			TypeVariableScope container,
+			T resolvedType) {
+		final T existing = resolvedTypes.putIfAbsent( container, resolvedType );
+		return existing == null ? resolvedType : existing;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * Memo of the {@linkplain org.hibernate.models.spi.TypeDetailsHelper#resolveSuperType super types}
+ * resolved for a single type, keyed by the super type name.  Held by the type itself, which, being
+ * {@linkplain org.hibernate.models.spi.ModelsContext#internTypeDetails interned}, makes this a
+ * per-context cache shared by every member of that type.  The type creates it on the first write,
+ * and never for a type shared across contexts.
+ * <p/>
+ * Only {@linkplain #isMemoizable fully resolved} super types - those without type variables - are cached.
+ *
+ * @author Steve Ebersole
+ */
+public class ResolvedSuperTypes {
+	// copy-on-write; generally only a few super types are ever resolved for a type
+	private volatile Map<String, TypeDetails> resolvedTypes = Map.of();
+
+	public TypeDetails find(Class<?> superType) {
+		return resolvedTypes.get( superType.getName() );
+	}
+
+	public void cache(Class<?> superType, TypeDetails resolvedType) {
+		assert isMemoizable( resolvedType );
+		synchronized ( this ) {
+			final HashMap<String, TypeDetails> copy = new HashMap<>( resolvedTypes );
+			copy.put( superType.getName(), resolvedType );
+			resolvedTypes = Map.copyOf( copy );
+		}
+	}
+
+	/**
+	 * Whether the resolved super type may be cached - it is resolved and has no type variables.
+	 */
+	public static boolean isMemoizable(TypeDetails resolvedType) {
+		return resolvedType != null && isFullyResolved( resolvedType );
+	}
+
+	private static boolean isFullyResolved(TypeDetails type) {
+		return switch ( type.getTypeKind() ) {
+			case CLASS, PRIMITIVE, VOID -> true;
+			case ARRAY -> isFullyResolved( type.asArrayType().getConstituentType() );
+			case WILDCARD_TYPE -> type.asWildcardType().getBound() == null
+					|| isFullyResolved( type.asWildcardType().getBound() );
+			case PARAMETERIZED_TYPE -> {
+				for ( TypeDetails argument : type.asParameterizedType().getArguments() ) {
+					if ( !isFullyResolved( argument ) ) {
+						yield false;
+					}
+				}
+				yield true;
+			}
+			default -> false;
+		};
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * The {@linkplain ClassIds ids} of every super type of a class - itself, its super classes and
+ * all of their (transitively) implemented interfaces - as sorted arrays, built once per class
+ * so that {@linkplain ClassDetails#isImplementor} and {@linkplain ClassDetails#isSuperclass}
+ * checks are a lookup rather than a walk of the hierarchy.
+ *
+ * @author Steve Ebersole
+ */
+public class SupertypeIds {
+	private final ClassIds classIds;
+	private final int[] supertypeIds;
+	private final int[] superclassIds;
+
+	private SupertypeIds(ClassIds classIds, int[] supertypeIds, int[] superclassIds) {
+		this.classIds = classIds;
+		this.supertypeIds = supertypeIds;
+		this.superclassIds = superclassIds;
+	}
+
+	public static SupertypeIds of(ClassDetails classDetails, ClassIds classIds) {
+		final HashSet<String> supertypeNames = new HashSet<>();
+		final HashSet<String> superclassNames = new HashSet<>();
+
+		final ArrayDeque<ClassDetails> queue = new ArrayDeque<>();
+		queue.add( classDetails );
+		ClassDetails superClass = classDetails.getSuperClass();
+		while ( superClass != null ) {
+			if ( superClass != ClassDetails.OBJECT_CLASS_DETAILS ) {
+				superclassNames.add( superClass.getName() );
+			}
+			queue.add( superClass );
+			superClass = superClass.getSuperClass();
+		}
+		if ( !classDetails.isPrimitive() ) {
+			supertypeNames.add( Object.class.getName() );
+		}
+
+		while ( !queue.isEmpty() ) {
+			final ClassDetails next = queue.poll();
+			if ( !supertypeNames.add( next.getName() ) ) {
+				continue;
+			}
+			final List<TypeDetails> interfaces = next.getImplementedInterfaces();
+			if ( interfaces != null ) {
+				for ( TypeDetails implementedInterface : interfaces ) {
+					queue.add( implementedInterface.determineRawClass() );
+				}
+			}
+		}
+
+		return new SupertypeIds( classIds, toSortedIds( supertypeNames, classIds ), toSortedIds( superclassNames, classIds ) );
+	}
+
+	private static int[] toSortedIds(HashSet<String> names, ClassIds classIds) {
+		final int[] ids = new int[names.size()];
+		int i = 0;
+		for ( String name : names ) {
+			ids[i++] = classIds.idOf( name );
+		}
+		Arrays.sort( ids );
+		return ids;
+	}
+
+	/**
+	 * Whether the class is, or implements or extends, the named type.
+	 */
+	public boolean isImplementor(String typeName) {
+		return contains( supertypeIds, typeName );
+	}
+
+	/**
+	 * Whether the named type is a super class (other than {@code Object}) of the class.
+	 */
+	public boolean isSuperclass(String typeName) {
+		return contains( superclassIds, typeName );
+	}
+
+	private boolean contains(int[] ids, String typeName) {
+		if ( ids.length == 0 ) {
+			return false;
+		}
+		final int id = classIds.findId( typeName );
+		return id != ClassIds.NO_ID && Arrays.binarySearch( ids, id ) >= 0;
+	}
+}
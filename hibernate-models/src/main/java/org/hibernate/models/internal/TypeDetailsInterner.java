@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableScope;
+
+/**
+ * Per-context table of {@linkplain ModelsContext#internTypeDetails interned} type details, so that
+ * structurally identical class, primitive, void, parameterized and wildcard types share a single instance.
+ * <p/>
+ * Types are keyed by their kind, raw class details and (already interned) arguments or bound.  Type variables
+ * and arrays are never interned - type variables being scoped to their declaration and arrays being handled
+ * by {@linkplain ArrayTypeDetailsImpl#arrayOf}.  Nor are types whose arguments, bound or owner are not
+ * themselves interned, as those compare by identity and so would make every key unique.
+ *
+ * @author Steve Ebersole
+ */
+public class TypeDetailsInterner {
+	private final ConcurrentHashMap<Object, TypeDetails> internedTypes = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	public <T extends TypeDetails> T intern(T typeDetails) {
+		final Object key = internKey( typeDetails );
+		if ( key == null ) {
+			return typeDetails;
+		}
+		final TypeDetails existing = internedTypes.putIfAbsent( key, typeDetails );
+		return existing == null ? typeDetails : (T) existing;
+	}
+
+	private Object internKey(TypeDetails typeDetails) {
+		if ( typeDetails instanceof ParameterizedTypeDetailsImpl parameterizedType ) {
+			// ParameterizedTypeDetailsImpl uses identity equality
+			if ( !parameterizedType.getArguments().stream().allMatch( this::isInterned )
+					|| parameterizedType.getOwner() instanceof TypeDetails ownerType && !isInterned( ownerType ) ) {
+				return null;
+			}
+			return new ParameterizedTypeKey(
+					parameterizedType.getRawClassDetails(),
+					parameterizedType.getArguments(),
+					parameterizedType.getOwner()
+			);
+		}
+		if ( typeDetails instanceof WildcardTypeDetailsImpl wildcardType ) {
+			return wildcardType.getBound() == null || isInterned( wildcardType.getBound() ) ? wildcardType : null;
+		}
+		if ( isStructural( typeDetails ) ) {
+			// these are structurally equal already
+			return typeDetails;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether the type is (equal to) the instance interned for it, and so usable as part of a key.
+	 */
+	private boolean isInterned(TypeDetails typeDetails) {
+		if ( isStructural( typeDetails ) ) {
+			// equal to whichever instance is interned, if any
+			return true;
+		}
+		final Object key = internKey( typeDetails );
+		return key != null && typeDetails.equals( internedTypes.get( key ) );
+	}
+
+	private static boolean isStructural(TypeDetails typeDetails) {
+		return typeDetails instanceof ClassTypeDetailsImpl
+				|| typeDetails instanceof PrimitiveTypeDetailsImpl
+				|| typeDetails instanceof VoidTypeDetailsImpl;
+	}
+
+	private record ParameterizedTypeKey(ClassDetails rawType, List<TypeDetails> arguments, TypeVariableScope owner) {
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+
+import static org.hibernate.models.spi.ClassDetails.OBJECT_CLASS_DETAILS;
+
+/**
+ * Flattened table of the type variables visible to a class - its own and those of each of its
+ * super classes - keyed by declaring class name and identifier, mapped to their binding for that class.
+ * Keyed by name rather than by instance, as the same class may be represented by different instances -
+ * across a {@linkplain org.hibernate.models.spi.ModelsContext#fork() fork}, for example.
+ * Built once per class, so that {@linkplain ClassDetails#resolveTypeVariable resolving} a type
+ * variable is a single lookup rather than a walk of the hierarchy.
+ *
+ * @author Steve Ebersole
+ */
+public class TypeVariableBindings {
+	private final HashMap<String, Map<String, TypeDetails>> bindings;
+
+	private TypeVariableBindings(HashMap<String, Map<String, TypeDetails>> bindings) {
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Build the bindings for the given class, resolving inherited type variables through its
+	 * {@linkplain ClassDetails#getGenericSuperType() generic super type} (and so through the
+	 * bindings of its super class).
+	 */
+	public static TypeVariableBindings of(ClassDetails classDetails) {
+		final HashMap<String, Map<String, TypeDetails>> bindings = new HashMap<>();
+
+		final List<TypeVariableDetails> typeParameters = classDetails.getTypeParameters();
+		if ( CollectionHelper.isNotEmpty( typeParameters ) ) {
+			final HashMap<String, TypeDetails> ownBindings = new HashMap<>();
+			for ( TypeVariableDetails typeParameter : typeParameters ) {
+				ownBindings.putIfAbsent( typeParameter.getIdentifier(), typeParameter );
+			}
+			bindings.put( classDetails.getName(), ownBindings );
+		}
+
+		final TypeDetails genericSuperType = classDetails.getGenericSuperType();
+		if ( genericSuperType != null ) {
+			ClassDetails superClass = classDetails.getSuperClass();
+			while ( superClass != null && superClass != OBJECT_CLASS_DETAILS ) {
+				final List<TypeVariableDetails> superTypeParameters = superClass.getTypeParameters();
+				if ( CollectionHelper.isNotEmpty( superTypeParameters ) ) {
+					final HashMap<String, TypeDetails> superBindings = new HashMap<>();
+					for ( TypeVariableDetails typeParameter : superTypeParameters ) {
+						superBindings.put( typeParameter.getIdentifier(), genericSuperType.resolveTypeVariable( typeParameter ) );
+					}
+					bindings.put( superClass.getName(), superBindings );
+				}
+				superClass = superClass.getSuperClass();
+			}
+		}
+
+		return new TypeVariableBindings( bindings );
+	}
+
+	/**
+	 * The binding of the given type variable, or {@code null} if it is not visible to the class.
+	 */
+	public TypeDetails resolve(TypeVariableDetails typeVariable) {
+		final Map<String, TypeDetails> declaringTypeBindings = bindings.get( typeVariable.getDeclaringType().getName() );
+		return declaringTypeBindings == null ? null : declaringTypeBindings.get( typeVariable.getIdentifier() );
+	}
+}
@@ -13,7 +13,7 @@ import org.hibernate.models.spi.TypeVariableDetails;
 /**
  * @author Steve Ebersole
  */
-public class TypeVariableDetailsImpl implements TypeVariableDetails {
+public class TypeVariableDetailsImpl extends AbstractMemoizingTypeDetails implements TypeVariableDetails {
 	private final String identifier;
 	private final ClassDetails declaringType;
 	private final List<TypeDetails> bounds;
@@ -19,6 +19,8 @@ import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
 
+import static org.hibernate.models.internal.util.PrimitiveTypeHelper.resolvePrimitiveClass;
+
 /**
  * ClassDetailsBuilder implementation based on {@link Class}
  *
@@ -35,6 +37,39 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 		return buildClassDetailsStatic( name, modelsContext );
 	}
 
+	@Override
+	public JdkClassDetails findClassDetails(String name, ModelsContext modelsContext) {
+		return findClassDetailsStatic( name, modelsContext );
+	}
+
+	/**
+	 * Like {@linkplain #buildClassDetailsStatic(String, ModelsContext)}, except that
+	 * {@code null} is returned rather than throwing {@linkplain UnknownClassException}
+	 * if there is no such class.
+	 */
+	public static JdkClassDetails findClassDetailsStatic(String name, ModelsContext modelsContext) {
+		final Class<?> primitiveClass = resolvePrimitiveClass( name );
+		if ( primitiveClass != null && primitiveClass.isPrimitive() ) {
+			return buildClassDetailsStatic( primitiveClass, modelsContext );
+		}
+		if ( name.startsWith( "[" ) ) {
+			return buildArrayClassDetails( name, modelsContext );
+		}
+
+		final Class<?> loadedClass = modelsContext.getClassLoading().findClassForName( name );
+		if ( loadedClass != null ) {
+			return buildClassDetailsStatic( loadedClass, modelsContext );
+		}
+
+		// see if it might be a package name...
+		final Class<?> packageInfoClass = modelsContext.getClassLoading().findClassForName( name + ".package-info" );
+		if ( packageInfoClass != null ) {
+			return buildClassDetailsStatic( packageInfoClass, modelsContext );
+		}
+
+		return null;
+	}
+
 	public static JdkClassDetails buildClassDetailsStatic(String name, ModelsContext modelsContext) {
 		if ( char.class.getName().equals( name ) ) {
 			return buildClassDetailsStatic( char.class, modelsContext );
@@ -94,11 +129,12 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 	}
 
 	private static ClassDetails resolveArrayComponentType(String componentTypeName, ModelsContext modelsContext) {
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
 		if ( componentTypeName.startsWith( "[" ) ) {
-			return buildArrayClassDetails( componentTypeName, modelsContext );
+			// resolve through the registry so that the component array is built (and parsed) only once
+			return classDetailsRegistry.resolveClassDetails( componentTypeName );
 		}
 
-		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
 		if ( componentTypeName.length() == 1 ) {
 			// this is a primitive array...
 			final PrimitiveKind primitiveKind = PrimitiveKind.resolveFromTypeChar( componentTypeName.charAt( 0 ) );
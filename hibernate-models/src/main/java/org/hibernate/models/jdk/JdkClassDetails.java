@@ -15,9 +15,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.models.internal.ClassDetailsCaches;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.internal.TypeVariableDetailsImpl;
 import org.hibernate.models.jdk.internal.AbstractJdkAnnotationTarget;
+import org.hibernate.models.jdk.internal.JdkReflectionData;
 import org.hibernate.models.support.ClassDetailsSupport;
-import org.hibernate.models.internal.util.CollectionHelper;
 import org.hibernate.models.serial.internal.SerialClassDetailsImpl;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.ClassDetails;
@@ -25,6 +29,7 @@ import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ConstructorDetails;
 import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.spi.ModelsContext;
@@ -42,16 +47,19 @@ import static org.hibernate.models.internal.util.CollectionHelper.arrayList;
 public class JdkClassDetails extends AbstractJdkAnnotationTarget implements ClassDetailsSupport {
 	private final String name;
 	private final Class<?> managedClass;
+	private final JdkReflectionData reflectionData;
 
 	private final ClassDetails superClass;
-	private List<TypeDetails> interfaces;
-	private TypeDetails genericSuperType;
-	private List<TypeVariableDetails> typeParameters;
+	private volatile List<TypeDetails> interfaces;
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeVariableDetails> typeParameters;
 
-	private List<ConstructorDetails> constructors;
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
-	private List<RecordComponentDetails> recordComponents;
+	private volatile List<ConstructorDetails> constructors;
+	private volatile List<FieldDetails> fields;
+	private volatile List<MethodDetails> methods;
+	private volatile List<RecordComponentDetails> recordComponents;
+
+	private final ClassDetailsCaches caches;
 
 	public JdkClassDetails(
 			Class<?> managedClass,
@@ -66,7 +74,9 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		super( managedClass::getAnnotations, modelContext );
 		this.name = name;
 		this.managedClass = managedClass;
+		this.reflectionData = JdkReflectionData.of( managedClass );
 		this.superClass = determineSuperClass( managedClass, modelContext );
+		this.caches = new ClassDetailsCaches( this, modelContext );
 	}
 
 	private static ClassDetails determineSuperClass(Class<?> managedClass, ModelsContext modelContext) {
@@ -123,7 +133,7 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 
 	@Override
 	public boolean isAbstract() {
-		return Modifier.isAbstract( managedClass.getModifiers() );
+		return Modifier.isAbstract( reflectionData.getModifiers() );
 	}
 
 	@Override
@@ -146,30 +156,188 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		return superClass;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Freezing a class also freezes its members.
+	 */
+	@Override
+	public void freeze() {
+		if ( isFrozen() ) {
+			return;
+		}
+		super.freeze();
+		if ( constructors != null ) {
+			constructors = frozen( constructors );
+		}
+		if ( fields != null ) {
+			fields = frozen( fields );
+		}
+		if ( methods != null ) {
+			methods = frozen( methods );
+		}
+		if ( recordComponents != null ) {
+			recordComponents = frozen( recordComponents );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Sealing a class also seals its members, and shares the types retained for the class and
+	 * its members - resolutions against them must not be memoized, as they may be relative
+	 * to the classes of any one context.  Members and types built after sealing are sealed
+	 * and shared as they are built.
+	 */
+	@Override
+	public void seal() {
+		super.seal();
+		sealMembers( constructors );
+		sealMembers( fields );
+		sealMembers( methods );
+		sealMembers( recordComponents );
+		shareTypes();
+	}
+
+	private void shareTypes() {
+		shareType( genericSuperType );
+		shareTypes( interfaces );
+		shareTypes( typeParameters );
+		shareMemberTypes( fields );
+		shareMemberTypes( methods );
+		shareMemberTypes( recordComponents );
+	}
+
+	private static void shareTypes(List<? extends TypeDetails> types) {
+		if ( types != null ) {
+			for ( int i = 0; i < types.size(); i++ ) {
+				shareType( types.get( i ) );
+			}
+		}
+	}
+
+	private static void shareMemberTypes(List<?> members) {
+		if ( members != null ) {
+			for ( int i = 0; i < members.size(); i++ ) {
+				if ( members.get( i ) instanceof MemberDetails member ) {
+					shareType( member.getType() );
+				}
+			}
+		}
+	}
+
+	private static void shareType(TypeDetails type) {
+		if ( type == null ) {
+			return;
+		}
+		switch ( type.getTypeKind() ) {
+			case CLASS, PRIMITIVE, VOID -> {
+				if ( type instanceof ClassTypeDetailsImpl classType ) {
+					classType.share();
+				}
+			}
+			case PARAMETERIZED_TYPE -> {
+				if ( type instanceof ParameterizedTypeDetailsImpl parameterizedType && parameterizedType.share() ) {
+					shareTypes( parameterizedType.getArguments() );
+					if ( parameterizedType.getOwner() instanceof TypeDetails owner ) {
+						shareType( owner );
+					}
+				}
+			}
+			case ARRAY -> shareType( type.asArrayType().getConstituentType() );
+			case WILDCARD_TYPE -> shareType( type.asWildcardType().getBound() );
+			case TYPE_VARIABLE -> {
+				if ( type instanceof TypeVariableDetailsImpl typeVariable && typeVariable.share() ) {
+					shareTypes( typeVariable.getBounds() );
+				}
+			}
+		}
+	}
+
+	private <T> List<T> publishable(List<T> built) {
+		if ( isSealed() ) {
+			sealMembers( built );
+			shareMemberTypes( built );
+		}
+		return isFrozen() ? frozen( built ) : built;
+	}
+
+	private static <T> List<T> frozen(List<T> members) {
+		for ( int i = 0; i < members.size(); i++ ) {
+			if ( members.get( i ) instanceof AbstractJdkAnnotationTarget member ) {
+				member.freeze();
+			}
+		}
+		return Collections.unmodifiableList( members );
+	}
+
+	private static <T> void sealMembers(List<T> members) {
+		if ( members != null ) {
+			for ( int i = 0; i < members.size(); i++ ) {
+				if ( members.get( i ) instanceof AbstractJdkAnnotationTarget member ) {
+					member.seal();
+				}
+			}
+		}
+	}
+
 	@Override
 	public TypeDetails getGenericSuperType() {
-		if ( genericSuperType == null && managedClass.getGenericSuperclass() != null ) {
-			genericSuperType = new JdkTrackingTypeSwitcher( getModelContext() ).switchType( managedClass.getGenericSuperclass() );
+		if ( reflectionData.getGenericSuperclass() == null ) {
+			return null;
 		}
-		return genericSuperType;
+		final TypeDetails result = genericSuperType;
+		return result == null ? resolveClassTypes().genericSuperType() : result;
 	}
 
 	@Override
 	public List<TypeDetails> getImplementedInterfaces() {
-		if ( interfaces == null ) {
-			interfaces = collectInterfaces();
+		final List<TypeDetails> result = interfaces;
+		return result == null ? resolveClassTypes().interfaces() : result;
+	}
+
+	@Override
+	public List<TypeVariableDetails> getTypeParameters() {
+		final List<TypeVariableDetails> result = typeParameters;
+		return result == null ? resolveClassTypes().typeParameters() : result;
+	}
+
+	/**
+	 * The class-level types, switched together through a single type switcher so that
+	 * references to the type parameters of the class resolve to the same details.
+	 */
+	private record ClassTypes(
+			TypeDetails genericSuperType,
+			List<TypeDetails> interfaces,
+			List<TypeVariableDetails> typeParameters) {
+	}
+
+	private ClassTypes resolveClassTypes() {
+		final JdkTrackingTypeSwitcher typeSwitcher = new JdkTrackingTypeSwitcher( getModelContext() );
+		final List<TypeVariableDetails> typeParameters = collectTypeParameters( typeSwitcher );
+		final Type jdkGenericSuperType = reflectionData.getGenericSuperclass();
+		final TypeDetails genericSuperType = jdkGenericSuperType == null
+				? null
+				: typeSwitcher.switchType( jdkGenericSuperType );
+		final List<TypeDetails> interfaces = collectInterfaces( typeSwitcher );
+		if ( isSealed() ) {
+			shareTypes( typeParameters );
+			shareType( genericSuperType );
+			shareTypes( interfaces );
 		}
-		return interfaces;
+		this.typeParameters = typeParameters;
+		this.genericSuperType = genericSuperType;
+		this.interfaces = interfaces;
+		return new ClassTypes( genericSuperType, interfaces, typeParameters );
 	}
 
-	private List<TypeDetails> collectInterfaces() {
-		final Type[] jdkInterfaces = managedClass.getGenericInterfaces();
-		if ( CollectionHelper.isEmpty( jdkInterfaces ) ) {
+	private List<TypeDetails> collectInterfaces(JdkTrackingTypeSwitcher typeSwitcher) {
+		final List<Type> jdkInterfaces = reflectionData.getGenericInterfaces();
+		if ( jdkInterfaces.isEmpty() ) {
 			return Collections.emptyList();
 		}
 
-		final ArrayList<TypeDetails> result = arrayList( jdkInterfaces.length );
-		final JdkTrackingTypeSwitcher typeSwitcher = new JdkTrackingTypeSwitcher( getModelContext() );
+		final ArrayList<TypeDetails> result = arrayList( jdkInterfaces.size() );
 		for ( Type jdkInterface : jdkInterfaces ) {
 			final TypeDetails switchedInterfaceType = typeSwitcher.switchType( jdkInterface );
 			result.add( switchedInterfaceType );
@@ -177,88 +345,94 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		return result;
 	}
 
-	@Override
-	public List<TypeVariableDetails> getTypeParameters() {
-		if ( typeParameters == null ) {
-			typeParameters = collectTypeParameters();
-		}
-		return typeParameters;
-	}
-
-	private List<TypeVariableDetails> collectTypeParameters() {
-		final TypeVariable<? extends Class<?>>[] jdkTypeParameters = managedClass.getTypeParameters();
-		if ( CollectionHelper.isEmpty( jdkTypeParameters ) ) {
+	private List<TypeVariableDetails> collectTypeParameters(JdkTrackingTypeSwitcher typeSwitcher) {
+		final List<TypeVariable<?>> jdkTypeParameters = reflectionData.getTypeParameters();
+		if ( jdkTypeParameters.isEmpty() ) {
 			return Collections.emptyList();
 		}
 
-		final ArrayList<TypeVariableDetails> result = arrayList( jdkTypeParameters.length );
-		final JdkTrackingTypeSwitcher typeSwitcher = new JdkTrackingTypeSwitcher( getModelContext() );
-		for ( TypeVariable<? extends Class<?>> jdkTypeParameter : jdkTypeParameters ) {
+		final ArrayList<TypeVariableDetails> result = arrayList( jdkTypeParameters.size() );
+		for ( TypeVariable<?> jdkTypeParameter : jdkTypeParameters ) {
 			result.add( (TypeVariableDetails) typeSwitcher.switchType( jdkTypeParameter ) );
 		}
 		return result;
 	}
 
+	@Override
+	public ClassDetailsCaches getCaches() {
+		return caches;
+	}
+
 	@Override
 	public boolean isImplementor(Class<?> checkType) {
 		return checkType.isAssignableFrom( managedClass );
 	}
 
+	@Override
+	public boolean isImplementor(ClassDetails checkType) {
+		return caches.isImplementor( checkType.getName() );
+	}
+
+	@Override
+	public boolean isSuperclass(ClassDetails classDetails) {
+		return caches.isSuperclass( classDetails.getName() );
+	}
+
 	@Override
 	public List<ConstructorDetails> getConstructors() {
-		if ( constructors == null ) {
-			final Constructor<?>[] reflectionConstructors = managedClass.getDeclaredConstructors();
-			this.constructors = arrayList( reflectionConstructors.length );
-			for ( int i = 0; i < reflectionConstructors.length; i++ ) {
-				final Constructor<?> reflectionConstructor = reflectionConstructors[i];
-				if ( reflectionConstructor.isSynthetic() ) {
-					continue;
-				}
-				constructors.add( new JdkConstructorDetails( reflectionConstructor, this, getModelContext() ) );
+		List<ConstructorDetails> result = constructors;
+		if ( result == null ) {
+			final List<Constructor<?>> reflectionConstructors = reflectionData.getDeclaredConstructors();
+			result = arrayList( reflectionConstructors.size() );
+			for ( int i = 0; i < reflectionConstructors.size(); i++ ) {
+				result.add( new JdkConstructorDetails( reflectionConstructors.get( i ), this, getModelContext() ) );
 			}
+			result = publishable( result );
+			constructors = result;
 		}
-		return constructors;
+		return result;
 	}
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			final Field[] reflectionFields = managedClass.getDeclaredFields();
-			this.fields = arrayList( reflectionFields.length );
-			for ( int i = 0; i < reflectionFields.length; i++ ) {
-				final Field reflectionField = reflectionFields[i];
-				if ( reflectionField.isSynthetic() ) {
-					continue;
-				}
-				fields.add( new JdkFieldDetails( reflectionField, this, getModelContext() ) );
+		List<FieldDetails> result = fields;
+		if ( result == null ) {
+			final List<Field> reflectionFields = reflectionData.getDeclaredFields();
+			result = arrayList( reflectionFields.size() );
+			for ( int i = 0; i < reflectionFields.size(); i++ ) {
+				result.add( new JdkFieldDetails( reflectionFields.get( i ), this, getModelContext() ) );
 			}
+			result = publishable( result );
+			fields = result;
 		}
-		return fields;
+		return result;
 	}
 
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		caches.invalidate();
 	}
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			final Method[] reflectionMethods = managedClass.getDeclaredMethods();
-			this.methods = arrayList( reflectionMethods.length );
-			for ( int i = 0; i < reflectionMethods.length; i++ ) {
-				if ( reflectionMethods[i].isSynthetic() ) {
-					continue;
-				}
-				this.methods.add( buildMethodDetails( reflectionMethods[i], this, getModelContext() ) );
+		List<MethodDetails> result = methods;
+		if ( result == null ) {
+			final List<Method> reflectionMethods = reflectionData.getDeclaredMethods();
+			result = arrayList( reflectionMethods.size() );
+			for ( int i = 0; i < reflectionMethods.size(); i++ ) {
+				result.add( buildMethodDetails( reflectionMethods.get( i ), this, getModelContext() ) );
 			}
+			result = publishable( result );
+			methods = result;
 		}
-		return methods;
+		return result;
 	}
 
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		caches.invalidate();
 	}
 
 	@Override
@@ -266,14 +440,17 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		if ( !isRecord() ) {
 			return Collections.emptyList();
 		}
-		if ( recordComponents == null ) {
-			final RecordComponent[] jdkRecordComponents = managedClass.getRecordComponents();
-			recordComponents = arrayList( jdkRecordComponents.length );
-			for ( int i = 0; i < jdkRecordComponents.length; i++ ) {
-				recordComponents.add( new JdkRecordComponentDetails( jdkRecordComponents[i], this, getModelContext() ) );
+		List<RecordComponentDetails> result = recordComponents;
+		if ( result == null ) {
+			final List<RecordComponent> jdkRecordComponents = reflectionData.getRecordComponents();
+			result = arrayList( jdkRecordComponents.size() );
+			for ( int i = 0; i < jdkRecordComponents.size(); i++ ) {
+				result.add( new JdkRecordComponentDetails( jdkRecordComponents.get( i ), this, getModelContext() ) );
 			}
+			result = publishable( result );
+			recordComponents = result;
 		}
-		return recordComponents;
+		return result;
 	}
 
 	@Override
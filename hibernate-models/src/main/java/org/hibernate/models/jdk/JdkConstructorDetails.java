@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.jdk.internal.AbstractJdkAnnotationTarget;
+import org.hibernate.models.jdk.internal.JdkReflectionData;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
@@ -25,6 +26,9 @@ public class JdkConstructorDetails extends AbstractJdkAnnotationTarget implement
 	private final ClassDetails declaringType;
 	private final List<ClassDetails> argumentTypes;
 
+	// copy of the shared constructor, handed out by #toJavaConstructor
+	private volatile Constructor<?> javaConstructor;
+
 	public JdkConstructorDetails(
 			Constructor<?> constructor,
 			ClassDetails declaringType,
@@ -57,7 +61,12 @@ public class JdkConstructorDetails extends AbstractJdkAnnotationTarget implement
 
 	@Override
 	public Constructor<?> toJavaConstructor() {
-		return constructor;
+		Constructor<?> result = javaConstructor;
+		if ( result == null ) {
+			result = JdkReflectionData.copyOf( constructor );
+			javaConstructor = result;
+		}
+		return result;
 	}
 
 	@Override
@@ -13,6 +13,7 @@ import java.util.Map;
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.ModelsException;
 import org.hibernate.models.jdk.internal.AbstractJdkAnnotationTarget;
+import org.hibernate.models.jdk.internal.JdkReflectionData;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.MethodDetails;
@@ -36,6 +37,9 @@ public class JdkFieldDetails extends AbstractJdkAnnotationTarget implements Fiel
 	private final boolean isArray;
 	private final boolean isPlural;
 
+	// copy of the shared field, handed out by #toJavaMember
+	private volatile Field javaMember;
+
 	public JdkFieldDetails(Field field, JdkClassDetails declaringType, ModelsContext modelsContext) {
 		super( field::getAnnotations, modelsContext );
 		this.field = field;
@@ -65,13 +69,18 @@ public class JdkFieldDetails extends AbstractJdkAnnotationTarget implements Fiel
 
 	@Override
 	public Field toJavaMember() {
-		return field;
+		Field result = javaMember;
+		if ( result == null ) {
+			result = JdkReflectionData.copyOf( field );
+			javaMember = result;
+		}
+		return result;
 	}
 
 	@Override
 	public Field toJavaMember(Class<?> declaringClass, ClassLoading classLoading, ModelsContext modelContext) {
 		if ( declaringClass == field.getDeclaringClass() ) {
-			return field;
+			return toJavaMember();
 		}
 		try {
 			// make sure the type ends up on the given class-loading
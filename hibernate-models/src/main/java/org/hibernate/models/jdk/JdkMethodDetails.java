@@ -14,6 +14,7 @@ import java.util.Map;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.jdk.internal.AbstractJdkAnnotationTarget;
+import org.hibernate.models.jdk.internal.JdkReflectionData;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.FieldDetails;
@@ -48,6 +49,9 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 	private final boolean isArray;
 	private final boolean isPlural;
 
+	// copy of the shared method, handed out by #toJavaMember
+	private volatile Method javaMember;
+
 	public JdkMethodDetails(
 			Method method,
 			MethodKind methodKind,
@@ -93,7 +97,7 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 	}
 
 	public Method getMethod() {
-		return method;
+		return toJavaMember();
 	}
 
 	@Override
@@ -128,13 +132,18 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 
 	@Override
 	public Method toJavaMember() {
-		return method;
+		Method result = javaMember;
+		if ( result == null ) {
+			result = JdkReflectionData.copyOf( method );
+			javaMember = result;
+		}
+		return result;
 	}
 
 	@Override
 	public Method toJavaMember(Class<?> declaringClass, ClassLoading classLoading, ModelsContext modelContext) {
 		if ( declaringClass == method.getDeclaringClass() ) {
-			return method;
+			return toJavaMember();
 		}
 		return resolveJavaMember( this, declaringClass, classLoading, modelContext );
 	}
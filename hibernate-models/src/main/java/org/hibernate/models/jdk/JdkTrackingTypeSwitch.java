@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import org.hibernate.models.internal.ArrayTypeDetailsImpl;
 import org.hibernate.models.internal.ClassTypeDetailsImpl;
 import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
 import org.hibernate.models.internal.PrimitiveTypeDetailsImpl;
@@ -57,23 +56,23 @@ public class JdkTrackingTypeSwitch implements JdkTypeSwitch<TypeDetails> {
 				.getClassDetailsRegistry()
 				.resolveClassDetails( classType.getName() );
 		if ( classType.isPrimitive() ) {
-			return new PrimitiveTypeDetailsImpl( classDetails );
+			return modelsContext.internTypeDetails( new PrimitiveTypeDetailsImpl( classDetails ) );
 		}
 		if ( isVoid( classDetails.toJavaClass() ) ) {
-			return new VoidTypeDetailsImpl( classDetails );
+			return modelsContext.internTypeDetails( new VoidTypeDetailsImpl( classDetails ) );
 		}
-		return new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS );
+		return modelsContext.internTypeDetails( new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS ) );
 	}
 
 	public ParameterizedTypeDetails caseParameterizedType(ParameterizedType parameterizedType) {
 		final ClassDetails classDetails = modelsContext
 				.getClassDetailsRegistry()
 				.resolveClassDetails( parameterizedType.getRawType().getTypeName() );
-		return new ParameterizedTypeDetailsImpl(
+		return modelsContext.internTypeDetails( new ParameterizedTypeDetailsImpl(
 				classDetails,
 				extractTypeParameters( parameterizedType ),
 				null
-		);
+		) );
 	}
 
 	public WildcardTypeDetails caseWildcardType(WildcardType wildcardType) {
@@ -84,14 +83,14 @@ public class JdkTrackingTypeSwitch implements JdkTypeSwitch<TypeDetails> {
 			final TypeDetails upper = numberOfBounds == 1
 					? switcher.switchType( wildcardType.getUpperBounds()[0] )
 					: OBJECT_TYPE_DETAILS;
-			return new WildcardTypeDetailsImpl( upper, true );
+			return modelsContext.internTypeDetails( new WildcardTypeDetailsImpl( upper, true ) );
 		}
 
 		final int numberOfBounds = CollectionHelper.length( lowerBounds );
 		final TypeDetails lower = numberOfBounds == 1
 				? switcher.switchType( lowerBounds[0] )
 				: OBJECT_TYPE_DETAILS;
-		return new WildcardTypeDetailsImpl( lower, false );
+		return modelsContext.internTypeDetails( new WildcardTypeDetailsImpl( lower, false ) );
 	}
 
 	public TypeVariableDetails caseTypeVariable(TypeVariable<?> typeVariable) {
@@ -123,14 +122,7 @@ public class JdkTrackingTypeSwitch implements JdkTypeSwitch<TypeDetails> {
 
 	private ArrayTypeDetails asArrayType(Class<?> arrayClass) {
 		assert arrayClass.isArray();
-		final ClassDetails arrayClassDetails = modelsContext
-				.getClassDetailsRegistry()
-				.resolveClassDetails( arrayClass.getName() );
-		return new ArrayTypeDetailsImpl(
-				arrayClassDetails,
-				switcher.switchType( arrayClass.getComponentType() ),
-				modelsContext.getClassDetailsRegistry()
-		);
+		return TypeDetails.arrayType( switcher.switchType( arrayClass.getComponentType() ), modelsContext );
 	}
 
 	public List<TypeDetails> extractTypeParameters(ParameterizedType parameterizedType) {
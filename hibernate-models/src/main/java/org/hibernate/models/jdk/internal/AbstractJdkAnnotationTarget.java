@@ -5,6 +5,9 @@
 package org.hibernate.models.jdk.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -23,7 +26,10 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 	private final Supplier<Annotation[]> annotationSupplier;
 	private final ModelsContext modelContext;
 
-	private Map<Class<? extends Annotation>, ? extends Annotation> usagesMap;
+	private volatile Map<Class<? extends Annotation>, ? extends Annotation> usagesMap;
+	private volatile boolean frozen;
+	private volatile boolean sealed;
+	private volatile Supplier<? extends Collection<? extends Annotation>> deferredUsages;
 
 	public AbstractJdkAnnotationTarget(
 			Supplier<Annotation[]> annotationSupplier,
@@ -36,12 +42,87 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 		return modelContext;
 	}
 
+	/**
+	 * Whether this target has been {@linkplain #freeze() frozen}.
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Mark this target as immutable, so that it may be safely shared.  Any
+	 * lazily built state is built as unmodifiable from this point on.
+	 */
+	public void freeze() {
+		if ( frozen ) {
+			return;
+		}
+		frozen = true;
+		final Map<Class<? extends Annotation>, ? extends Annotation> existing = usagesMap;
+		if ( existing != null ) {
+			usagesMap = Collections.unmodifiableMap( existing );
+		}
+	}
+
+	/**
+	 * Whether this target has been {@linkplain #seal() sealed}.
+	 */
+	public boolean isSealed() {
+		return sealed;
+	}
+
+	/**
+	 * {@linkplain #freeze() Freeze} this target for sharing across contexts.  Sealing blocks mutation,
+	 * not retention - lazily built state is still retained, built as shared.
+	 */
+	public void seal() {
+		freeze();
+		sealed = true;
+	}
+
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap();
+		final Map<Class<? extends Annotation>, ? extends Annotation> result = usagesMap;
+		if ( result == null || deferredUsages != null ) {
+			return initializeUsagesMap();
+		}
+		return result;
+	}
+
+	private synchronized Map<Class<? extends Annotation>, ? extends Annotation> initializeUsagesMap() {
+		Map<Class<? extends Annotation>, ? extends Annotation> result = usagesMap;
+		if ( result == null ) {
+			result = buildUsagesMap();
+		}
+		final Supplier<? extends Collection<? extends Annotation>> deferred = deferredUsages;
+		if ( deferred != null ) {
+			for ( Annotation usage : deferred.get() ) {
+				//noinspection unchecked,rawtypes
+				( (Map) result ).put( usage.annotationType(), usage );
+			}
+			deferredUsages = null;
+		}
+		if ( frozen && usagesMap != result ) {
+			result = Collections.unmodifiableMap( result );
+		}
+		usagesMap = result;
+		return result;
+	}
+
+	@Override
+	public synchronized void deferAnnotationUsages(Supplier<? extends Collection<? extends Annotation>> usages) {
+		final Supplier<? extends Collection<? extends Annotation>> existing = deferredUsages;
+		if ( existing == null ) {
+			deferredUsages = usages;
+		}
+		else {
+			deferredUsages = () -> {
+				final ArrayList<Annotation> combined = new ArrayList<>( existing.get() );
+				combined.addAll( usages.get() );
+				return combined;
+			};
 		}
-		return usagesMap;
+		annotationUsagesChanged();
 	}
 
 	private Map<Class<? extends Annotation>, ? extends Annotation> buildUsagesMap() {
@@ -59,11 +140,13 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
 	@Override
 	public <X extends Annotation> void addAnnotationUsage(X annotationUsage) {
 		//noinspection unchecked,rawtypes
 		( (Map) getUsageMap() ).put( annotationUsage.annotationType(), annotationUsage );
+		annotationUsagesChanged();
 	}
 }
@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.jdk.internal;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.models.ModelsException;
+
+/**
+ * Context-independent, raw reflection data for a {@linkplain Class}, shared by
+ * every {@linkplain org.hibernate.models.spi.ModelsContext} which builds a
+ * {@linkplain org.hibernate.models.jdk.JdkClassDetails} for that class.
+ * <p/>
+ * The non-synthetic {@linkplain Field fields}, {@linkplain Method methods} and
+ * {@linkplain Constructor constructors}, the {@linkplain RecordComponent record components} and the
+ * class-level generic information are read from the JDK once per class and shared.  The shared
+ * members are only ever read - use {@linkplain #copyOf(Field)} and friends for a copy whose
+ * {@linkplain AccessibleObject#setAccessible accessibility} may be changed without affecting
+ * any other context.
+ *
+ * @implNote Each part is held in its own {@linkplain ClassValue}, computed on first access without
+ * any global lock.  The values are immutable lists of JDK types only - never types of this library -
+ * so attaching them to JDK and parent-loader classes does not pin the ClassLoader of this library.
+ *
+ * @author Steve Ebersole
+ */
+public final class JdkReflectionData {
+	private static final ClassValue<List<Field>> DECLARED_FIELDS = new ClassValue<>() {
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			return nonSynthetic( type.getDeclaredFields() );
+		}
+	};
+
+	private static final ClassValue<List<Method>> DECLARED_METHODS = new ClassValue<>() {
+		@Override
+		protected List<Method> computeValue(Class<?> type) {
+			return nonSynthetic( type.getDeclaredMethods() );
+		}
+	};
+
+	private static final ClassValue<List<Constructor<?>>> DECLARED_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected List<Constructor<?>> computeValue(Class<?> type) {
+			return nonSynthetic( type.getDeclaredConstructors() );
+		}
+	};
+
+	private static final ClassValue<List<RecordComponent>> RECORD_COMPONENTS = new ClassValue<>() {
+		@Override
+		protected List<RecordComponent> computeValue(Class<?> type) {
+			return type.isRecord() ? List.of( type.getRecordComponents() ) : List.of();
+		}
+	};
+
+	private static final ClassValue<List<Type>> GENERIC_INTERFACES = new ClassValue<>() {
+		@Override
+		protected List<Type> computeValue(Class<?> type) {
+			return List.of( type.getGenericInterfaces() );
+		}
+	};
+
+	private static final ClassValue<List<TypeVariable<?>>> TYPE_PARAMETERS = new ClassValue<>() {
+		@Override
+		protected List<TypeVariable<?>> computeValue(Class<?> type) {
+			return List.of( type.getTypeParameters() );
+		}
+	};
+
+	// List rather than Optional, as the generic superclass may be null
+	private static final ClassValue<List<Type>> GENERIC_SUPERCLASS = new ClassValue<>() {
+		@Override
+		protected List<Type> computeValue(Class<?> type) {
+			final Type genericSuperclass = type.getGenericSuperclass();
+			return genericSuperclass == null ? List.of() : List.of( genericSuperclass );
+		}
+	};
+
+	/**
+	 * Access the shared reflection data for the given class - a cheap view, the data itself is shared.
+	 */
+	public static JdkReflectionData of(Class<?> javaClass) {
+		return new JdkReflectionData( javaClass );
+	}
+
+	private final Class<?> javaClass;
+	private final int modifiers;
+
+	private JdkReflectionData(Class<?> javaClass) {
+		this.javaClass = javaClass;
+		this.modifiers = javaClass.getModifiers();
+	}
+
+	public int getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * The shared, non-synthetic {@linkplain Class#getDeclaredFields() declared fields}
+	 */
+	public List<Field> getDeclaredFields() {
+		return DECLARED_FIELDS.get( javaClass );
+	}
+
+	/**
+	 * The shared, non-synthetic {@linkplain Class#getDeclaredMethods() declared methods}
+	 */
+	public List<Method> getDeclaredMethods() {
+		return DECLARED_METHODS.get( javaClass );
+	}
+
+	/**
+	 * The shared, non-synthetic {@linkplain Class#getDeclaredConstructors() declared constructors}
+	 */
+	public List<Constructor<?>> getDeclaredConstructors() {
+		return DECLARED_CONSTRUCTORS.get( javaClass );
+	}
+
+	/**
+	 * The shared {@linkplain Class#getRecordComponents() record components}; empty if not a record.
+	 */
+	public List<RecordComponent> getRecordComponents() {
+		return RECORD_COMPONENTS.get( javaClass );
+	}
+
+	/**
+	 * The {@linkplain Class#getGenericInterfaces() generic interfaces}
+	 */
+	public List<Type> getGenericInterfaces() {
+		return GENERIC_INTERFACES.get( javaClass );
+	}
+
+	/**
+	 * The {@linkplain Class#getTypeParameters() type parameters}
+	 */
+	public List<TypeVariable<?>> getTypeParameters() {
+		return TYPE_PARAMETERS.get( javaClass );
+	}
+
+	/**
+	 * The {@linkplain Class#getGenericSuperclass() generic superclass}; may be {@code null}.
+	 */
+	public Type getGenericSuperclass() {
+		final List<Type> genericSuperclass = GENERIC_SUPERCLASS.get( javaClass );
+		return genericSuperclass.isEmpty() ? null : genericSuperclass.get( 0 );
+	}
+
+	/**
+	 * A copy of the given (shared) field, whose accessibility is not shared.
+	 */
+	public static Field copyOf(Field field) {
+		try {
+			return field.getDeclaringClass().getDeclaredField( field.getName() );
+		}
+		catch (NoSuchFieldException e) {
+			throw unableToCopy( field, e );
+		}
+	}
+
+	/**
+	 * A copy of the given (shared) method, whose accessibility is not shared.
+	 */
+	public static Method copyOf(Method method) {
+		try {
+			return method.getDeclaringClass().getDeclaredMethod( method.getName(), method.getParameterTypes() );
+		}
+		catch (NoSuchMethodException e) {
+			throw unableToCopy( method, e );
+		}
+	}
+
+	/**
+	 * A copy of the given (shared) constructor, whose accessibility is not shared.
+	 */
+	public static <T> Constructor<T> copyOf(Constructor<T> constructor) {
+		try {
+			return constructor.getDeclaringClass().getDeclaredConstructor( constructor.getParameterTypes() );
+		}
+		catch (NoSuchMethodException e) {
+			throw unableToCopy( constructor, e );
+		}
+	}
+
+	private static ModelsException unableToCopy(Member member, Exception cause) {
+		return new ModelsException(
+				String.format(
+						Locale.ROOT,
+						"Unable to copy member `%s` of %s",
+						member.getName(),
+						member.getDeclaringClass().getName()
+				),
+				cause
+		);
+	}
+
+	private static <M extends Member> List<M> nonSynthetic(M[] members) {
+		final List<M> result = new ArrayList<>( members.length );
+		for ( int i = 0; i < members.length; i++ ) {
+			if ( !members[i].isSynthetic() ) {
+				result.add( members[i] );
+			}
+		}
+		return List.copyOf( result );
+	}
+
+	@Override
+	public String toString() {
+		return "JdkReflectionData(" + javaClass.getName() + ")";
+	}
+}
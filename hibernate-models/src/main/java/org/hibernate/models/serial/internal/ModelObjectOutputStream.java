@@ -8,7 +8,7 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 
-import org.hibernate.models.serial.spi.ModelsArchiveWriter;
+import org.hibernate.models.serial.spi.ModelReferenceCollector;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ConstructorDetails;
 import org.hibernate.models.spi.FieldDetails;
@@ -24,9 +24,9 @@ import org.hibernate.models.spi.TypeDetails;
 ///
 /// @author Steve Ebersole
 public class ModelObjectOutputStream extends ObjectOutputStream {
-	private final ModelsArchiveWriter archiveWriter;
+	private final ModelReferenceCollector archiveWriter;
 
-	public ModelObjectOutputStream(OutputStream out, ModelsArchiveWriter archiveWriter) throws IOException {
+	public ModelObjectOutputStream(OutputStream out, ModelReferenceCollector archiveWriter) throws IOException {
 		super( out );
 		if ( archiveWriter == null ) {
 			throw new IllegalArgumentException( "Models archive writer cannot be null" );
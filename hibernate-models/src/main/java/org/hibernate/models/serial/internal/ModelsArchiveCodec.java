@@ -0,0 +1,826 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.AnnotationUsageReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.AnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ArrayAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ArrayTypeReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.BasicAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ClassAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ClassTypeReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ConstructorReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.EnumAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.FieldReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.MethodReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.NestedAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.NullAnnotationValueReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ParameterizedTypeReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.RecordComponentReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ScopeReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.TypeReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.TypeVariableReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.TypeVariableTargetReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.WildcardTypeReference;
+import org.hibernate.models.serial.spi.ModelReference;
+import org.hibernate.models.serial.spi.SerialClassDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+/// Compact binary encoding of the [ModelsArchiveImpl] tables.
+///
+/// All strings (class, member, annotation and attribute names as well as String
+/// annotation values) are written once to a shared string table and referenced by
+/// id.  Ids, counts and integral values are written as variable-length integers,
+/// and entries and annotation values are written with a one-byte tag rather than
+/// through Java serialization.
+///
+/// The encoded form is `string-table | classes | types | fields | methods |
+/// constructors | record-components | annotation-usages`.
+///
+/// @author Steve Ebersole
+final class ModelsArchiveCodec {
+	private static final byte CLASS_STANDARD = 0;
+	private static final byte CLASS_DYNAMIC = 1;
+	private static final byte CLASS_SERIALIZED = 2;
+
+	/// Java serialization is only used for the forms of [SerialClassDetails] other than the
+	/// standard and dynamic ones - such as that of a missing package-info - which hold no more
+	/// than strings.  Nothing else is accepted, on top of any JVM-wide filter.
+	private static final ObjectInputFilter SERIALIZED_CLASS_FILTER = (filterInfo) -> {
+		if ( filterInfo.depth() > 2 || filterInfo.references() > 64 || filterInfo.streamBytes() > 64 * 1024 ) {
+			return ObjectInputFilter.Status.REJECTED;
+		}
+		final Class<?> serialClass = filterInfo.serialClass();
+		if ( serialClass == null ) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		return serialClass == String.class || SerialClassDetails.class.isAssignableFrom( serialClass )
+				? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	};
+
+	private static final byte TYPE_CLASS = 0;
+	private static final byte TYPE_ARRAY = 1;
+	private static final byte TYPE_PARAMETERIZED = 2;
+	private static final byte TYPE_VARIABLE = 3;
+	private static final byte TYPE_VARIABLE_TARGET = 4;
+	private static final byte TYPE_WILDCARD = 5;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_STRING = 1;
+	private static final byte VALUE_TRUE = 2;
+	private static final byte VALUE_FALSE = 3;
+	private static final byte VALUE_BYTE = 4;
+	private static final byte VALUE_SHORT = 5;
+	private static final byte VALUE_INT = 6;
+	private static final byte VALUE_LONG = 7;
+	private static final byte VALUE_FLOAT = 8;
+	private static final byte VALUE_DOUBLE = 9;
+	private static final byte VALUE_CHAR = 10;
+	private static final byte VALUE_ENUM = 11;
+	private static final byte VALUE_CLASS = 12;
+	private static final byte VALUE_NESTED = 13;
+	private static final byte VALUE_ARRAY = 14;
+
+	private static final TypeDetails.Kind[] TYPE_KINDS = TypeDetails.Kind.values();
+	private static final ModelReference.Kind[] REFERENCE_KINDS = ModelReference.Kind.values();
+
+	private ModelsArchiveCodec() {
+	}
+
+	/// The decoded archive tables.
+	record Tables(
+			List<SerialClassDetails> classes,
+			List<TypeReference> types,
+			List<FieldReference> fields,
+			List<MethodReference> methods,
+			List<ConstructorReference> constructors,
+			List<RecordComponentReference> recordComponents,
+			List<AnnotationUsageReference> annotationUsages) {
+	}
+
+	static byte[] encode(Tables tables) throws IOException {
+		final Encoder body = new Encoder();
+
+		body.writeVarInt( tables.classes().size() );
+		for ( SerialClassDetails serialClass : tables.classes() ) {
+			body.writeClass( serialClass );
+		}
+		body.writeVarInt( tables.types().size() );
+		for ( TypeReference type : tables.types() ) {
+			body.writeType( type );
+		}
+		body.writeVarInt( tables.fields().size() );
+		for ( FieldReference field : tables.fields() ) {
+			body.writeField( field );
+		}
+		body.writeVarInt( tables.methods().size() );
+		for ( MethodReference method : tables.methods() ) {
+			body.writeMethod( method );
+		}
+		body.writeVarInt( tables.constructors().size() );
+		for ( ConstructorReference constructor : tables.constructors() ) {
+			body.writeConstructor( constructor );
+		}
+		body.writeVarInt( tables.recordComponents().size() );
+		for ( RecordComponentReference recordComponent : tables.recordComponents() ) {
+			body.writeRecordComponent( recordComponent );
+		}
+		body.writeVarInt( tables.annotationUsages().size() );
+		for ( AnnotationUsageReference annotationUsage : tables.annotationUsages() ) {
+			body.writeAnnotationUsage( annotationUsage );
+		}
+
+		final Encoder result = new Encoder();
+		result.writeVarInt( body.strings.size() );
+		for ( String string : body.stringsById ) {
+			result.writeUtf8( string );
+		}
+		body.bytes.writeTo( result.bytes );
+		return result.bytes.toByteArray();
+	}
+
+	static Tables decode(ByteBuffer buffer, int maxTableSize) throws IOException {
+		try {
+			final Decoder decoder = new Decoder( buffer, maxTableSize, readStringTable( buffer, maxTableSize ) );
+
+			final int classCount = decoder.readCount( "class" );
+			final ArrayList<SerialClassDetails> classes = new ArrayList<>( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				classes.add( decoder.readClass( i ) );
+			}
+			final int typeCount = decoder.readCount( "type" );
+			final ArrayList<TypeReference> types = new ArrayList<>( typeCount );
+			for ( int i = 0; i < typeCount; i++ ) {
+				types.add( decoder.readType( i ) );
+			}
+			final int fieldCount = decoder.readCount( "field" );
+			final ArrayList<FieldReference> fields = new ArrayList<>( fieldCount );
+			for ( int i = 0; i < fieldCount; i++ ) {
+				fields.add( decoder.readField() );
+			}
+			final int methodCount = decoder.readCount( "method" );
+			final ArrayList<MethodReference> methods = new ArrayList<>( methodCount );
+			for ( int i = 0; i < methodCount; i++ ) {
+				methods.add( decoder.readMethod() );
+			}
+			final int constructorCount = decoder.readCount( "constructor" );
+			final ArrayList<ConstructorReference> constructors = new ArrayList<>( constructorCount );
+			for ( int i = 0; i < constructorCount; i++ ) {
+				constructors.add( decoder.readConstructor() );
+			}
+			final int recordComponentCount = decoder.readCount( "record-component" );
+			final ArrayList<RecordComponentReference> recordComponents = new ArrayList<>( recordComponentCount );
+			for ( int i = 0; i < recordComponentCount; i++ ) {
+				recordComponents.add( decoder.readRecordComponent() );
+			}
+			final int annotationUsageCount = decoder.readCount( "annotation-usage" );
+			final ArrayList<AnnotationUsageReference> annotationUsages = new ArrayList<>( annotationUsageCount );
+			for ( int i = 0; i < annotationUsageCount; i++ ) {
+				annotationUsages.add( decoder.readAnnotationUsage() );
+			}
+			if ( buffer.hasRemaining() ) {
+				throw new InvalidObjectException( "Unexpected trailing bytes in Hibernate Models archive" );
+			}
+
+			return new Tables( classes, types, fields, methods, constructors, recordComponents, annotationUsages );
+		}
+		catch (RuntimeException e) {
+			throw invalidArchive( e );
+		}
+	}
+
+	private static String[] readStringTable(ByteBuffer buffer, int maxTableSize) throws InvalidObjectException {
+		final Decoder decoder = new Decoder( buffer, maxTableSize, new String[0] );
+		final int stringCount = decoder.readCount( "string" );
+		final String[] strings = new String[stringCount];
+		for ( int i = 0; i < stringCount; i++ ) {
+			strings[i] = decoder.readUtf8( i );
+		}
+		return strings;
+	}
+
+	/// Translate a failure decoding archive bytes into an [InvalidObjectException].
+	static InvalidObjectException invalidArchive(RuntimeException e) {
+		final InvalidObjectException invalidObjectException = new InvalidObjectException(
+				e instanceof BufferUnderflowException || e instanceof IndexOutOfBoundsException
+						? "Truncated Hibernate Models archive"
+						: "Invalid Hibernate Models archive: " + e.getMessage()
+		);
+		invalidObjectException.initCause( e );
+		return invalidObjectException;
+	}
+
+	/// Encodes archive rows, collecting the strings they reference.
+	static final class Encoder {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 1024 );
+		private final Map<String, Integer> strings = new HashMap<>();
+		private final List<String> stringsById = new ArrayList<>();
+
+		/// The number of bytes encoded so far.
+		int size() {
+			return bytes.size();
+		}
+
+		/// The referenced strings, in id order.
+		List<String> strings() {
+			return stringsById;
+		}
+
+		void writeTo(OutputStream output) throws IOException {
+			bytes.writeTo( output );
+		}
+
+		/// Discard the bytes encoded so far, retaining the referenced strings.
+		void reset() {
+			bytes.reset();
+		}
+
+		/// Append the bytes encoded by another encoder.
+		void writeEncoded(Encoder other) {
+			bytes.write( other.bytes.toByteArray(), 0, other.bytes.size() );
+		}
+
+		void writeUnsignedInt(int value) {
+			writeVarInt( value );
+		}
+
+		/// Write a length-prefixed UTF-8 string-table entry.
+		void writeUtf8(String value) {
+			final byte[] utf8 = value.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( utf8.length );
+			bytes.write( utf8, 0, utf8.length );
+		}
+
+		void writeField(FieldReference field) {
+			writeVarInt( field.declaringClassId() );
+			writeString( field.name() );
+		}
+
+		void writeMethod(MethodReference method) {
+			writeVarInt( method.declaringClassId() );
+			writeString( method.name() );
+			writeStrings( method.argumentTypeNames() );
+		}
+
+		void writeConstructor(ConstructorReference constructor) {
+			writeVarInt( constructor.declaringClassId() );
+			writeStrings( constructor.argumentTypeNames() );
+		}
+
+		void writeRecordComponent(RecordComponentReference recordComponent) {
+			writeVarInt( recordComponent.declaringClassId() );
+			writeString( recordComponent.name() );
+		}
+
+		void writeAnnotationUsage(AnnotationUsageReference annotationUsage) {
+			writeVarInt( annotationUsage.target().kind().ordinal() );
+			writeVarInt( annotationUsage.target().id() );
+			writeString( annotationUsage.annotationTypeName() );
+			writeNullableString( annotationUsage.mutableContractName() );
+			writeValues( annotationUsage.values() );
+		}
+
+		private void writeByte(int value) {
+			bytes.write( value );
+		}
+
+		private void writeVarInt(int value) {
+			while ( ( value & ~0x7F ) != 0 ) {
+				bytes.write( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes.write( value );
+		}
+
+		private void writeVarLong(long value) {
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes.write( (int) ( ( value & 0x7F ) | 0x80 ) );
+				value >>>= 7;
+			}
+			bytes.write( (int) value );
+		}
+
+		private void writeSignedVarInt(int value) {
+			writeVarInt( ( value << 1 ) ^ ( value >> 31 ) );
+		}
+
+		private void writeSignedVarLong(long value) {
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixedInt(int value) {
+			bytes.write( value >>> 24 );
+			bytes.write( value >>> 16 );
+			bytes.write( value >>> 8 );
+			bytes.write( value );
+		}
+
+		private void writeFixedLong(long value) {
+			writeFixedInt( (int) ( value >>> 32 ) );
+			writeFixedInt( (int) value );
+		}
+
+		private void writeBoolean(boolean value) {
+			bytes.write( value ? 1 : 0 );
+		}
+
+		private void writeString(String value) {
+			writeVarInt( stringId( value ) );
+		}
+
+		private void writeNullableString(String value) {
+			if ( value == null ) {
+				writeVarInt( 0 );
+			}
+			else {
+				writeVarInt( stringId( value ) + 1 );
+			}
+		}
+
+		private int stringId(String value) {
+			final Integer existing = strings.get( value );
+			if ( existing != null ) {
+				return existing;
+			}
+			final int id = stringsById.size();
+			strings.put( value, id );
+			stringsById.add( value );
+			return id;
+		}
+
+		private void writeStrings(List<String> values) {
+			writeVarInt( values.size() );
+			for ( int i = 0; i < values.size(); i++ ) {
+				writeString( values.get( i ) );
+			}
+		}
+
+		private void writeIds(List<Integer> ids) {
+			writeVarInt( ids.size() );
+			for ( int i = 0; i < ids.size(); i++ ) {
+				writeVarInt( ids.get( i ) );
+			}
+		}
+
+		void writeClass(SerialClassDetails serialClass) throws IOException {
+			if ( serialClass.getClass() == SerialClassDetailsImpl.class ) {
+				writeByte( CLASS_STANDARD );
+				writeString( serialClass.getName() );
+				writeString( serialClass.getClassName() );
+			}
+			else if ( serialClass instanceof SerialDynamicClassDetails dynamicClass ) {
+				writeByte( CLASS_DYNAMIC );
+				writeString( dynamicClass.getName() );
+				writeNullableString( dynamicClass.getClassName() );
+				writeBoolean( dynamicClass.isAbstract() );
+				writeNullableString( dynamicClass.getSuperClassName() );
+				writeVarInt( dynamicClass.getFields().size() );
+				for ( SerialDynamicClassDetails.SerialDynamicField field : dynamicClass.getFields() ) {
+					writeString( field.name() );
+					writeString( field.typeName() );
+					writeVarInt( field.typeKind().ordinal() );
+					writeVarInt( field.modifierFlags() );
+					writeByte( ( field.isArray() ? 1 : 0 ) | ( field.isPlural() ? 2 : 0 ) );
+				}
+			}
+			else {
+				// some other serial form - fall back to Java serialization
+				writeByte( CLASS_SERIALIZED );
+				final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+				try (ObjectOutputStream objectOutput = new ObjectOutputStream( serialized )) {
+					objectOutput.writeObject( serialClass );
+				}
+				writeVarInt( serialized.size() );
+				serialized.writeTo( bytes );
+			}
+		}
+
+		void writeType(TypeReference type) {
+			if ( type instanceof ClassTypeReference classType ) {
+				writeByte( TYPE_CLASS );
+				writeVarInt( classType.kind().ordinal() );
+				writeVarInt( classType.classId() );
+			}
+			else if ( type instanceof ArrayTypeReference arrayType ) {
+				writeByte( TYPE_ARRAY );
+				writeVarInt( arrayType.arrayClassId() );
+				writeVarInt( arrayType.constituentTypeId() );
+			}
+			else if ( type instanceof ParameterizedTypeReference parameterizedType ) {
+				writeByte( TYPE_PARAMETERIZED );
+				writeVarInt( parameterizedType.rawClassId() );
+				writeIds( parameterizedType.argumentTypeIds() );
+				final ScopeReference owner = parameterizedType.owner();
+				if ( owner == null ) {
+					writeVarInt( 0 );
+				}
+				else {
+					writeVarInt( owner.kind().ordinal() + 1 );
+					writeVarInt( owner.id() );
+				}
+			}
+			else if ( type instanceof TypeVariableReference typeVariable ) {
+				writeByte( TYPE_VARIABLE );
+				writeString( typeVariable.identifier() );
+				writeVarInt( typeVariable.declaringClassId() );
+				writeIds( typeVariable.boundTypeIds() );
+			}
+			else if ( type instanceof TypeVariableTargetReference typeVariableTarget ) {
+				writeByte( TYPE_VARIABLE_TARGET );
+				writeString( typeVariableTarget.identifier() );
+				writeVarInt( typeVariableTarget.targetTypeId() );
+			}
+			else if ( type instanceof WildcardTypeReference wildcardType ) {
+				writeByte( TYPE_WILDCARD );
+				// -1 indicates no bound
+				writeVarInt( wildcardType.boundTypeId() + 1 );
+				writeBoolean( wildcardType.isExtends() );
+			}
+		}
+
+		private void writeValues(Map<String, AnnotationValueReference> values) {
+			writeVarInt( values.size() );
+			for ( Map.Entry<String, AnnotationValueReference> entry : values.entrySet() ) {
+				writeString( entry.getKey() );
+				writeValue( entry.getValue() );
+			}
+		}
+
+		private void writeValue(AnnotationValueReference value) {
+			if ( value instanceof NullAnnotationValueReference ) {
+				writeByte( VALUE_NULL );
+			}
+			else if ( value instanceof BasicAnnotationValueReference basicValue ) {
+				writeBasicValue( basicValue.value() );
+			}
+			else if ( value instanceof EnumAnnotationValueReference enumValue ) {
+				writeByte( VALUE_ENUM );
+				writeString( enumValue.enumTypeName() );
+				writeString( enumValue.constantName() );
+			}
+			else if ( value instanceof ClassAnnotationValueReference classValue ) {
+				writeByte( VALUE_CLASS );
+				writeVarInt( classValue.classId() );
+			}
+			else if ( value instanceof NestedAnnotationValueReference nestedValue ) {
+				writeByte( VALUE_NESTED );
+				writeString( nestedValue.annotationTypeName() );
+				writeValues( nestedValue.values() );
+			}
+			else if ( value instanceof ArrayAnnotationValueReference arrayValue ) {
+				writeByte( VALUE_ARRAY );
+				writeString( arrayValue.componentTypeName() );
+				writeVarInt( arrayValue.values().size() );
+				for ( int i = 0; i < arrayValue.values().size(); i++ ) {
+					writeValue( arrayValue.values().get( i ) );
+				}
+			}
+		}
+
+		private void writeBasicValue(Object value) {
+			if ( value == null ) {
+				writeByte( VALUE_NULL );
+			}
+			else if ( value instanceof String string ) {
+				writeByte( VALUE_STRING );
+				writeString( string );
+			}
+			else if ( value instanceof Boolean bool ) {
+				writeByte( bool ? VALUE_TRUE : VALUE_FALSE );
+			}
+			else if ( value instanceof Byte byteValue ) {
+				writeByte( VALUE_BYTE );
+				writeByte( byteValue );
+			}
+			else if ( value instanceof Short shortValue ) {
+				writeByte( VALUE_SHORT );
+				writeSignedVarInt( shortValue );
+			}
+			else if ( value instanceof Integer intValue ) {
+				writeByte( VALUE_INT );
+				writeSignedVarInt( intValue );
+			}
+			else if ( value instanceof Long longValue ) {
+				writeByte( VALUE_LONG );
+				writeSignedVarLong( longValue );
+			}
+			else if ( value instanceof Float floatValue ) {
+				writeByte( VALUE_FLOAT );
+				writeFixedInt( Float.floatToRawIntBits( floatValue ) );
+			}
+			else if ( value instanceof Double doubleValue ) {
+				writeByte( VALUE_DOUBLE );
+				writeFixedLong( Double.doubleToRawLongBits( doubleValue ) );
+			}
+			else if ( value instanceof Character charValue ) {
+				writeByte( VALUE_CHAR );
+				writeVarInt( charValue );
+			}
+			else {
+				throw new IllegalArgumentException( "Unsupported basic annotation value type: " + value.getClass().getName() );
+			}
+		}
+	}
+
+	/// Decodes archive rows from a buffer, resolving string references against
+	/// a string table.
+	static final class Decoder {
+		private final ByteBuffer buffer;
+		private final int maxTableSize;
+		private final IntFunction<String> strings;
+		private final int stringCount;
+
+		Decoder(ByteBuffer buffer, int maxTableSize, String[] strings) {
+			this( buffer, maxTableSize, (id) -> strings[id], strings.length );
+		}
+
+		Decoder(ByteBuffer buffer, int maxTableSize, IntFunction<String> strings, int stringCount) {
+			this.buffer = buffer;
+			this.maxTableSize = maxTableSize;
+			this.strings = strings;
+			this.stringCount = stringCount;
+		}
+
+		/// Read a length-prefixed UTF-8 string-table entry.
+		String readUtf8(int index) throws InvalidObjectException {
+			final int length = readVarInt();
+			if ( length < 0 || length > buffer.remaining() ) {
+				throw new InvalidObjectException( "Invalid Hibernate Models string-table entry length at index " + index );
+			}
+			final byte[] bytes = new byte[length];
+			buffer.get( bytes );
+			return new String( bytes, StandardCharsets.UTF_8 );
+		}
+
+		FieldReference readField() {
+			return new FieldReference( readVarInt(), readString() );
+		}
+
+		MethodReference readMethod() throws InvalidObjectException {
+			return new MethodReference( readVarInt(), readString(), readStrings() );
+		}
+
+		ConstructorReference readConstructor() throws InvalidObjectException {
+			return new ConstructorReference( readVarInt(), readStrings() );
+		}
+
+		RecordComponentReference readRecordComponent() {
+			return new RecordComponentReference( readVarInt(), readString() );
+		}
+
+		int readCount(String tableName) throws InvalidObjectException {
+			final int count = readVarInt();
+			if ( count < 0 || count > maxTableSize ) {
+				throw new InvalidObjectException( "Invalid Hibernate Models " + tableName + "-table size: " + count );
+			}
+			return count;
+		}
+
+		private byte readByte() {
+			return buffer.get();
+		}
+
+		private boolean readBoolean() {
+			return buffer.get() != 0;
+		}
+
+		private int readVarInt() {
+			int result = 0;
+			for ( int shift = 0; shift < 32; shift += 7 ) {
+				final byte b = buffer.get();
+				result |= ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return result;
+				}
+			}
+			throw new IllegalArgumentException( "malformed variable-length int" );
+		}
+
+		private long readVarLong() {
+			long result = 0;
+			for ( int shift = 0; shift < 64; shift += 7 ) {
+				final byte b = buffer.get();
+				result |= (long) ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return result;
+				}
+			}
+			throw new IllegalArgumentException( "malformed variable-length long" );
+		}
+
+		private int readSignedVarInt() {
+			final int value = readVarInt();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private String readString() {
+			final int id = readVarInt();
+			if ( id < 0 || id >= stringCount ) {
+				throw new IllegalArgumentException( "string id is out of range: " + id );
+			}
+			return strings.apply( id );
+		}
+
+		private String readNullableString() {
+			final int id = readVarInt();
+			if ( id == 0 ) {
+				return null;
+			}
+			if ( id < 0 || id > stringCount ) {
+				throw new IllegalArgumentException( "string id is out of range: " + ( id - 1 ) );
+			}
+			return strings.apply( id - 1 );
+		}
+
+		private List<String> readStrings() throws InvalidObjectException {
+			final int count = readCount( "name-list" );
+			final ArrayList<String> result = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				result.add( readString() );
+			}
+			return result;
+		}
+
+		private List<Integer> readIds() throws InvalidObjectException {
+			final int count = readCount( "id-list" );
+			final ArrayList<Integer> result = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				result.add( readVarInt() );
+			}
+			return result;
+		}
+
+		private <E extends Enum<E>> E readKind(E[] kinds, String label) {
+			final int ordinal = readVarInt();
+			if ( ordinal < 0 || ordinal >= kinds.length ) {
+				throw new IllegalArgumentException( label + " is out of range: " + ordinal );
+			}
+			return kinds[ordinal];
+		}
+
+		SerialClassDetails readClass(int index) throws IOException {
+			final byte tag = readByte();
+			switch ( tag ) {
+				case CLASS_STANDARD -> {
+					return new SerialClassDetailsImpl( readString(), readString() );
+				}
+				case CLASS_DYNAMIC -> {
+					final String name = readString();
+					final String className = readNullableString();
+					final boolean isAbstract = readBoolean();
+					final String superClassName = readNullableString();
+					final int fieldCount = readCount( "dynamic-field" );
+					final ArrayList<SerialDynamicClassDetails.SerialDynamicField> fields = new ArrayList<>( fieldCount );
+					for ( int i = 0; i < fieldCount; i++ ) {
+						final String fieldName = readString();
+						final String typeName = readString();
+						final TypeDetails.Kind typeKind = readKind( TYPE_KINDS, "dynamic field type kind" );
+						final int modifierFlags = readVarInt();
+						final byte flags = readByte();
+						fields.add( new SerialDynamicClassDetails.SerialDynamicField(
+								fieldName,
+								typeName,
+								typeKind,
+								modifierFlags,
+								( flags & 1 ) != 0,
+								( flags & 2 ) != 0
+						) );
+					}
+					return new SerialDynamicClassDetails( name, className, isAbstract, superClassName, fields );
+				}
+				case CLASS_SERIALIZED -> {
+					final int length = readVarInt();
+					if ( length < 0 || length > buffer.remaining() ) {
+						throw new InvalidObjectException( "Invalid class-table entry length at index " + index );
+					}
+					final byte[] bytes = new byte[length];
+					buffer.get( bytes );
+					try (ObjectInputStream objectInput = new ObjectInputStream( new ByteArrayInputStream( bytes ) )) {
+						final ObjectInputFilter serialFilter = objectInput.getObjectInputFilter();
+						objectInput.setObjectInputFilter( serialFilter == null
+								? SERIALIZED_CLASS_FILTER
+								: ObjectInputFilter.merge( SERIALIZED_CLASS_FILTER, serialFilter ) );
+						if ( objectInput.readObject() instanceof SerialClassDetails serialClass ) {
+							return serialClass;
+						}
+					}
+					catch (ClassNotFoundException e) {
+						final InvalidObjectException invalidObjectException = new InvalidObjectException(
+								"Invalid class-table entry at index " + index
+						);
+						invalidObjectException.initCause( e );
+						throw invalidObjectException;
+					}
+					throw new InvalidObjectException( "Invalid class-table entry at index " + index );
+				}
+				default -> throw new InvalidObjectException( "Invalid class-table entry tag at index " + index + ": " + tag );
+			}
+		}
+
+		TypeReference readType(int index) throws InvalidObjectException {
+			final byte tag = readByte();
+			return switch ( tag ) {
+				case TYPE_CLASS -> new ClassTypeReference( readKind( TYPE_KINDS, "type kind" ), readVarInt() );
+				case TYPE_ARRAY -> new ArrayTypeReference( readVarInt(), readVarInt() );
+				case TYPE_PARAMETERIZED -> {
+					final int rawClassId = readVarInt();
+					final List<Integer> argumentTypeIds = readIds();
+					final int ownerKind = readVarInt();
+					final ScopeReference owner;
+					if ( ownerKind == 0 ) {
+						owner = null;
+					}
+					else if ( ownerKind < 0 || ownerKind > REFERENCE_KINDS.length ) {
+						throw new IllegalArgumentException( "scope reference kind is out of range: " + ( ownerKind - 1 ) );
+					}
+					else {
+						owner = new ScopeReference( REFERENCE_KINDS[ownerKind - 1], readVarInt() );
+					}
+					yield new ParameterizedTypeReference( rawClassId, argumentTypeIds, owner );
+				}
+				case TYPE_VARIABLE -> new TypeVariableReference( readString(), readVarInt(), readIds() );
+				case TYPE_VARIABLE_TARGET -> new TypeVariableTargetReference( readString(), readVarInt() );
+				case TYPE_WILDCARD -> new WildcardTypeReference( readVarInt() - 1, readBoolean() );
+				default -> throw new InvalidObjectException( "Invalid type-table entry tag at index " + index + ": " + tag );
+			};
+		}
+
+		/// Read just the target of an annotation-usage row.
+		ModelReference readAnnotationUsageTarget() {
+			final ModelReference.Kind targetKind = readKind( REFERENCE_KINDS, "annotation target kind" );
+			return new ModelReference( targetKind, readVarInt() );
+		}
+
+		AnnotationUsageReference readAnnotationUsage() throws InvalidObjectException {
+			final ModelReference target = readAnnotationUsageTarget();
+			final String annotationTypeName = readString();
+			final String mutableContractName = readNullableString();
+			return new AnnotationUsageReference( target, annotationTypeName, mutableContractName, readValues() );
+		}
+
+		private Map<String, AnnotationValueReference> readValues() throws InvalidObjectException {
+			final int count = readCount( "annotation-value" );
+			final Map<String, AnnotationValueReference> values = new LinkedHashMap<>();
+			for ( int i = 0; i < count; i++ ) {
+				values.put( readString(), readValue() );
+			}
+			return values;
+		}
+
+		private AnnotationValueReference readValue() throws InvalidObjectException {
+			final byte tag = readByte();
+			return switch ( tag ) {
+				case VALUE_NULL -> new NullAnnotationValueReference();
+				case VALUE_STRING -> new BasicAnnotationValueReference( readString() );
+				case VALUE_TRUE -> new BasicAnnotationValueReference( Boolean.TRUE );
+				case VALUE_FALSE -> new BasicAnnotationValueReference( Boolean.FALSE );
+				case VALUE_BYTE -> new BasicAnnotationValueReference( readByte() );
+				case VALUE_SHORT -> new BasicAnnotationValueReference( (short) readSignedVarInt() );
+				case VALUE_INT -> new BasicAnnotationValueReference( readSignedVarInt() );
+				case VALUE_LONG -> new BasicAnnotationValueReference( readSignedVarLong() );
+				case VALUE_FLOAT -> new BasicAnnotationValueReference( Float.intBitsToFloat( buffer.getInt() ) );
+				case VALUE_DOUBLE -> new BasicAnnotationValueReference( Double.longBitsToDouble( buffer.getLong() ) );
+				case VALUE_CHAR -> new BasicAnnotationValueReference( (char) readVarInt() );
+				case VALUE_ENUM -> new EnumAnnotationValueReference( readString(), readString() );
+				case VALUE_CLASS -> new ClassAnnotationValueReference( readVarInt() );
+				case VALUE_NESTED -> new NestedAnnotationValueReference( readString(), readValues() );
+				case VALUE_ARRAY -> {
+					final String componentTypeName = readString();
+					final int count = readCount( "annotation-array" );
+					final ArrayList<AnnotationValueReference> values = new ArrayList<>( count );
+					for ( int i = 0; i < count; i++ ) {
+						values.add( readValue() );
+					}
+					yield new ArrayAnnotationValueReference( componentTypeName, values );
+				}
+				default -> throw new InvalidObjectException( "Invalid annotation value tag: " + tag );
+			};
+		}
+	}
+}
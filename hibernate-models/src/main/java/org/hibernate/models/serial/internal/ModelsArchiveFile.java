@@ -0,0 +1,335 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.AnnotationUsageReference;
+import org.hibernate.models.serial.spi.ModelReference;
+import org.hibernate.models.serial.spi.SerialClassDetails;
+
+/// Random-access file layout for [ModelsArchiveImpl], read through a memory-mapped buffer.
+///
+/// The file starts with a header (magic, version, the track-implementors flag, the archive
+/// ids and the length-prefixed [fingerprint][ModelsArchiveFingerprint], if any),
+/// followed by an index for each table - strings, classes, types, fields, methods,
+/// constructors, record components and annotation usages - holding the row count
+/// and the absolute offset of each row.  The rows themselves follow, encoded
+/// as by [ModelsArchiveCodec].
+///
+/// When [opened][#open(Path)], the tables of the archive decode (and cache) each
+/// row the first time it is accessed, so opening does not depend on the size of the
+/// archive and only the rows actually used are ever decoded.
+///
+/// @author Steve Ebersole
+public final class ModelsArchiveFile {
+	private static final int MAGIC = 0x484D4F46;
+	private static final int FORMAT_VERSION = 1;
+	private static final int TABLE_COUNT = 8;
+	private static final int ARCHIVE_ID_SIZE = Long.BYTES * 2;
+	private static final int HEADER_SIZE = Integer.BYTES * 2 + 1 + ARCHIVE_ID_SIZE + 1;
+
+	private ModelsArchiveFile() {
+	}
+
+	/// Write the archive to the given file.
+	public static void write(ModelsArchiveImpl archive, Path file) throws IOException {
+		final ModelsArchiveCodec.Tables tables = archive.tables();
+
+		final ModelsArchiveCodec.Encoder body = new ModelsArchiveCodec.Encoder();
+		final int[][] rowOffsets = new int[TABLE_COUNT][];
+		rowOffsets[1] = encodeRows( tables.classes(), body, body::writeClass );
+		rowOffsets[2] = encodeRows( tables.types(), body, body::writeType );
+		rowOffsets[3] = encodeRows( tables.fields(), body, body::writeField );
+		rowOffsets[4] = encodeRows( tables.methods(), body, body::writeMethod );
+		rowOffsets[5] = encodeRows( tables.constructors(), body, body::writeConstructor );
+		rowOffsets[6] = encodeRows( tables.recordComponents(), body, body::writeRecordComponent );
+		rowOffsets[7] = encodeRows( tables.annotationUsages(), body, body::writeAnnotationUsage );
+
+		final byte[] fingerprint = encodeFingerprint( archive.fingerprint() );
+
+		final ModelsArchiveCodec.Encoder strings = new ModelsArchiveCodec.Encoder();
+		rowOffsets[0] = new int[body.strings().size()];
+		int stringId = 0;
+		for ( String string : body.strings() ) {
+			rowOffsets[0][stringId++] = strings.size();
+			strings.writeUtf8( string );
+		}
+
+		int indexSize = 0;
+		for ( int[] offsets : rowOffsets ) {
+			indexSize += Integer.BYTES + Integer.BYTES * offsets.length;
+		}
+		final long stringsStart = (long) HEADER_SIZE
+				+ ( archive.isDelta() ? ARCHIVE_ID_SIZE : 0 )
+				+ Integer.BYTES + fingerprint.length
+				+ indexSize;
+		final long bodyStart = stringsStart + strings.size();
+		if ( bodyStart + body.size() > Integer.MAX_VALUE ) {
+			throw new IOException( "Hibernate Models archive is too large for the random-access layout" );
+		}
+
+		try (DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( file ) ) )) {
+			output.writeInt( MAGIC );
+			output.writeInt( FORMAT_VERSION );
+			output.writeBoolean( archive.isTrackImplementors() );
+			ModelsArchiveImpl.writeArchiveId( archive.getArchiveId(), output );
+			output.writeBoolean( archive.isDelta() );
+			if ( archive.isDelta() ) {
+				ModelsArchiveImpl.writeArchiveId( archive.getBaseArchiveId(), output );
+			}
+			output.writeInt( fingerprint.length );
+			output.write( fingerprint );
+			for ( int table = 0; table < TABLE_COUNT; table++ ) {
+				final int base = (int) ( table == 0 ? stringsStart : bodyStart );
+				output.writeInt( rowOffsets[table].length );
+				for ( int offset : rowOffsets[table] ) {
+					output.writeInt( base + offset );
+				}
+			}
+			strings.writeTo( output );
+			body.writeTo( output );
+		}
+	}
+
+	private static byte[] encodeFingerprint(ModelsArchiveFingerprint fingerprint) throws IOException {
+		if ( fingerprint == null ) {
+			return new byte[0];
+		}
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream( bytes )) {
+			fingerprint.writeTo( output );
+		}
+		return bytes.toByteArray();
+	}
+
+	private static ModelsArchiveFingerprint decodeFingerprint(ByteBuffer buffer) throws IOException {
+		final int length = buffer.getInt();
+		if ( length < 0 || length > buffer.remaining() ) {
+			throw new InvalidObjectException( "Invalid Hibernate Models archive fingerprint length: " + length );
+		}
+		if ( length == 0 ) {
+			return null;
+		}
+		final byte[] bytes = new byte[length];
+		buffer.get( bytes );
+		return ModelsArchiveFingerprint.readFrom(
+				new DataInputStream( new ByteArrayInputStream( bytes ) ),
+				ModelsArchiveImpl.MAX_TABLE_SIZE
+		);
+	}
+
+	private static <T> int[] encodeRows(List<T> rows, ModelsArchiveCodec.Encoder encoder, RowWriter<T> writer)
+			throws IOException {
+		final int[] offsets = new int[rows.size()];
+		for ( int i = 0; i < rows.size(); i++ ) {
+			offsets[i] = encoder.size();
+			writer.write( rows.get( i ) );
+		}
+		return offsets;
+	}
+
+	/// Open an archive file, mapping it into memory.
+	///
+	/// @throws InvalidObjectException If the file is not a valid archive.  Note that
+	/// individual rows are only validated as they are decoded.
+	public static ModelsArchiveImpl open(Path file) throws IOException {
+		final ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open( file, StandardOpenOption.READ )) {
+			if ( channel.size() > Integer.MAX_VALUE ) {
+				throw new InvalidObjectException( "Hibernate Models archive is too large: " + file );
+			}
+			buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+		}
+
+		try {
+			if ( buffer.getInt() != MAGIC ) {
+				throw new InvalidObjectException( "Not a Hibernate Models archive file: " + file );
+			}
+			final int version = buffer.getInt();
+			if ( version != FORMAT_VERSION ) {
+				throw new InvalidObjectException( "Unsupported Hibernate Models archive file version: " + version );
+			}
+			final boolean trackImplementors = buffer.get() != 0;
+			final UUID archiveId = new UUID( buffer.getLong(), buffer.getLong() );
+			final UUID baseArchiveId = buffer.get() != 0 ? new UUID( buffer.getLong(), buffer.getLong() ) : null;
+			final ModelsArchiveFingerprint fingerprint = decodeFingerprint( buffer );
+
+			final MappedTable<String> strings = new MappedTable<>( buffer, "string", null, null );
+			final ModelsArchiveCodec.Tables tables = new ModelsArchiveCodec.Tables(
+					new MappedTable<>( buffer, "class", strings, ModelsArchiveCodec.Decoder::readClass ),
+					new MappedTable<>( buffer, "type", strings, ModelsArchiveCodec.Decoder::readType ),
+					new MappedTable<>( buffer, "field", strings, (decoder, index) -> decoder.readField() ),
+					new MappedTable<>( buffer, "method", strings, (decoder, index) -> decoder.readMethod() ),
+					new MappedTable<>( buffer, "constructor", strings, (decoder, index) -> decoder.readConstructor() ),
+					new MappedTable<>( buffer, "record-component", strings, (decoder, index) -> decoder.readRecordComponent() ),
+					new MappedTable<>( buffer, "annotation-usage", strings, (decoder, index) -> decoder.readAnnotationUsage() )
+			);
+			// the whole file, header included, is digested only if the checksum is actually needed
+			final ByteBuffer fileBytes = buffer.duplicate().clear();
+			return new ModelsArchiveImpl( trackImplementors, fingerprint, archiveId, baseArchiveId, tables, () -> {
+				final MessageDigest digest = ModelsArchiveImpl.createChecksumDigest();
+				digest.update( fileBytes.duplicate() );
+				return digest.digest();
+			} );
+		}
+		catch (RuntimeException e) {
+			throw ModelsArchiveCodec.invalidArchive( e );
+		}
+	}
+
+	/// Stop validating the rows of the mapped tables as they are decoded, the file having
+	/// been verified against a trusted checksum.
+	static void trust(ModelsArchiveCodec.Tables tables) {
+		for ( List<?> table : List.of(
+				tables.classes(),
+				tables.types(),
+				tables.fields(),
+				tables.methods(),
+				tables.constructors(),
+				tables.recordComponents(),
+				tables.annotationUsages()
+		) ) {
+			if ( table instanceof MappedTable<?> mappedTable ) {
+				mappedTable.trusted = true;
+			}
+		}
+	}
+
+	/// The target of an annotation usage, without decoding the whole usage when the
+	/// table is mapped.
+	static ModelReference annotationUsageTarget(List<AnnotationUsageReference> annotationUsages, int index) {
+		if ( annotationUsages instanceof MappedTable<AnnotationUsageReference> mappedTable ) {
+			return mappedTable.decode( index, (decoder, i) -> decoder.readAnnotationUsageTarget() );
+		}
+		return annotationUsages.get( index ).target();
+	}
+
+	@FunctionalInterface
+	private interface RowWriter<T> {
+		void write(T row) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface RowReader<T> {
+		T read(ModelsArchiveCodec.Decoder decoder, int index) throws IOException;
+	}
+
+	/// A table backed by the mapped file, decoding each row on first access.
+	private static class MappedTable<T> extends AbstractList<T> implements RandomAccess {
+		private final ByteBuffer buffer;
+		private final String tableName;
+		private final MappedTable<String> strings;
+		private final RowReader<T> rowReader;
+		private final int indexPosition;
+		private final int size;
+		private final Object[] rows;
+		private volatile boolean trusted;
+
+		/// Reads the index of the table at the current position of the buffer,
+		/// leaving the buffer positioned after it.
+		private MappedTable(
+				ByteBuffer buffer,
+				String tableName,
+				MappedTable<String> strings,
+				RowReader<T> rowReader) {
+			this.buffer = buffer;
+			this.tableName = tableName;
+			this.strings = strings;
+			this.rowReader = rowReader;
+			this.size = buffer.getInt();
+			if ( size < 0 || size > ModelsArchiveImpl.MAX_TABLE_SIZE || size > buffer.remaining() / Integer.BYTES ) {
+				throw new IllegalArgumentException( "invalid " + tableName + "-table size: " + size );
+			}
+			this.indexPosition = buffer.position();
+			this.rows = new Object[size];
+			buffer.position( indexPosition + size * Integer.BYTES );
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public T get(int index) {
+			Objects.checkIndex( index, size );
+			//noinspection unchecked
+			T row = (T) rows[index];
+			if ( row == null ) {
+				row = strings == null
+						? decodeString( index )
+						: decode( index, rowReader );
+				if ( !trusted && !( row instanceof String ) ) {
+					validate( row, index );
+				}
+				// rows are immutable, so racing threads may decode the same row
+				rows[index] = row;
+			}
+			return row;
+		}
+
+		private void validate(T row, int index) {
+			try {
+				if ( row instanceof SerialClassDetails serialClass ) {
+					ModelsArchiveImpl.validateClassEntry( serialClass, index );
+				}
+				else {
+					ModelsArchiveImpl.validateTableEntry( row, tableName, index );
+				}
+			}
+			catch (InvalidObjectException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private T decodeString(int index) {
+			return (T) decodeRow( index, null, (decoder, i) -> decoder.readUtf8( i ) );
+		}
+
+		private <R> R decode(int index, RowReader<R> reader) {
+			return decodeRow( index, strings, reader );
+		}
+
+		private <R> R decodeRow(int index, MappedTable<String> stringTable, RowReader<R> reader) {
+			final int offset = buffer.getInt( indexPosition + index * Integer.BYTES );
+			try {
+				if ( offset < 0 || offset >= buffer.limit() ) {
+					throw new InvalidObjectException( "Invalid " + tableName + "-table row offset at index " + index );
+				}
+				final ByteBuffer row = buffer.duplicate().position( offset );
+				final ModelsArchiveCodec.Decoder decoder = stringTable == null
+						? new ModelsArchiveCodec.Decoder( row, ModelsArchiveImpl.MAX_TABLE_SIZE, new String[0] )
+						: new ModelsArchiveCodec.Decoder( row, ModelsArchiveImpl.MAX_TABLE_SIZE, stringTable::get, stringTable.size() );
+				return reader.read( decoder, index );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+			catch (RuntimeException e) {
+				throw new UncheckedIOException( ModelsArchiveCodec.invalidArchive( e ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.models.spi.ClassLoading;
+
+/// Fingerprint of the class files an archive was built from - the archived classes
+/// and the annotation types of the archived usages - used to decide whether the
+/// archive is still [current][ModelsArchiveImpl#isCurrent(ClassLoading)].
+///
+/// The fingerprint is a SHA-256 digest over the bytes of each class file, located
+/// through [ClassLoading#locateResource(String)].  Classes without a class file
+/// (e.g. dynamic classes) contribute only their name, their state being held in
+/// the archive itself.  JDK classes contribute only their name, the Java version
+/// being part of the digest instead.
+///
+/// @param typeNames The names of the fingerprinted types, in digest order.
+/// @param digest The digest.
+///
+/// @author Steve Ebersole
+record ModelsArchiveFingerprint(List<String> typeNames, byte[] digest) {
+	private static final String ALGORITHM = "SHA-256";
+	private static final int MAX_DIGEST_LENGTH = 64;
+
+	ModelsArchiveFingerprint {
+		typeNames = List.copyOf( typeNames );
+	}
+
+	/// Compute the fingerprint of the given types, as currently visible through the class loading.
+	static ModelsArchiveFingerprint compute(Collection<String> typeNames, ClassLoading classLoading) {
+		return new ModelsArchiveFingerprint( new ArrayList<>( typeNames ), digest( typeNames, classLoading ) );
+	}
+
+	/// Whether the fingerprinted types are unchanged, as visible through the class loading.
+	boolean matches(ClassLoading classLoading) {
+		return MessageDigest.isEqual( digest, digest( typeNames, classLoading ) );
+	}
+
+	private static byte[] digest(Collection<String> typeNames, ClassLoading classLoading) {
+		final MessageDigest messageDigest = createMessageDigest();
+		messageDigest.update( Integer.toString( Runtime.version().feature() ).getBytes( StandardCharsets.UTF_8 ) );
+		final byte[] buffer = new byte[8192];
+		for ( String typeName : typeNames ) {
+			messageDigest.update( (byte) 0 );
+			messageDigest.update( typeName.getBytes( StandardCharsets.UTF_8 ) );
+			if ( typeName.startsWith( "java." ) ) {
+				continue;
+			}
+
+			final URL classFile = classLoading.locateResource( typeName.replace( '.', '/' ) + ".class" );
+			if ( classFile == null ) {
+				messageDigest.update( (byte) 1 );
+				continue;
+			}
+			messageDigest.update( (byte) 2 );
+			try (InputStream stream = classFile.openStream()) {
+				int read;
+				while ( ( read = stream.read( buffer ) ) != -1 ) {
+					messageDigest.update( buffer, 0, read );
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( "Unable to read class file for fingerprint: " + classFile, e );
+			}
+		}
+		return messageDigest.digest();
+	}
+
+	private static MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance( ALGORITHM );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	void writeTo(DataOutput output) throws IOException {
+		output.writeInt( typeNames.size() );
+		for ( String typeName : typeNames ) {
+			output.writeUTF( typeName );
+		}
+		output.writeInt( digest.length );
+		output.write( digest );
+	}
+
+	static ModelsArchiveFingerprint readFrom(DataInput input, int maxTypeCount) throws IOException {
+		final int typeCount = input.readInt();
+		if ( typeCount < 0 || typeCount > maxTypeCount ) {
+			throw new InvalidObjectException( "Invalid Hibernate Models archive fingerprint size: " + typeCount );
+		}
+		final ArrayList<String> typeNames = new ArrayList<>( typeCount );
+		for ( int i = 0; i < typeCount; i++ ) {
+			typeNames.add( input.readUTF() );
+		}
+		final int digestLength = input.readInt();
+		if ( digestLength <= 0 || digestLength > MAX_DIGEST_LENGTH ) {
+			throw new InvalidObjectException( "Invalid Hibernate Models archive fingerprint length: " + digestLength );
+		}
+		final byte[] digest = new byte[digestLength];
+		input.readFully( digest );
+		return new ModelsArchiveFingerprint( typeNames, digest );
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof ModelsArchiveFingerprint other
+				&& typeNames.equals( other.typeNames )
+				&& Arrays.equals( digest, other.digest );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * typeNames.hashCode() + Arrays.hashCode( digest );
+	}
+}
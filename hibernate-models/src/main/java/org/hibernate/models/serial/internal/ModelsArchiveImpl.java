@@ -6,17 +6,37 @@ package org.hibernate.models.serial.internal;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 
 import org.hibernate.models.internal.ArrayTypeDetailsImpl;
 import org.hibernate.models.internal.ClassTypeDetailsImpl;
@@ -27,6 +47,7 @@ import org.hibernate.models.internal.VoidTypeDetailsImpl;
 import org.hibernate.models.internal.WildcardTypeDetailsImpl;
 import org.hibernate.models.serial.spi.ModelReference;
 import org.hibernate.models.serial.spi.ModelsArchive;
+import org.hibernate.models.serial.spi.RestoreOptions;
 import org.hibernate.models.serial.spi.RestoredModels;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.AnnotationDescriptor;
@@ -50,8 +71,10 @@ import org.hibernate.models.spi.TypeVariableScope;
 /// @author Steve Ebersole
 public class ModelsArchiveImpl implements ModelsArchive {
 	private static final int MAGIC = 0x484D4F44;
-	private static final int FORMAT_VERSION = 1;
-	private static final int MAX_TABLE_SIZE = 1_000_000;
+	private static final int LEGACY_FORMAT_VERSION = 1;
+	private static final int FORMAT_VERSION = 2;
+	static final int MAX_TABLE_SIZE = 1_000_000;
+	private static final int READ_CHUNK_SIZE = 64 * 1024;
 
 	private boolean trackImplementors;
 	private List<SerialClassDetails> classes;
@@ -61,6 +84,16 @@ public class ModelsArchiveImpl implements ModelsArchive {
 	private List<ConstructorReference> constructors;
 	private List<RecordComponentReference> recordComponents;
 	private List<AnnotationUsageReference> annotationUsages;
+	private ModelsArchiveFingerprint fingerprint;
+	// derived from the content when first needed, unless read from the archive
+	private UUID archiveId;
+	private UUID baseArchiveId;
+	// the entries of an archive read in the binary format are validated (or verified against
+	// a trusted checksum) when the archive is first restored
+	private boolean validated = true;
+	// the digest of the bytes the archive was read from, computed on first use
+	private Supplier<byte[]> checksumSource;
+	private byte[] checksum;
 
 	/**
 	 * Required by {@link java.io.Externalizable}.
@@ -77,7 +110,34 @@ public class ModelsArchiveImpl implements ModelsArchive {
 			List<ConstructorReference> constructors,
 			List<RecordComponentReference> recordComponents,
 			List<AnnotationUsageReference> annotationUsages) {
+		this(
+				trackImplementors,
+				classes,
+				types,
+				fields,
+				methods,
+				constructors,
+				recordComponents,
+				annotationUsages,
+				null,
+				null
+		);
+	}
+
+	ModelsArchiveImpl(
+			boolean trackImplementors,
+			List<SerialClassDetails> classes,
+			List<TypeReference> types,
+			List<FieldReference> fields,
+			List<MethodReference> methods,
+			List<ConstructorReference> constructors,
+			List<RecordComponentReference> recordComponents,
+			List<AnnotationUsageReference> annotationUsages,
+			ModelsArchiveFingerprint fingerprint,
+			UUID baseArchiveId) {
 		this.trackImplementors = trackImplementors;
+		this.fingerprint = fingerprint;
+		this.baseArchiveId = baseArchiveId;
 		this.classes = List.copyOf( classes );
 		this.types = List.copyOf( types );
 		this.fields = List.copyOf( fields );
@@ -88,22 +148,138 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		validateArchiveState();
 	}
 
+	/**
+	 * Used for {@linkplain ModelsArchiveFile archive files} and {@linkplain ModelsArchiveStream streams},
+	 * whose tables are validated as their rows are decoded.
+	 *
+	 * @param archiveId The id read from the archive - {@linkplain #UNASSIGNED_ARCHIVE_ID unassigned}
+	 * for a stream, which is written before its content is known.
+	 * @param checksumSource The digest of the bytes the archive was read from.
+	 */
+	ModelsArchiveImpl(
+			boolean trackImplementors,
+			ModelsArchiveFingerprint fingerprint,
+			UUID archiveId,
+			UUID baseArchiveId,
+			ModelsArchiveCodec.Tables tables,
+			Supplier<byte[]> checksumSource) {
+		this.checksumSource = checksumSource;
+		this.trackImplementors = trackImplementors;
+		this.fingerprint = fingerprint;
+		this.archiveId = UNASSIGNED_ARCHIVE_ID.equals( archiveId ) ? null : archiveId;
+		this.baseArchiveId = baseArchiveId;
+		this.classes = tables.classes();
+		this.types = tables.types();
+		this.fields = tables.fields();
+		this.methods = tables.methods();
+		this.constructors = tables.constructors();
+		this.recordComponents = tables.recordComponents();
+		this.annotationUsages = tables.annotationUsages();
+	}
+
+	boolean isTrackImplementors() {
+		return trackImplementors;
+	}
+
+	ModelsArchiveFingerprint fingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Identifies this archive, for {@linkplain #isDelta() delta archives} written against it.  Derived from
+	 * the content of the archive, so that writing the same model always produces the same archive.
+	 */
+	UUID getArchiveId() {
+		return resolveArchiveId( null );
+	}
+
+	private synchronized UUID resolveArchiveId(byte[] encodedTables) {
+		if ( archiveId == null ) {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream output = new DataOutputStream( bytes )) {
+				output.writeBoolean( trackImplementors );
+				output.writeBoolean( fingerprint != null );
+				if ( fingerprint != null ) {
+					fingerprint.writeTo( output );
+				}
+				output.writeBoolean( baseArchiveId != null );
+				if ( baseArchiveId != null ) {
+					writeArchiveId( baseArchiveId, output );
+				}
+				output.write( encodedTables == null ? ModelsArchiveCodec.encode( tables() ) : encodedTables );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( "Unable to encode Hibernate Models archive", e );
+			}
+			archiveId = UUID.nameUUIDFromBytes( bytes.toByteArray() );
+		}
+		return archiveId;
+	}
+
+	/**
+	 * The {@linkplain #getArchiveId() id} of the base archive of a delta archive.
+	 */
+	UUID getBaseArchiveId() {
+		return baseArchiveId;
+	}
+
+	/**
+	 * Whether this is a delta archive, which only contains the entries added to its base archive.
+	 */
+	boolean isDelta() {
+		return baseArchiveId != null;
+	}
+
+	@Override
+	public boolean isCurrent(ClassLoading classLoading) {
+		checkInitialized();
+		return fingerprint != null && fingerprint.matches( classLoading );
+	}
+
+	ModelsArchiveCodec.Tables tables() {
+		checkInitialized();
+		return new ModelsArchiveCodec.Tables(
+				classes,
+				types,
+				fields,
+				methods,
+				constructors,
+				recordComponents,
+				annotationUsages
+		);
+	}
+
 	@Override
 	public void writeExternal(ObjectOutput output) throws IOException {
 		checkInitialized();
 		output.writeInt( MAGIC );
 		output.writeInt( FORMAT_VERSION );
-		output.writeBoolean( trackImplementors );
-		output.writeInt( classes.size() );
-		for ( SerialClassDetails serialClass : classes ) {
-			output.writeObject( serialClass );
+		final byte[] encoded = encodeBinaryFormat();
+		output.writeInt( encoded.length );
+		output.write( encoded );
+	}
+
+	/**
+	 * Encode the header and tables of the binary format, as a single block so that the
+	 * {@linkplain #getChecksum() checksum} covers exactly the bytes read back.
+	 */
+	private byte[] encodeBinaryFormat() throws IOException {
+		final byte[] encodedTables = ModelsArchiveCodec.encode( tables() );
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream( bytes )) {
+			output.writeBoolean( trackImplementors );
+			output.writeBoolean( fingerprint != null );
+			if ( fingerprint != null ) {
+				fingerprint.writeTo( output );
+			}
+			writeArchiveId( resolveArchiveId( encodedTables ), output );
+			output.writeBoolean( baseArchiveId != null );
+			if ( baseArchiveId != null ) {
+				writeArchiveId( baseArchiveId, output );
+			}
+			output.write( encodedTables );
 		}
-		writeTable( output, types );
-		writeTable( output, fields );
-		writeTable( output, methods );
-		writeTable( output, constructors );
-		writeTable( output, recordComponents );
-		writeTable( output, annotationUsages );
+		return bytes.toByteArray();
 	}
 
 	@Override
@@ -114,10 +290,96 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		}
 
 		final int version = input.readInt();
-		if ( version != FORMAT_VERSION ) {
+		if ( version == LEGACY_FORMAT_VERSION ) {
+			readLegacyFormat( input );
+		}
+		else if ( version == FORMAT_VERSION ) {
+			readBinaryFormat( input );
+		}
+		else {
 			throw new InvalidObjectException( "Unsupported Hibernate Models archive version: " + version );
 		}
+	}
+
+	/**
+	 * Read the compact binary format - a length-prefixed block holding a header, with the (optional)
+	 * {@linkplain ModelsArchiveFingerprint fingerprint} and the archive ids used for {@linkplain #isDelta()
+	 * delta archives}, followed by the tables as encoded by {@linkplain ModelsArchiveCodec}.
+	 */
+	private void readBinaryFormat(ObjectInput input) throws IOException {
+		final int length = input.readInt();
+		if ( length < 0 ) {
+			throw new InvalidObjectException( "Invalid Hibernate Models archive length: " + length );
+		}
+		final byte[] encoded = readBytes( input, length );
+		final byte[] digest = createChecksumDigest().digest( encoded );
+		checksumSource = () -> digest;
+
+		final ByteArrayInputStream header = new ByteArrayInputStream( encoded );
+		final DataInputStream headerInput = new DataInputStream( header );
+		trackImplementors = headerInput.readBoolean();
+		if ( headerInput.readBoolean() ) {
+			fingerprint = ModelsArchiveFingerprint.readFrom( headerInput, MAX_TABLE_SIZE );
+		}
+		archiveId = readArchiveId( headerInput );
+		baseArchiveId = headerInput.readBoolean() ? readArchiveId( headerInput ) : null;
+
+		// the entries are validated when the archive is restored - see #checkIntegrity
+		final int headerLength = encoded.length - header.available();
+		final ModelsArchiveCodec.Tables tables = ModelsArchiveCodec.decode(
+				ByteBuffer.wrap( encoded, headerLength, encoded.length - headerLength ),
+				MAX_TABLE_SIZE
+		);
+		classes = List.copyOf( tables.classes() );
+		types = List.copyOf( tables.types() );
+		fields = List.copyOf( tables.fields() );
+		methods = List.copyOf( tables.methods() );
+		constructors = List.copyOf( tables.constructors() );
+		recordComponents = List.copyOf( tables.recordComponents() );
+		annotationUsages = List.copyOf( tables.annotationUsages() );
+		validated = false;
+	}
+
+	/**
+	 * Read {@code length} bytes, incrementally, so that a corrupt (or hostile) length
+	 * cannot force a huge allocation before the bytes are actually there to be read.
+	 */
+	static byte[] readBytes(DataInput input, int length) throws IOException {
+		final byte[] chunk = new byte[Math.min( length, READ_CHUNK_SIZE )];
+		if ( length <= READ_CHUNK_SIZE ) {
+			input.readFully( chunk );
+			return chunk;
+		}
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( READ_CHUNK_SIZE );
+		int remaining = length;
+		while ( remaining > 0 ) {
+			final int count = Math.min( remaining, chunk.length );
+			input.readFully( chunk, 0, count );
+			bytes.write( chunk, 0, count );
+			remaining -= count;
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Written in place of the id of a {@linkplain ModelsArchiveStream stream}, which is written before its
+	 * content is known - the id of the read archive is derived from its content instead.
+	 */
+	static final UUID UNASSIGNED_ARCHIVE_ID = new UUID( 0L, 0L );
+
+	static void writeArchiveId(UUID archiveId, DataOutput output) throws IOException {
+		output.writeLong( archiveId.getMostSignificantBits() );
+		output.writeLong( archiveId.getLeastSignificantBits() );
+	}
+
+	static UUID readArchiveId(DataInput input) throws IOException {
+		return new UUID( input.readLong(), input.readLong() );
+	}
 
+	/**
+	 * Read the original format (version 1), where each entry is written using Java serialization.
+	 */
+	private void readLegacyFormat(ObjectInput input) throws IOException, ClassNotFoundException {
 		trackImplementors = input.readBoolean();
 		final int classCount = input.readInt();
 		if ( classCount < 0 || classCount > MAX_TABLE_SIZE ) {
@@ -142,9 +404,121 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		annotationUsages = readTable( input, AnnotationUsageReference.class, "annotation-usage" );
 	}
 
+	/**
+	 * The SHA-256 digest of the bytes the archive was read from, header included - whether
+	 * {@linkplain #readExternal serialized}, a {@linkplain ModelsArchiveFile file} or a
+	 * {@linkplain ModelsArchiveStream stream}.  For an archive not read from bytes, that of
+	 * its serialized form.
+	 */
+	@Override
+	public synchronized byte[] getChecksum() {
+		checkInitialized();
+		return resolveChecksum().clone();
+	}
+
+	private byte[] resolveChecksum() {
+		if ( checksum == null ) {
+			if ( checksumSource != null ) {
+				checksum = checksumSource.get();
+			}
+			else {
+				try {
+					checksum = createChecksumDigest().digest( encodeBinaryFormat() );
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException( "Unable to encode Hibernate Models archive", e );
+				}
+			}
+			checksumSource = null;
+		}
+		return checksum;
+	}
+
+	static MessageDigest createChecksumDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	/**
+	 * Before the archive is restored, verify it against the trusted checksum, if any, or else
+	 * validate the entries of an archive read in the binary format, which are not validated
+	 * as they are read.  Once verified, the entries of an archive file are no longer
+	 * validated as they are decoded either.
+	 */
+	private synchronized void checkIntegrity(RestoreOptions options) {
+		if ( options.getTrustedChecksum() != null ) {
+			if ( !MessageDigest.isEqual( resolveChecksum(), options.getTrustedChecksum() ) ) {
+				throw new IllegalStateException( "Hibernate Models archive does not match its trusted checksum" );
+			}
+			ModelsArchiveFile.trust( tables() );
+		}
+		else if ( !validated ) {
+			try {
+				validateArchiveState();
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalStateException( "Invalid Hibernate Models archive: " + e.getMessage(), e );
+			}
+		}
+		validated = true;
+	}
+
+	@Override
+	public RestoredModels restore(ClassLoading classLoading, RegistryPrimer registryPrimer, RestoreOptions options) {
+		checkInitialized();
+		if ( isDelta() ) {
+			throw new IllegalStateException( "A delta archive can only be restored onto its restored base archive" );
+		}
+		checkIntegrity( options );
+
+		final RestoredModelsImpl restoredModels = new RestoredModelsImpl(
+				tables(),
+				null,
+				collectSerialClasses(),
+				classLoading,
+				registryPrimer,
+				options.isLazy(),
+				options.getTrustedChecksum() != null
+		);
+		if ( !options.isLazy() ) {
+			restoredModels.restoreAll( options.isParallel() ? options.getExecutor() : null );
+		}
+		return restoredModels;
+	}
+
 	@Override
-	public RestoredModels restore(ClassLoading classLoading, RegistryPrimer registryPrimer) {
+	public RestoredModels restore(RestoredModels base, RestoreOptions options) {
 		checkInitialized();
+		if ( !isDelta() ) {
+			throw new IllegalStateException( "Not a delta archive" );
+		}
+		if ( !( base instanceof RestoredModelsImpl restoredBase )
+				|| !baseArchiveId.equals( restoredBase.archive().getArchiveId() ) ) {
+			throw new IllegalArgumentException( "The restored models were not restored from the base of this delta archive" );
+		}
+		checkIntegrity( options );
+
+		final RestoredModelsImpl restoredModels = new RestoredModelsImpl(
+				layer( restoredBase.tables, tables() ),
+				restoredBase,
+				collectSerialClasses(),
+				null,
+				null,
+				options.isLazy(),
+				options.getTrustedChecksum() != null
+		);
+		if ( !options.isLazy() ) {
+			restoredModels.restoreAll( options.isParallel() ? options.getExecutor() : null );
+		}
+		return restoredModels;
+	}
+
+	private LinkedHashMap<String, SerialClassDetails> collectSerialClasses() {
 		final LinkedHashMap<String, SerialClassDetails> serialClasses = new LinkedHashMap<>();
 		for ( SerialClassDetails serialClass : classes ) {
 			final SerialClassDetails previous = serialClasses.put( serialClass.getName(), serialClass );
@@ -152,33 +526,43 @@ public class ModelsArchiveImpl implements ModelsArchive {
 				throw new IllegalStateException( "Duplicate archived class name: " + serialClass.getName() );
 			}
 		}
+		return serialClasses;
+	}
 
-		final ModelsContext modelsContext = new RestoredModelContext(
-				serialClasses,
-				classLoading,
-				trackImplementors,
-				registryPrimer
+	/**
+	 * The tables of a delta archive layered over those of its base, so that the ids of
+	 * the delta archive index into them directly.
+	 */
+	private static ModelsArchiveCodec.Tables layer(ModelsArchiveCodec.Tables base, ModelsArchiveCodec.Tables delta) {
+		return new ModelsArchiveCodec.Tables(
+				new LayeredList<>( base.classes(), delta.classes() ),
+				new LayeredList<>( base.types(), delta.types() ),
+				new LayeredList<>( base.fields(), delta.fields() ),
+				new LayeredList<>( base.methods(), delta.methods() ),
+				new LayeredList<>( base.constructors(), delta.constructors() ),
+				new LayeredList<>( base.recordComponents(), delta.recordComponents() ),
+				delta.annotationUsages()
 		);
-		final List<ClassDetails> restoredClasses = new ArrayList<>( classes.size() );
-		for ( SerialClassDetails serialClass : classes ) {
-			restoredClasses.add( modelsContext.getClassDetailsRegistry().findClassDetails( serialClass.getName() ) );
+	}
+
+	private static class LayeredList<T> extends AbstractList<T> implements RandomAccess {
+		private final List<T> base;
+		private final List<T> delta;
+
+		private LayeredList(List<T> base, List<T> delta) {
+			this.base = base;
+			this.delta = delta;
+		}
+
+		@Override
+		public T get(int index) {
+			return index < base.size() ? base.get( index ) : delta.get( index - base.size() );
+		}
+
+		@Override
+		public int size() {
+			return base.size() + delta.size();
 		}
-		final List<TypeDetails> restoredTypes = restoreTypes( modelsContext, restoredClasses );
-		final List<FieldDetails> restoredFields = restoreFields( restoredClasses );
-		final List<MethodDetails> restoredMethods = restoreMethods( restoredClasses );
-		final List<ConstructorDetails> restoredConstructors = restoreConstructors( restoredClasses );
-		final List<RecordComponentDetails> restoredRecordComponents = restoreRecordComponents( restoredClasses );
-		final RestoredModelsImpl restoredModels = new RestoredModelsImpl(
-				modelsContext,
-				restoredClasses,
-				restoredTypes,
-				restoredFields,
-				restoredMethods,
-				restoredConstructors,
-				restoredRecordComponents
-		);
-		restoreAnnotationUsages( restoredModels );
-		return restoredModels;
 	}
 
 	private void checkInitialized() {
@@ -226,18 +610,6 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		}
 	}
 
-	private static void writeTable(ObjectOutput output, List<? extends Serializable> table) throws IOException {
-		Objects.requireNonNull( table, "table" );
-		output.writeInt( table.size() );
-		for ( int i = 0; i < table.size(); i++ ) {
-			final Serializable entry = table.get( i );
-			if ( entry == null ) {
-				throw new InvalidObjectException( "Archive table contains a null entry at index " + i );
-			}
-			output.writeObject( entry );
-		}
-	}
-
 	private static <T> List<T> readTable(ObjectInput input, Class<T> entryType, String tableName)
 			throws IOException, ClassNotFoundException {
 		final int entryCount = input.readInt();
@@ -257,13 +629,13 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		return List.copyOf( table );
 	}
 
-	private static void validateClassEntry(SerialClassDetails serialClass, int index) throws InvalidObjectException {
+	static void validateClassEntry(SerialClassDetails serialClass, int index) throws InvalidObjectException {
 		if ( serialClass.getName() == null || serialClass.getName().isBlank() ) {
 			throw new InvalidObjectException( "Invalid class-table entry name at index " + index );
 		}
 	}
 
-	private static void validateTableEntry(Object entry, String tableName, int index) throws InvalidObjectException {
+	static void validateTableEntry(Object entry, String tableName, int index) throws InvalidObjectException {
 		try {
 			if ( entry instanceof TypeReference typeReference ) {
 				validateTypeReference( typeReference );
@@ -420,155 +792,14 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		}
 	}
 
-	private List<FieldDetails> restoreFields(List<ClassDetails> restoredClasses) {
-		final ArrayList<FieldDetails> restoredFields = new ArrayList<>( fields.size() );
-		for ( FieldReference field : fields ) {
-			final ClassDetails declaringType = resolveDeclaringType( restoredClasses, field.declaringClassId() );
-			final FieldDetails restoredField = declaringType.findFieldByName( field.name() );
-			if ( restoredField == null ) {
-				throw new IllegalStateException(
-						"Could not locate archived field `%s` on `%s`".formatted( field.name(), declaringType.getName() )
-				);
-			}
-			restoredFields.add( restoredField );
-		}
-		return List.copyOf( restoredFields );
-	}
-
-	private List<TypeDetails> restoreTypes(ModelsContext modelsContext, List<ClassDetails> restoredClasses) {
-		final ArrayList<TypeDetails> restoredTypes = new ArrayList<>( types.size() );
-		for ( int i = 0; i < types.size(); i++ ) {
-			restoredTypes.add( null );
-		}
-		for ( int i = 0; i < types.size(); i++ ) {
-			restoreType( i, modelsContext, restoredClasses, restoredTypes );
-		}
-		return List.copyOf( restoredTypes );
-	}
-
-	private TypeDetails restoreType(
-			int typeId,
-			ModelsContext modelsContext,
-			List<ClassDetails> restoredClasses,
-			ArrayList<TypeDetails> restoredTypes) {
-		if ( typeId < 0 || typeId >= types.size() ) {
-			throw new IllegalStateException( "Type reference id is out of range: " + typeId );
-		}
-
-		final TypeDetails existing = restoredTypes.get( typeId );
-		if ( existing != null ) {
-			return existing;
-		}
-
-		final TypeReference reference = types.get( typeId );
-		if ( reference instanceof TypeVariableReference typeVariableReference ) {
-			final RestoredTypeVariableDetails placeholder = new RestoredTypeVariableDetails(
-					typeVariableReference.identifier(),
-					resolveDeclaringType( restoredClasses, typeVariableReference.declaringClassId() )
-			);
-			restoredTypes.set( typeId, placeholder );
-			placeholder.setBounds( typeVariableReference.boundTypeIds()
-					.stream()
-					.map( boundTypeId -> restoreType( boundTypeId, modelsContext, restoredClasses, restoredTypes ) )
-					.toList() );
-			return placeholder;
-		}
-
-		final TypeDetails restoredType;
-		if ( reference instanceof ClassTypeReference classTypeReference ) {
-			restoredType = restoreClassType( classTypeReference, restoredClasses );
-		}
-		else if ( reference instanceof ArrayTypeReference arrayTypeReference ) {
-			restoredType = new ArrayTypeDetailsImpl(
-					resolveDeclaringType( restoredClasses, arrayTypeReference.arrayClassId() ),
-					restoreType( arrayTypeReference.constituentTypeId(), modelsContext, restoredClasses, restoredTypes ),
-					modelsContext.getClassDetailsRegistry()
-			);
-		}
-		else if ( reference instanceof ParameterizedTypeReference parameterizedTypeReference ) {
-			restoredType = new ParameterizedTypeDetailsImpl(
-					resolveDeclaringType( restoredClasses, parameterizedTypeReference.rawClassId() ),
-					parameterizedTypeReference.argumentTypeIds()
-							.stream()
-							.map( argumentTypeId -> restoreType( argumentTypeId, modelsContext, restoredClasses, restoredTypes ) )
-							.toList(),
-					restoreScope( parameterizedTypeReference.owner(), modelsContext, restoredClasses, restoredTypes )
-			);
-		}
-		else if ( reference instanceof TypeVariableTargetReference typeVariableTargetReference ) {
-			restoredType = new TypeVariableReferenceDetailsImpl(
-					typeVariableTargetReference.identifier(),
-					restoreTypeVariable( typeVariableTargetReference.targetTypeId(), modelsContext, restoredClasses, restoredTypes )
-			);
-		}
-		else if ( reference instanceof WildcardTypeReference wildcardTypeReference ) {
-			restoredType = new WildcardTypeDetailsImpl(
-					wildcardTypeReference.boundTypeId() < 0
-							? null
-							: restoreType( wildcardTypeReference.boundTypeId(), modelsContext, restoredClasses, restoredTypes ),
-					wildcardTypeReference.isExtends()
-			);
-		}
-		else {
-			throw new IllegalStateException( "Type variable should be handled earlier" );
-		}
-		restoredTypes.set( typeId, restoredType );
-		return restoredType;
-	}
-
-	private static TypeDetails restoreClassType(ClassTypeReference reference, List<ClassDetails> restoredClasses) {
-		final ClassDetails classDetails = resolveDeclaringType( restoredClasses, reference.classId() );
-		return switch ( reference.kind() ) {
-			case CLASS -> new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS );
-			case PRIMITIVE -> new PrimitiveTypeDetailsImpl( classDetails );
-			case VOID -> new VoidTypeDetailsImpl( classDetails );
-			default -> throw new IllegalStateException( "Invalid class-based type kind: " + reference.kind() );
-		};
-	}
-
-	private TypeVariableDetails restoreTypeVariable(
-			int typeId,
-			ModelsContext modelsContext,
-			List<ClassDetails> restoredClasses,
-			ArrayList<TypeDetails> restoredTypes) {
-		final TypeDetails restoredType = restoreType( typeId, modelsContext, restoredClasses, restoredTypes );
-		if ( restoredType instanceof TypeVariableDetails typeVariableDetails ) {
-			return typeVariableDetails;
-		}
-		throw new IllegalStateException( "Type reference does not resolve to a type variable: " + typeId );
-	}
-
-	private TypeVariableScope restoreScope(
-			ScopeReference scopeReference,
-			ModelsContext modelsContext,
-			List<ClassDetails> restoredClasses,
-			ArrayList<TypeDetails> restoredTypes) {
-		if ( scopeReference == null ) {
-			return null;
-		}
-		return switch ( scopeReference.kind() ) {
-			case CLASS -> resolveDeclaringType( restoredClasses, scopeReference.id() );
-			case TYPE -> restoreType( scopeReference.id(), modelsContext, restoredClasses, restoredTypes );
-			default -> throw new IllegalStateException( "Invalid type-variable scope kind: " + scopeReference.kind() );
-		};
-	}
-
-	private void restoreAnnotationUsages(RestoredModelsImpl restoredModels) {
-		for ( AnnotationUsageReference annotationUsage : annotationUsages ) {
-			final Object target = restoredModels.resolve( annotationUsage.target() );
-			if ( !( target instanceof MutableAnnotationTarget mutableTarget ) ) {
-				throw new IllegalStateException( "Archived annotation target is not mutable: " + target );
-			}
-			mutableTarget.addAnnotationUsage( restoreAnnotationUsage( annotationUsage, restoredModels ) );
-		}
-	}
-
 	private Annotation restoreAnnotationUsage(AnnotationUsageReference annotationUsage, RestoredModelsImpl restoredModels) {
 		final ModelsContext modelsContext = restoredModels.modelsContext();
 		final Class<? extends Annotation> annotationType = resolveAnnotationType( annotationUsage.annotationTypeName(), modelsContext );
 		final AnnotationDescriptor<? extends Annotation> descriptor = modelsContext.getAnnotationDescriptorRegistry()
 				.getDescriptor( annotationType );
-		validateDescriptorRequirement( annotationUsage, descriptor );
+		if ( !restoredModels.trusted ) {
+			validateDescriptorRequirement( annotationUsage, descriptor );
+		}
 		return restoreAnnotationUsage( descriptor, annotationUsage.values(), restoredModels );
 	}
 
@@ -698,83 +929,150 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		return (Class<? extends Annotation>) annotationType;
 	}
 
-	private List<MethodDetails> restoreMethods(List<ClassDetails> restoredClasses) {
-		final ArrayList<MethodDetails> restoredMethods = new ArrayList<>( methods.size() );
-		for ( MethodReference method : methods ) {
-			final ClassDetails declaringType = resolveDeclaringType( restoredClasses, method.declaringClassId() );
-			restoredMethods.add( declaringType.getMethods().stream()
-					.filter( candidate -> matches( candidate, method ) )
-					.findFirst()
-					.orElseThrow( () -> new IllegalStateException(
-							"Could not locate archived method `%s` on `%s`".formatted(
-									method.name(),
-									declaringType.getName()
-							)
-					) ) );
+	/**
+	 * The key under which a method (or, with a {@code null} name, a constructor) is
+	 * {@linkplain RestoredModelsImpl#indexMethods indexed} - its name and erased argument types.
+	 */
+	private static String signature(String name, List<String> argumentTypeNames) {
+		final StringBuilder signature = new StringBuilder( name == null ? "" : name ).append( '(' );
+		for ( int i = 0; i < argumentTypeNames.size(); i++ ) {
+			if ( i > 0 ) {
+				signature.append( ',' );
+			}
+			signature.append( argumentTypeNames.get( i ) );
 		}
-		return List.copyOf( restoredMethods );
+		return signature.append( ')' ).toString();
 	}
 
-	private List<ConstructorDetails> restoreConstructors(List<ClassDetails> restoredClasses) {
-		final ArrayList<ConstructorDetails> restoredConstructors = new ArrayList<>( constructors.size() );
-		for ( ConstructorReference constructor : constructors ) {
-			final ClassDetails declaringType = resolveDeclaringType( restoredClasses, constructor.declaringClassId() );
-			restoredConstructors.add( declaringType.getConstructors().stream()
-					.filter( candidate -> matches( candidate, constructor ) )
-					.findFirst()
-					.orElseThrow( () -> new IllegalStateException(
-							"Could not locate archived constructor on `%s`".formatted( declaringType.getName() )
-					) ) );
+	private static List<String> argumentTypeNames(List<ClassDetails> argumentTypes) {
+		final ArrayList<String> argumentTypeNames = new ArrayList<>( argumentTypes.size() );
+		for ( ClassDetails argumentType : argumentTypes ) {
+			argumentTypeNames.add( argumentType.getName() );
 		}
-		return List.copyOf( restoredConstructors );
+		return argumentTypeNames;
 	}
 
-	private List<RecordComponentDetails> restoreRecordComponents(List<ClassDetails> restoredClasses) {
-		final ArrayList<RecordComponentDetails> restoredRecordComponents = new ArrayList<>( recordComponents.size() );
-		for ( RecordComponentReference recordComponent : recordComponents ) {
-			final ClassDetails declaringType = resolveDeclaringType( restoredClasses, recordComponent.declaringClassId() );
-			final RecordComponentDetails restoredRecordComponent = declaringType.findRecordComponentByName(
-					recordComponent.name()
-			);
-			if ( restoredRecordComponent == null ) {
-				throw new IllegalStateException(
-						"Could not locate archived record component `%s` on `%s`".formatted(
-								recordComponent.name(),
-								declaringType.getName()
+	/// The restored models, where each archive entry is materialized the first time
+	/// it is resolved.  When restoring eagerly, every entry is [resolved][#restoreAll()]
+	/// up front.  When restoring lazily, the archived annotation usages of each target
+	/// are [deferred][MutableAnnotationTarget#deferAnnotationUsages] as the classes
+	/// are registered with the restored context.
+	private class RestoredModelsImpl implements RestoredModels {
+		private final ModelsContext modelsContext;
+		// for a delta archive, layered over the tables of the base
+		private final ModelsArchiveCodec.Tables tables;
+		private final RestoredModelsImpl base;
+		// trusted archives are verified up front, rather than checked entry by entry
+		private final boolean trusted;
+
+		// each entry is published to its slot once resolved - resolving the same entry concurrently
+		// resolves to the same instance, whichever thread publishes it first
+		private final AtomicReferenceArray<ClassDetails> restoredClasses;
+		private final AtomicReferenceArray<TypeDetails> restoredTypes;
+		private final AtomicReferenceArray<FieldDetails> restoredFields;
+		private final AtomicReferenceArray<MethodDetails> restoredMethods;
+		private final AtomicReferenceArray<ConstructorDetails> restoredConstructors;
+		private final AtomicReferenceArray<RecordComponentDetails> restoredRecordComponents;
+		// entries not yet published are restored under this lock, as neither the registry nor the classes
+		// it builds are thread-safe - shared with the base, whose classes a delta refers to.  So restoring
+		// entries is serialized across a base and all of its deltas; only resolving published entries is
+		// lock-free, and a parallel restore only parallelizes the restoration of annotation usages
+		private final Object restoreLock;
+		// types are built (and so may refer to one another) before being published
+		private final HashMap<Integer, TypeDetails> stagedTypes = new HashMap<>();
+		private int typeDepth;
+		// methods and constructors of each declaring class, by signature
+		private final IdentityHashMap<ClassDetails, Map<String, MethodDetails>> methodIndexes = new IdentityHashMap<>();
+		private final IdentityHashMap<ClassDetails, Map<String, ConstructorDetails>> constructorIndexes = new IdentityHashMap<>();
+
+		// only used for lazy restoration
+		private final Map<String, Integer> classIds;
+		private final Map<ModelReference, List<Integer>> usagesByTarget;
+		private final Map<Integer, List<ModelReference>> memberTargetsByClass;
+
+		/// @param base For a delta archive, the models restored from the base archive.
+		private RestoredModelsImpl(
+				ModelsArchiveCodec.Tables tables,
+				RestoredModelsImpl base,
+				LinkedHashMap<String, SerialClassDetails> serialClasses,
+				ClassLoading classLoading,
+				RegistryPrimer registryPrimer,
+				boolean lazy,
+				boolean trusted) {
+			this.tables = tables;
+			this.base = base;
+			this.trusted = trusted;
+			this.restoreLock = base == null ? new Object() : base.restoreLock;
+			this.restoredClasses = new AtomicReferenceArray<>( tables.classes().size() );
+			this.restoredTypes = new AtomicReferenceArray<>( tables.types().size() );
+			this.restoredFields = new AtomicReferenceArray<>( tables.fields().size() );
+			this.restoredMethods = new AtomicReferenceArray<>( tables.methods().size() );
+			this.restoredConstructors = new AtomicReferenceArray<>( tables.constructors().size() );
+			this.restoredRecordComponents = new AtomicReferenceArray<>( tables.recordComponents().size() );
+
+			final List<AnnotationUsageReference> annotationUsages = tables.annotationUsages();
+			if ( lazy ) {
+				this.classIds = new HashMap<>();
+				// classes of the base archive are registered with, and restored by, the base models
+				for ( int i = baseSize( base == null ? null : base.restoredClasses ); i < tables.classes().size(); i++ ) {
+					classIds.put( tables.classes().get( i ).getName(), i );
+				}
+				this.usagesByTarget = new HashMap<>();
+				this.memberTargetsByClass = new HashMap<>();
+				for ( int i = 0; i < annotationUsages.size(); i++ ) {
+					// only the target is decoded here, for mapped archive files
+					final ModelReference target = ModelsArchiveFile.annotationUsageTarget( annotationUsages, i );
+					final List<Integer> targetUsages = usagesByTarget.computeIfAbsent(
+							target,
+							(key) -> new ArrayList<>()
+					);
+					if ( targetUsages.isEmpty() ) {
+						final int declaringClassId = resolveMemberDeclaringClassId( target );
+						if ( declaringClassId >= 0 ) {
+							memberTargetsByClass.computeIfAbsent( declaringClassId, (classId) -> new ArrayList<>() )
+									.add( target );
+						}
+					}
+					targetUsages.add( i );
+				}
+				this.modelsContext = base == null
+						? new RestoredModelContext(
+								serialClasses,
+								classLoading,
+								trackImplementors,
+								registryPrimer,
+								this::classDetailsRegistered
 						)
-				);
+						: new RestoredModelContext(
+								serialClasses,
+								(RestoredModelContext) base.modelsContext,
+								trackImplementors,
+								this::classDetailsRegistered
+						);
+			}
+			else {
+				this.classIds = null;
+				this.usagesByTarget = null;
+				this.memberTargetsByClass = null;
+				this.modelsContext = base == null
+						? new RestoredModelContext( serialClasses, classLoading, trackImplementors, registryPrimer )
+						: new RestoredModelContext(
+								serialClasses,
+								(RestoredModelContext) base.modelsContext,
+								trackImplementors,
+								null
+						);
 			}
-			restoredRecordComponents.add( restoredRecordComponent );
 		}
-		return List.copyOf( restoredRecordComponents );
-	}
 
-	private static ClassDetails resolveDeclaringType(List<ClassDetails> restoredClasses, int declaringClassId) {
-		if ( declaringClassId < 0 || declaringClassId >= restoredClasses.size() ) {
-			throw new IllegalStateException( "Declaring class reference id is out of range: " + declaringClassId );
+		private ModelsArchiveImpl archive() {
+			return ModelsArchiveImpl.this;
 		}
-		return restoredClasses.get( declaringClassId );
-	}
-
-	private static boolean matches(MethodDetails candidate, MethodReference reference) {
-		return candidate.getName().equals( reference.name() )
-				&& candidate.getArgumentTypes().stream().map( ClassDetails::getName ).toList()
-						.equals( reference.argumentTypeNames() );
-	}
 
-	private static boolean matches(ConstructorDetails candidate, ConstructorReference reference) {
-		return candidate.getArgumentTypes().stream().map( ClassDetails::getName ).toList()
-				.equals( reference.argumentTypeNames() );
-	}
+		private ModelsContext modelsContext() {
+			return modelsContext;
+		}
 
-	private record RestoredModelsImpl(
-			ModelsContext modelsContext,
-			List<ClassDetails> classes,
-			List<TypeDetails> types,
-			List<FieldDetails> fields,
-			List<MethodDetails> methods,
-			List<ConstructorDetails> constructors,
-			List<RecordComponentDetails> recordComponents) implements RestoredModels {
 		@Override
 		public ModelsContext getModelsContext() {
 			return modelsContext;
@@ -783,21 +1081,420 @@ public class ModelsArchiveImpl implements ModelsArchive {
 		@Override
 		public Object resolve(ModelReference reference) {
 			return switch ( reference.kind() ) {
-				case CLASS -> resolve( classes, reference, "Class" );
-				case TYPE -> resolve( types, reference, "Type" );
-				case FIELD -> resolve( fields, reference, "Field" );
-				case METHOD -> resolve( methods, reference, "Method" );
-				case CONSTRUCTOR -> resolve( constructors, reference, "Constructor" );
-				case RECORD_COMPONENT -> resolve( recordComponents, reference, "Record component" );
+				case CLASS -> resolveClass( checkRange( tables.classes(), reference, "Class" ) );
+				case TYPE -> resolveType( checkRange( tables.types(), reference, "Type" ) );
+				case FIELD -> resolveField( checkRange( tables.fields(), reference, "Field" ) );
+				case METHOD -> resolveMethod( checkRange( tables.methods(), reference, "Method" ) );
+				case CONSTRUCTOR -> resolveConstructor( checkRange( tables.constructors(), reference, "Constructor" ) );
+				case RECORD_COMPONENT -> resolveRecordComponent(
+						checkRange( tables.recordComponents(), reference, "Record component" )
+				);
 				case MODULE -> throw new IllegalArgumentException( "MODULE archive entries are not implemented yet" );
 			};
 		}
 
-		private static Object resolve(List<?> table, ModelReference reference, String label) {
+		private static int checkRange(List<?> table, ModelReference reference, String label) {
 			if ( reference.id() >= table.size() ) {
 				throw new IllegalArgumentException( label + " reference id is out of range: " + reference.id() );
 			}
-			return table.get( reference.id() );
+			return reference.id();
+		}
+
+		/// Restore every archive entry, along with all archived annotation usages.  For a
+		/// delta archive, entries of the base archive are resolved through the base models.
+		///
+		/// @param executor When non-null, annotation usages are restored in parallel on this executor.
+		private void restoreAll(Executor executor) {
+			for ( int i = baseSize( base == null ? null : base.restoredClasses ); i < restoredClasses.length(); i++ ) {
+				resolveClass( i );
+			}
+			for ( int i = baseSize( base == null ? null : base.restoredTypes ); i < restoredTypes.length(); i++ ) {
+				resolveType( i );
+			}
+			for ( int i = baseSize( base == null ? null : base.restoredFields ); i < restoredFields.length(); i++ ) {
+				resolveField( i );
+			}
+			for ( int i = baseSize( base == null ? null : base.restoredMethods ); i < restoredMethods.length(); i++ ) {
+				resolveMethod( i );
+			}
+			for ( int i = baseSize( base == null ? null : base.restoredConstructors ); i < restoredConstructors.length(); i++ ) {
+				resolveConstructor( i );
+			}
+			for ( int i = baseSize( base == null ? null : base.restoredRecordComponents ); i < restoredRecordComponents.length(); i++ ) {
+				resolveRecordComponent( i );
+			}
+
+			if ( executor == null ) {
+				for ( AnnotationUsageReference annotationUsage : tables.annotationUsages() ) {
+					addAnnotationUsage( resolveAnnotationTarget( annotationUsage.target() ), annotationUsage );
+				}
+			}
+			else {
+				restoreAnnotationUsagesInParallel( executor );
+			}
+		}
+
+		/// Restore the annotation usages partitioned by target, so that no two tasks
+		/// touch the same target.  Within a target the archived order is retained.
+		private void restoreAnnotationUsagesInParallel(Executor executor) {
+			final LinkedHashMap<ModelReference, List<AnnotationUsageReference>> usagesByTarget = new LinkedHashMap<>();
+			for ( AnnotationUsageReference annotationUsage : tables.annotationUsages() ) {
+				usagesByTarget.computeIfAbsent( annotationUsage.target(), (target) -> new ArrayList<>() )
+						.add( annotationUsage );
+			}
+			final List<Map.Entry<ModelReference, List<AnnotationUsageReference>>> partitions = new ArrayList<>( usagesByTarget.entrySet() );
+			final int batchSize = Math.max( 1, partitions.size() / ( Runtime.getRuntime().availableProcessors() * 4 ) );
+
+			final ArrayList<CompletableFuture<Void>> tasks = new ArrayList<>();
+			for ( int start = 0; start < partitions.size(); start += batchSize ) {
+				final List<Map.Entry<ModelReference, List<AnnotationUsageReference>>> batch = partitions.subList(
+						start,
+						Math.min( start + batchSize, partitions.size() )
+				);
+				tasks.add( CompletableFuture.runAsync( () -> {
+					for ( Map.Entry<ModelReference, List<AnnotationUsageReference>> partition : batch ) {
+						final MutableAnnotationTarget target = resolveAnnotationTarget( partition.getKey() );
+						for ( AnnotationUsageReference annotationUsage : partition.getValue() ) {
+							addAnnotationUsage( target, annotationUsage );
+						}
+					}
+				}, executor ) );
+			}
+
+			try {
+				CompletableFuture.allOf( tasks.toArray( new CompletableFuture[0] ) ).join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+
+		private static int baseSize(AtomicReferenceArray<?> baseEntries) {
+			return baseEntries == null ? 0 : baseEntries.length();
+		}
+
+		private MutableAnnotationTarget resolveAnnotationTarget(ModelReference targetReference) {
+			final Object target = resolve( targetReference );
+			if ( !( target instanceof MutableAnnotationTarget mutableTarget ) ) {
+				throw new IllegalStateException( "Archived annotation target is not mutable: " + target );
+			}
+			return mutableTarget;
+		}
+
+		private void addAnnotationUsage(MutableAnnotationTarget target, AnnotationUsageReference annotationUsage) {
+			target.addAnnotationUsage( restoreAnnotationUsage( annotationUsage, this ) );
+		}
+
+		/// Callback from the class registry of a lazily restored context, deferring
+		/// the archived annotation usages of the class and its members.
+		private void classDetailsRegistered(ClassDetails classDetails) {
+			final Integer classId = classIds.get( classDetails.getName() );
+			if ( classId == null || restoredClasses.getAndSet( classId, classDetails ) == classDetails ) {
+				return;
+			}
+
+			deferAnnotationUsages( new ModelReference( ModelReference.Kind.CLASS, classId ), classDetails );
+			final List<ModelReference> memberTargets = memberTargetsByClass.get( classId );
+			if ( memberTargets != null ) {
+				for ( ModelReference memberTarget : memberTargets ) {
+					deferAnnotationUsages( memberTarget, resolve( memberTarget ) );
+				}
+			}
+		}
+
+		private void deferAnnotationUsages(ModelReference targetReference, Object target) {
+			final List<Integer> targetUsages = usagesByTarget.get( targetReference );
+			if ( targetUsages == null ) {
+				return;
+			}
+			if ( !( target instanceof MutableAnnotationTarget mutableTarget ) ) {
+				throw new IllegalStateException( "Archived annotation target is not mutable: " + target );
+			}
+			mutableTarget.deferAnnotationUsages( () -> {
+				final ArrayList<Annotation> usages = new ArrayList<>( targetUsages.size() );
+				for ( Integer usageIndex : targetUsages ) {
+					usages.add( restoreAnnotationUsage( tables.annotationUsages().get( usageIndex ), this ) );
+				}
+				return usages;
+			} );
+		}
+
+		private int resolveMemberDeclaringClassId(ModelReference target) {
+			return switch ( target.kind() ) {
+				case FIELD -> tables.fields().get( checkRange( tables.fields(), target, "Field" ) ).declaringClassId();
+				case METHOD -> tables.methods().get( checkRange( tables.methods(), target, "Method" ) ).declaringClassId();
+				case CONSTRUCTOR -> tables.constructors().get( checkRange( tables.constructors(), target, "Constructor" ) )
+						.declaringClassId();
+				case RECORD_COMPONENT -> tables.recordComponents()
+						.get( checkRange( tables.recordComponents(), target, "Record component" ) )
+						.declaringClassId();
+				default -> -1;
+			};
+		}
+
+		private ClassDetails resolveClass(int classId) {
+			if ( !trusted && ( classId < 0 || classId >= restoredClasses.length() ) ) {
+				throw new IllegalStateException( "Declaring class reference id is out of range: " + classId );
+			}
+			if ( base != null && classId < base.restoredClasses.length() ) {
+				return base.resolveClass( classId );
+			}
+			final ClassDetails restoredClass = restoredClasses.get( classId );
+			if ( restoredClass != null ) {
+				return restoredClass;
+			}
+			synchronized ( restoreLock ) {
+				// when restoring lazily, registering the class publishes it - see #classDetailsRegistered
+				return publish( restoredClasses, classId, modelsContext.getClassDetailsRegistry()
+						.resolveClassDetails( tables.classes().get( classId ).getName() ) );
+			}
+		}
+
+		private FieldDetails resolveField(int fieldId) {
+			if ( base != null && fieldId < base.restoredFields.length() ) {
+				return base.resolveField( fieldId );
+			}
+			FieldDetails restoredField = restoredFields.get( fieldId );
+			if ( restoredField == null ) {
+				final FieldReference field = tables.fields().get( fieldId );
+				final ClassDetails declaringType = resolveClass( field.declaringClassId() );
+				synchronized ( restoreLock ) {
+					restoredField = declaringType.findFieldByName( field.name() );
+				}
+				if ( restoredField == null ) {
+					throw new IllegalStateException(
+							"Could not locate archived field `%s` on `%s`".formatted( field.name(), declaringType.getName() )
+					);
+				}
+				restoredField = publish( restoredFields, fieldId, restoredField );
+			}
+			return restoredField;
+		}
+
+		private MethodDetails resolveMethod(int methodId) {
+			if ( base != null && methodId < base.restoredMethods.length() ) {
+				return base.resolveMethod( methodId );
+			}
+			MethodDetails restoredMethod = restoredMethods.get( methodId );
+			if ( restoredMethod == null ) {
+				final MethodReference method = tables.methods().get( methodId );
+				final ClassDetails declaringType = resolveClass( method.declaringClassId() );
+				synchronized ( restoreLock ) {
+					restoredMethod = methodIndexes.computeIfAbsent( declaringType, RestoredModelsImpl::indexMethods )
+							.get( signature( method.name(), method.argumentTypeNames() ) );
+				}
+				if ( restoredMethod == null ) {
+					throw new IllegalStateException(
+							"Could not locate archived method `%s` on `%s`".formatted( method.name(), declaringType.getName() )
+					);
+				}
+				restoredMethod = publish( restoredMethods, methodId, restoredMethod );
+			}
+			return restoredMethod;
+		}
+
+		private ConstructorDetails resolveConstructor(int constructorId) {
+			if ( base != null && constructorId < base.restoredConstructors.length() ) {
+				return base.resolveConstructor( constructorId );
+			}
+			ConstructorDetails restoredConstructor = restoredConstructors.get( constructorId );
+			if ( restoredConstructor == null ) {
+				final ConstructorReference constructor = tables.constructors().get( constructorId );
+				final ClassDetails declaringType = resolveClass( constructor.declaringClassId() );
+				synchronized ( restoreLock ) {
+					restoredConstructor = constructorIndexes.computeIfAbsent( declaringType, RestoredModelsImpl::indexConstructors )
+							.get( signature( null, constructor.argumentTypeNames() ) );
+				}
+				if ( restoredConstructor == null ) {
+					throw new IllegalStateException(
+							"Could not locate archived constructor on `%s`".formatted( declaringType.getName() )
+					);
+				}
+				restoredConstructor = publish( restoredConstructors, constructorId, restoredConstructor );
+			}
+			return restoredConstructor;
+		}
+
+		private static Map<String, MethodDetails> indexMethods(ClassDetails declaringType) {
+			final List<MethodDetails> methods = declaringType.getMethods();
+			final HashMap<String, MethodDetails> index = new HashMap<>();
+			for ( MethodDetails method : methods ) {
+				// the first match wins, as when searching the methods
+				index.putIfAbsent( signature( method.getName(), argumentTypeNames( method.getArgumentTypes() ) ), method );
+			}
+			return index;
+		}
+
+		private static Map<String, ConstructorDetails> indexConstructors(ClassDetails declaringType) {
+			final List<ConstructorDetails> constructors = declaringType.getConstructors();
+			final HashMap<String, ConstructorDetails> index = new HashMap<>();
+			for ( ConstructorDetails constructor : constructors ) {
+				index.putIfAbsent( signature( null, argumentTypeNames( constructor.getArgumentTypes() ) ), constructor );
+			}
+			return index;
+		}
+
+		private RecordComponentDetails resolveRecordComponent(int recordComponentId) {
+			if ( base != null && recordComponentId < base.restoredRecordComponents.length() ) {
+				return base.resolveRecordComponent( recordComponentId );
+			}
+			RecordComponentDetails restoredRecordComponent = restoredRecordComponents.get( recordComponentId );
+			if ( restoredRecordComponent == null ) {
+				final RecordComponentReference recordComponent = tables.recordComponents().get( recordComponentId );
+				final ClassDetails declaringType = resolveClass( recordComponent.declaringClassId() );
+				synchronized ( restoreLock ) {
+					restoredRecordComponent = declaringType.findRecordComponentByName( recordComponent.name() );
+				}
+				if ( restoredRecordComponent == null ) {
+					throw new IllegalStateException(
+							"Could not locate archived record component `%s` on `%s`".formatted(
+									recordComponent.name(),
+									declaringType.getName()
+							)
+					);
+				}
+				restoredRecordComponent = publish( restoredRecordComponents, recordComponentId, restoredRecordComponent );
+			}
+			return restoredRecordComponent;
+		}
+
+		private TypeDetails resolveType(int typeId) {
+			if ( !trusted && ( typeId < 0 || typeId >= restoredTypes.length() ) ) {
+				throw new IllegalStateException( "Type reference id is out of range: " + typeId );
+			}
+			if ( base != null && typeId < base.restoredTypes.length() ) {
+				return base.resolveType( typeId );
+			}
+
+			final TypeDetails published = restoredTypes.get( typeId );
+			if ( published != null ) {
+				return published;
+			}
+
+			// a type may refer back to itself, through a type variable, so types are only published
+			// once the outermost type being restored is complete - never before their bounds are set
+			synchronized ( restoreLock ) {
+				final TypeDetails existing = restoredTypes.get( typeId );
+				if ( existing != null ) {
+					return existing;
+				}
+				final TypeDetails staged = stagedTypes.get( typeId );
+				if ( staged != null ) {
+					return staged;
+				}
+
+				typeDepth++;
+				boolean completed = false;
+				try {
+					final TypeDetails restoredType = restoreType( typeId );
+					completed = true;
+					return restoredType;
+				}
+				finally {
+					if ( --typeDepth == 0 ) {
+						if ( completed ) {
+							stagedTypes.forEach( restoredTypes::set );
+						}
+						stagedTypes.clear();
+					}
+				}
+			}
+		}
+
+		private TypeDetails restoreType(int typeId) {
+			final TypeReference reference = tables.types().get( typeId );
+			if ( reference instanceof TypeVariableReference typeVariableReference ) {
+				final RestoredTypeVariableDetails placeholder = new RestoredTypeVariableDetails(
+						typeVariableReference.identifier(),
+						resolveClass( typeVariableReference.declaringClassId() )
+				);
+				stagedTypes.put( typeId, placeholder );
+				placeholder.setBounds( typeVariableReference.boundTypeIds()
+						.stream()
+						.map( this::resolveType )
+						.toList() );
+				return placeholder;
+			}
+
+			final TypeDetails restoredType;
+			if ( reference instanceof ClassTypeReference classTypeReference ) {
+				restoredType = restoreClassType( classTypeReference );
+			}
+			else if ( reference instanceof ArrayTypeReference arrayTypeReference ) {
+				restoredType = new ArrayTypeDetailsImpl(
+						resolveClass( arrayTypeReference.arrayClassId() ),
+						resolveType( arrayTypeReference.constituentTypeId() ),
+						modelsContext.getClassDetailsRegistry()
+				);
+			}
+			else if ( reference instanceof ParameterizedTypeReference parameterizedTypeReference ) {
+				restoredType = new ParameterizedTypeDetailsImpl(
+						resolveClass( parameterizedTypeReference.rawClassId() ),
+						parameterizedTypeReference.argumentTypeIds()
+								.stream()
+								.map( this::resolveType )
+								.toList(),
+						restoreScope( parameterizedTypeReference.owner() )
+				);
+			}
+			else if ( reference instanceof TypeVariableTargetReference typeVariableTargetReference ) {
+				restoredType = new TypeVariableReferenceDetailsImpl(
+						typeVariableTargetReference.identifier(),
+						restoreTypeVariable( typeVariableTargetReference.targetTypeId() )
+				);
+			}
+			else if ( reference instanceof WildcardTypeReference wildcardTypeReference ) {
+				restoredType = new WildcardTypeDetailsImpl(
+						wildcardTypeReference.boundTypeId() < 0
+								? null
+								: resolveType( wildcardTypeReference.boundTypeId() ),
+						wildcardTypeReference.isExtends()
+				);
+			}
+			else {
+				throw new IllegalStateException( "Type variable should be handled earlier" );
+			}
+			stagedTypes.put( typeId, restoredType );
+			return restoredType;
+		}
+
+		private static <T> T publish(AtomicReferenceArray<T> restored, int id, T resolved) {
+			return restored.compareAndSet( id, null, resolved ) ? resolved : restored.get( id );
+		}
+
+		private TypeDetails restoreClassType(ClassTypeReference reference) {
+			final ClassDetails classDetails = resolveClass( reference.classId() );
+			return switch ( reference.kind() ) {
+				case CLASS -> new ClassTypeDetailsImpl( classDetails, TypeDetails.Kind.CLASS );
+				case PRIMITIVE -> new PrimitiveTypeDetailsImpl( classDetails );
+				case VOID -> new VoidTypeDetailsImpl( classDetails );
+				default -> throw new IllegalStateException( "Invalid class-based type kind: " + reference.kind() );
+			};
+		}
+
+		private TypeVariableDetails restoreTypeVariable(int typeId) {
+			final TypeDetails restoredType = resolveType( typeId );
+			if ( restoredType instanceof TypeVariableDetails typeVariableDetails ) {
+				return typeVariableDetails;
+			}
+			throw new IllegalStateException( "Type reference does not resolve to a type variable: " + typeId );
+		}
+
+		private TypeVariableScope restoreScope(ScopeReference scopeReference) {
+			if ( scopeReference == null ) {
+				return null;
+			}
+			return switch ( scopeReference.kind() ) {
+				case CLASS -> resolveClass( scopeReference.id() );
+				case TYPE -> resolveType( scopeReference.id() );
+				default -> throw new IllegalStateException( "Invalid type-variable scope kind: " + scopeReference.kind() );
+			};
 		}
 	}
 
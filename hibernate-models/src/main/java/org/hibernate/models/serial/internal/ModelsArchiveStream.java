@@ -0,0 +1,340 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.AnnotationUsageReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.ConstructorReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.FieldReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.MethodReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.RecordComponentReference;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl.TypeReference;
+import org.hibernate.models.serial.spi.SerialClassDetails;
+
+/// Streamed form of a [ModelsArchiveImpl], written [incrementally][ModelsArchiveWriterImpl]
+/// as entries are collected rather than all at once.
+///
+/// The stream starts with a header (magic, version, the track-implementors and
+/// compression flags and an unassigned archive id), followed by the (optionally deflated) entries.
+/// Each entry is either a string definition, assigned the next string id, or a
+/// table row - its table, id, length and the row as encoded by [ModelsArchiveCodec],
+/// which may only refer to strings already defined.  The entries are terminated by
+/// an end marker followed by the [fingerprint][ModelsArchiveFingerprint], if any.
+/// The [checksum][ModelsArchiveImpl#getChecksum()] of a read archive covers the
+/// header and the entries as they were written, before any compression.
+///
+/// @author Steve Ebersole
+public final class ModelsArchiveStream {
+	private static final int MAGIC = 0x484D4F53;
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int END = 0;
+	private static final int STRING = 1;
+	private static final int CLASS = 2;
+	private static final int TYPE = 3;
+	private static final int FIELD = 4;
+	private static final int METHOD = 5;
+	private static final int CONSTRUCTOR = 6;
+	private static final int RECORD_COMPONENT = 7;
+	private static final int ANNOTATION_USAGE = 8;
+
+	private final OutputStream output;
+	private final Deflater deflater;
+	private final DeflaterOutputStream deflaterOutput;
+	private final int bufferSize;
+	private final ModelsArchiveCodec.Encoder rowEncoder = new ModelsArchiveCodec.Encoder();
+	private final ModelsArchiveCodec.Encoder buffer = new ModelsArchiveCodec.Encoder();
+	private int writtenStringCount;
+
+	/// Writes the header to the given stream.
+	ModelsArchiveStream(
+			OutputStream output,
+			boolean trackImplementors,
+			boolean compressed,
+			int bufferSize) throws IOException {
+		final DataOutputStream headerOutput = new DataOutputStream( output );
+		headerOutput.writeInt( MAGIC );
+		headerOutput.writeInt( FORMAT_VERSION );
+		headerOutput.writeBoolean( trackImplementors );
+		headerOutput.writeBoolean( compressed );
+		// the content is not known yet - the id of the read archive is derived from it
+		ModelsArchiveImpl.writeArchiveId( ModelsArchiveImpl.UNASSIGNED_ARCHIVE_ID, headerOutput );
+		headerOutput.flush();
+
+		// a supplied Deflater is not ended by the DeflaterOutputStream - see #finish
+		this.deflater = compressed ? new Deflater( Deflater.BEST_SPEED ) : null;
+		this.deflaterOutput = compressed ? new DeflaterOutputStream( output, deflater, bufferSize ) : null;
+		this.output = compressed ? deflaterOutput : output;
+		this.bufferSize = bufferSize;
+	}
+
+	void writeClasses(int firstId, List<SerialClassDetails> classes) throws IOException {
+		for ( int i = 0; i < classes.size(); i++ ) {
+			rowEncoder.writeClass( classes.get( i ) );
+			writeRow( CLASS, firstId + i );
+		}
+	}
+
+	void writeTypes(int firstId, List<TypeReference> types) throws IOException {
+		for ( int i = 0; i < types.size(); i++ ) {
+			rowEncoder.writeType( types.get( i ) );
+			writeRow( TYPE, firstId + i );
+		}
+	}
+
+	void writeFields(int firstId, List<FieldReference> fields) throws IOException {
+		for ( int i = 0; i < fields.size(); i++ ) {
+			rowEncoder.writeField( fields.get( i ) );
+			writeRow( FIELD, firstId + i );
+		}
+	}
+
+	void writeMethods(int firstId, List<MethodReference> methods) throws IOException {
+		for ( int i = 0; i < methods.size(); i++ ) {
+			rowEncoder.writeMethod( methods.get( i ) );
+			writeRow( METHOD, firstId + i );
+		}
+	}
+
+	void writeConstructors(int firstId, List<ConstructorReference> constructors) throws IOException {
+		for ( int i = 0; i < constructors.size(); i++ ) {
+			rowEncoder.writeConstructor( constructors.get( i ) );
+			writeRow( CONSTRUCTOR, firstId + i );
+		}
+	}
+
+	void writeRecordComponents(int firstId, List<RecordComponentReference> recordComponents) throws IOException {
+		for ( int i = 0; i < recordComponents.size(); i++ ) {
+			rowEncoder.writeRecordComponent( recordComponents.get( i ) );
+			writeRow( RECORD_COMPONENT, firstId + i );
+		}
+	}
+
+	void writeAnnotationUsages(int firstId, List<AnnotationUsageReference> annotationUsages) throws IOException {
+		for ( int i = 0; i < annotationUsages.size(); i++ ) {
+			rowEncoder.writeAnnotationUsage( annotationUsages.get( i ) );
+			writeRow( ANNOTATION_USAGE, firstId + i );
+		}
+	}
+
+	private void writeRow(int table, int id) throws IOException {
+		// define any strings first referenced by the row
+		final List<String> strings = rowEncoder.strings();
+		for ( ; writtenStringCount < strings.size(); writtenStringCount++ ) {
+			buffer.writeUnsignedInt( STRING );
+			buffer.writeUtf8( strings.get( writtenStringCount ) );
+		}
+
+		buffer.writeUnsignedInt( table );
+		buffer.writeUnsignedInt( id );
+		buffer.writeUnsignedInt( rowEncoder.size() );
+		buffer.writeEncoded( rowEncoder );
+		rowEncoder.reset();
+
+		if ( buffer.size() >= bufferSize ) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		buffer.writeTo( output );
+		buffer.reset();
+	}
+
+	/// Writes the end of the archive, flushing (but not closing) the underlying stream.
+	void finish(ModelsArchiveFingerprint fingerprint) throws IOException {
+		try {
+			buffer.writeUnsignedInt( END );
+			flushBuffer();
+
+			final DataOutputStream trailerOutput = new DataOutputStream( output );
+			trailerOutput.writeBoolean( fingerprint != null );
+			if ( fingerprint != null ) {
+				fingerprint.writeTo( trailerOutput );
+			}
+			trailerOutput.flush();
+			if ( deflaterOutput != null ) {
+				deflaterOutput.finish();
+			}
+			output.flush();
+		}
+		finally {
+			if ( deflater != null ) {
+				deflater.end();
+			}
+		}
+	}
+
+	/// Read a streamed archive.
+	public static ModelsArchiveImpl read(InputStream input) throws IOException {
+		final MessageDigest digest = ModelsArchiveImpl.createChecksumDigest();
+		final DataInputStream headerInput = new DataInputStream( new DigestInputStream( input, digest ) );
+		if ( headerInput.readInt() != MAGIC ) {
+			throw new InvalidObjectException( "Not a streamed Hibernate Models archive" );
+		}
+		final int version = headerInput.readInt();
+		if ( version != FORMAT_VERSION ) {
+			throw new InvalidObjectException( "Unsupported streamed Hibernate Models archive version: " + version );
+		}
+		final boolean trackImplementors = headerInput.readBoolean();
+		final boolean compressed = headerInput.readBoolean();
+		final UUID archiveId = ModelsArchiveImpl.readArchiveId( headerInput );
+
+		if ( !compressed ) {
+			return readEntries( headerInput, digest, trackImplementors, archiveId );
+		}
+		// closing the InflaterInputStream ends its Inflater - the underlying stream is the caller's to close
+		try (InflaterInputStream inflaterInput = new InflaterInputStream( new NonClosingInputStream( input ) )) {
+			// the inflated entries are digested, the inflater possibly reading past the end of the archive
+			final DataInputStream entryInput = new DataInputStream( new DigestInputStream( inflaterInput, digest ) );
+			return readEntries( entryInput, digest, trackImplementors, archiveId );
+		}
+	}
+
+	private static ModelsArchiveImpl readEntries(
+			DataInputStream entryInput,
+			MessageDigest digest,
+			boolean trackImplementors,
+			UUID archiveId) throws IOException {
+		final ArrayList<String> strings = new ArrayList<>();
+		final ArrayList<SerialClassDetails> classes = new ArrayList<>();
+		final ArrayList<TypeReference> types = new ArrayList<>();
+		final ArrayList<FieldReference> fields = new ArrayList<>();
+		final ArrayList<MethodReference> methods = new ArrayList<>();
+		final ArrayList<ConstructorReference> constructors = new ArrayList<>();
+		final ArrayList<RecordComponentReference> recordComponents = new ArrayList<>();
+		final ArrayList<AnnotationUsageReference> annotationUsages = new ArrayList<>();
+
+		try {
+			for ( int entry = readVarInt( entryInput ); entry != END; entry = readVarInt( entryInput ) ) {
+				if ( entry == STRING ) {
+					checkTableSize( strings, "string" );
+					strings.add( new String( readBytes( entryInput ), StandardCharsets.UTF_8 ) );
+					continue;
+				}
+
+				final int id = readVarInt( entryInput );
+				final ModelsArchiveCodec.Decoder decoder = new ModelsArchiveCodec.Decoder(
+						ByteBuffer.wrap( readBytes( entryInput ) ),
+						ModelsArchiveImpl.MAX_TABLE_SIZE,
+						strings::get,
+						strings.size()
+				);
+				switch ( entry ) {
+					case CLASS -> {
+						checkRowId( classes, id, "class" );
+						final SerialClassDetails serialClass = decoder.readClass( id );
+						ModelsArchiveImpl.validateClassEntry( serialClass, id );
+						classes.add( serialClass );
+					}
+					case TYPE -> addRow( types, id, "type", decoder.readType( id ) );
+					case FIELD -> addRow( fields, id, "field", decoder.readField() );
+					case METHOD -> addRow( methods, id, "method", decoder.readMethod() );
+					case CONSTRUCTOR -> addRow( constructors, id, "constructor", decoder.readConstructor() );
+					case RECORD_COMPONENT -> addRow( recordComponents, id, "record-component", decoder.readRecordComponent() );
+					case ANNOTATION_USAGE -> addRow( annotationUsages, id, "annotation-usage", decoder.readAnnotationUsage() );
+					default -> throw new InvalidObjectException( "Unexpected streamed Hibernate Models archive entry: " + entry );
+				}
+			}
+
+			final ModelsArchiveFingerprint fingerprint = entryInput.readBoolean()
+					? ModelsArchiveFingerprint.readFrom( entryInput, ModelsArchiveImpl.MAX_TABLE_SIZE )
+					: null;
+			final byte[] checksum = digest.digest();
+			return new ModelsArchiveImpl(
+					trackImplementors,
+					fingerprint,
+					archiveId,
+					null,
+					new ModelsArchiveCodec.Tables(
+							List.copyOf( classes ),
+							List.copyOf( types ),
+							List.copyOf( fields ),
+							List.copyOf( methods ),
+							List.copyOf( constructors ),
+							List.copyOf( recordComponents ),
+							List.copyOf( annotationUsages )
+					),
+					() -> checksum
+			);
+		}
+		catch (RuntimeException e) {
+			throw ModelsArchiveCodec.invalidArchive( e );
+		}
+	}
+
+	private static <T> void addRow(List<T> table, int id, String tableName, T row) throws InvalidObjectException {
+		checkRowId( table, id, tableName );
+		ModelsArchiveImpl.validateTableEntry( row, tableName, id );
+		table.add( row );
+	}
+
+	private static void checkRowId(List<?> table, int id, String tableName) throws InvalidObjectException {
+		// rows are streamed in id order
+		if ( id != table.size() ) {
+			throw new InvalidObjectException( "Unexpected " + tableName + "-table row id: " + id );
+		}
+		checkTableSize( table, tableName );
+	}
+
+	private static void checkTableSize(List<?> table, String tableName) throws InvalidObjectException {
+		if ( table.size() >= ModelsArchiveImpl.MAX_TABLE_SIZE ) {
+			throw new InvalidObjectException( "Invalid Hibernate Models " + tableName + "-table size" );
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final int length = readVarInt( input );
+		if ( length < 0 ) {
+			throw new InvalidObjectException( "Invalid streamed Hibernate Models archive entry length: " + length );
+		}
+		// the length is not trusted - the bytes are only allocated as they are read
+		return ModelsArchiveImpl.readBytes( input, length );
+	}
+
+	private static int readVarInt(InputStream input) throws IOException {
+		int result = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			final int next = input.read();
+			if ( next < 0 ) {
+				throw new EOFException( "Truncated streamed Hibernate Models archive" );
+			}
+			result |= ( next & 0x7F ) << shift;
+			if ( ( next & 0x80 ) == 0 ) {
+				return result;
+			}
+		}
+		throw new InvalidObjectException( "Invalid variable-length integer in streamed Hibernate Models archive" );
+	}
+
+	/// Shields the caller's stream from being closed along with the [InflaterInputStream].
+	private static final class NonClosingInputStream extends FilterInputStream {
+		private NonClosingInputStream(InputStream input) {
+			super( input );
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.hibernate.models.serial.spi.ModelReference;
+import org.hibernate.models.serial.spi.ModelsArchiveStreamWriter;
+import org.hibernate.models.serial.spi.StreamOptions;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ConstructorDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModuleDetails;
+import org.hibernate.models.spi.RecordComponentDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * Standard streaming archive writer, collecting references through a
+ * {@linkplain ModelsArchiveWriterImpl writer} which streams its completed entries.
+ *
+ * @author Steve Ebersole
+ */
+public class ModelsArchiveStreamWriterImpl implements ModelsArchiveStreamWriter {
+	private final ModelsArchiveWriterImpl collector;
+
+	public ModelsArchiveStreamWriterImpl(OutputStream output, StreamOptions options) throws IOException {
+		this.collector = new ModelsArchiveWriterImpl( output, options );
+	}
+
+	@Override
+	public ModelReference reference(ClassDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(TypeDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(FieldDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(MethodDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(ConstructorDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(RecordComponentDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public ModelReference reference(ModuleDetails details) {
+		return collector.reference( details );
+	}
+
+	@Override
+	public void finish() throws IOException {
+		collector.finishStream();
+	}
+}
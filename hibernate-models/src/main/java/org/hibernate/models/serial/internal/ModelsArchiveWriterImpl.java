@@ -4,6 +4,9 @@
  */
 package org.hibernate.models.serial.internal;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
@@ -12,15 +15,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
+import org.hibernate.models.serial.spi.ArchivableAnnotationTarget;
 import org.hibernate.models.serial.spi.ModelReference;
 import org.hibernate.models.serial.spi.ModelsArchive;
 import org.hibernate.models.serial.spi.ModelsArchiveWriter;
 import org.hibernate.models.serial.spi.SerialClassDetails;
+import org.hibernate.models.serial.spi.StreamOptions;
 import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ConstructorDetails;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
@@ -37,6 +46,7 @@ import org.hibernate.models.spi.TypeDetails;
  */
 public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 	private final boolean trackImplementors;
+	private final ClassLoading fingerprintClassLoading;
 	private final IdentityHashMap<ClassDetails, ModelReference> classReferences = new IdentityHashMap<>();
 	private final Map<String, ModelReference> classReferencesByName = new HashMap<>();
 	private final IdentityHashMap<FieldDetails, ModelReference> fieldReferences = new IdentityHashMap<>();
@@ -45,6 +55,8 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 	private final IdentityHashMap<RecordComponentDetails, ModelReference> recordComponentReferences = new IdentityHashMap<>();
 	private final IdentityHashMap<TypeDetails, ModelReference> typeReferences = new IdentityHashMap<>();
 	private final Map<String, ModelReference> inFlightTypeVariables = new HashMap<>();
+	private final Map<AnnotationCaptureKey, AnnotationCapture> annotationCaptures = new HashMap<>();
+	private final Map<Class<?>, Method> modelsContextAccessors = new HashMap<>();
 	private final List<SerialClassDetails> classes = new ArrayList<>();
 	private final List<ModelsArchiveImpl.TypeReference> types = new ArrayList<>();
 	private final List<ModelsArchiveImpl.FieldReference> fields = new ArrayList<>();
@@ -52,15 +64,110 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 	private final List<ModelsArchiveImpl.ConstructorReference> constructors = new ArrayList<>();
 	private final List<ModelsArchiveImpl.RecordComponentReference> recordComponents = new ArrayList<>();
 	private final List<ModelsArchiveImpl.AnnotationUsageReference> annotationUsages = new ArrayList<>();
+	private final ModelsArchiveImpl base;
+	private final ModelsArchiveCodec.Tables baseTables;
+	private final Map<ModelsArchiveImpl.TypeReference, Integer> baseTypeIds = new HashMap<>();
+	private final Map<ModelsArchiveImpl.FieldReference, Integer> baseFieldIds = new HashMap<>();
+	private final Map<ModelsArchiveImpl.MethodReference, Integer> baseMethodIds = new HashMap<>();
+	private final Map<ModelsArchiveImpl.ConstructorReference, Integer> baseConstructorIds = new HashMap<>();
+	private final Map<ModelsArchiveImpl.RecordComponentReference, Integer> baseRecordComponentIds = new HashMap<>();
+	private final ModelsArchiveStream stream;
+	private final LinkedHashSet<String> streamedFingerprintTypeNames;
+	private int classOffset;
+	private int typeOffset;
+	private int fieldOffset;
+	private int methodOffset;
+	private int constructorOffset;
+	private int recordComponentOffset;
+	private int annotationUsageOffset;
+	private int pendingTypes;
 	private boolean finished;
 
 	public ModelsArchiveWriterImpl(boolean trackImplementors) {
+		this( trackImplementors, null );
+	}
+
+	/**
+	 * @param fingerprintClassLoading If non-null, the class loading used to fingerprint the archive.
+	 */
+	public ModelsArchiveWriterImpl(boolean trackImplementors, ClassLoading fingerprintClassLoading) {
 		this.trackImplementors = trackImplementors;
+		this.fingerprintClassLoading = fingerprintClassLoading;
+		this.base = null;
+		this.baseTables = null;
+		this.stream = null;
+		this.streamedFingerprintTypeNames = null;
+	}
+
+	/**
+	 * Form used to stream the archive to the given output as it is collected.  Completed
+	 * entries are written to the stream (and released) as references are added, rather
+	 * than being held until {@linkplain #finishStream() finished}; the stream is read back
+	 * using {@link ModelsArchiveStream#read}.
+	 *
+	 * @see ModelsArchiveStreamWriterImpl
+	 */
+	ModelsArchiveWriterImpl(OutputStream output, StreamOptions options) throws IOException {
+		this.trackImplementors = options.isTrackImplementors();
+		this.fingerprintClassLoading = options.getFingerprintClassLoading();
+		this.base = null;
+		this.baseTables = null;
+		this.stream = new ModelsArchiveStream(
+				output,
+				trackImplementors,
+				options.isCompressed(),
+				options.getBufferSize()
+		);
+		this.streamedFingerprintTypeNames = fingerprintClassLoading == null ? null : new LinkedHashSet<>();
+	}
+
+	/**
+	 * Form used to write a delta archive against the given base archive.  Anything already
+	 * contained in the base archive is referenced using the base archive's ids, and only
+	 * new entries are written to the delta.
+	 */
+	public ModelsArchiveWriterImpl(ModelsArchiveImpl base) {
+		if ( base.isDelta() ) {
+			throw new IllegalArgumentException( "The base of a delta archive cannot itself be a delta archive" );
+		}
+		this.trackImplementors = base.isTrackImplementors();
+		this.fingerprintClassLoading = null;
+		this.base = base;
+		this.baseTables = base.tables();
+		this.stream = null;
+		this.streamedFingerprintTypeNames = null;
+		this.classOffset = baseTables.classes().size();
+		this.typeOffset = baseTables.types().size();
+		this.fieldOffset = baseTables.fields().size();
+		this.methodOffset = baseTables.methods().size();
+		this.constructorOffset = baseTables.constructors().size();
+		this.recordComponentOffset = baseTables.recordComponents().size();
+		this.annotationUsageOffset = baseTables.annotationUsages().size();
+
+		for ( int i = 0; i < baseTables.classes().size(); i++ ) {
+			classReferencesByName.put(
+					baseTables.classes().get( i ).getName(),
+					new ModelReference( ModelReference.Kind.CLASS, i )
+			);
+		}
+		indexBaseTable( baseTables.types(), baseTypeIds );
+		indexBaseTable( baseTables.fields(), baseFieldIds );
+		indexBaseTable( baseTables.methods(), baseMethodIds );
+		indexBaseTable( baseTables.constructors(), baseConstructorIds );
+		indexBaseTable( baseTables.recordComponents(), baseRecordComponentIds );
+	}
+
+	private static <T> void indexBaseTable(List<T> table, Map<T, Integer> ids) {
+		for ( int i = 0; i < table.size(); i++ ) {
+			ids.putIfAbsent( table.get( i ), i );
+		}
 	}
 
 	@Override
 	public ModelReference reference(ClassDetails details) {
-		return referenceClassDetails( details, true );
+		final ModelReference reference = referenceClassDetails( details, true );
+		flushCompletedEntries();
+		return reference;
 	}
 
 	private ModelReference referenceClassDetails(ClassDetails details, boolean captureAnnotationUsages) {
@@ -79,7 +186,10 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 			return existingByName;
 		}
 
-		final ModelReference reference = new ModelReference( ModelReference.Kind.CLASS, classes.size() );
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.CLASS,
+				classOffset + classes.size()
+		);
 		classReferences.put( details, reference );
 		classReferencesByName.put( details.getName(), reference );
 		classes.add( details.toSerialForm() );
@@ -101,10 +211,26 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 			return existing;
 		}
 
-		final ModelReference reference = new ModelReference( ModelReference.Kind.TYPE, types.size() );
+		final int index = types.size();
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.TYPE,
+				typeOffset + index
+		);
 		typeReferences.put( details, reference );
 		types.add( null );
-		types.set( reference.id(), createTypeReference( details, reference ) );
+		pendingTypes++;
+		final ModelsArchiveImpl.TypeReference typeReference = createTypeReference( details, reference );
+		pendingTypes--;
+		final Integer baseTypeId = baseTypeIds.get( typeReference );
+		if ( baseTypeId != null && index == types.size() - 1 ) {
+			// the type, and so everything it refers to, is already in the base archive
+			types.remove( index );
+			final ModelReference baseReference = new ModelReference( ModelReference.Kind.TYPE, baseTypeId );
+			typeReferences.put( details, baseReference );
+			return baseReference;
+		}
+		types.set( index, typeReference );
+		flushCompletedEntries();
 		return reference;
 	}
 
@@ -121,10 +247,22 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 		}
 
 		final ModelReference declaringTypeReference = reference( details.getDeclaringType() );
-		final ModelReference reference = new ModelReference( ModelReference.Kind.FIELD, fields.size() );
+		final ModelsArchiveImpl.FieldReference field = new ModelsArchiveImpl.FieldReference(
+				declaringTypeReference.id(),
+				details.getName()
+		);
+		final Integer baseFieldId = baseFieldIds.get( field );
+		if ( baseFieldId != null ) {
+			return registerBaseReference( fieldReferences, details, ModelReference.Kind.FIELD, baseFieldId );
+		}
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.FIELD,
+				fieldOffset + fields.size()
+		);
 		fieldReferences.put( details, reference );
-		fields.add( new ModelsArchiveImpl.FieldReference( declaringTypeReference.id(), details.getName() ) );
+		fields.add( field );
 		captureAnnotations( reference, details );
+		flushCompletedEntries();
 		return reference;
 	}
 
@@ -141,14 +279,23 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 		}
 
 		final ModelReference declaringTypeReference = reference( details.getDeclaringType() );
-		final ModelReference reference = new ModelReference( ModelReference.Kind.METHOD, methods.size() );
-		methodReferences.put( details, reference );
-		methods.add( new ModelsArchiveImpl.MethodReference(
+		final ModelsArchiveImpl.MethodReference method = new ModelsArchiveImpl.MethodReference(
 				declaringTypeReference.id(),
 				details.getName(),
 				details.getArgumentTypes().stream().map( ClassDetails::getName ).toList()
-		) );
+		);
+		final Integer baseMethodId = baseMethodIds.get( method );
+		if ( baseMethodId != null ) {
+			return registerBaseReference( methodReferences, details, ModelReference.Kind.METHOD, baseMethodId );
+		}
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.METHOD,
+				methodOffset + methods.size()
+		);
+		methodReferences.put( details, reference );
+		methods.add( method );
 		captureAnnotations( reference, details );
+		flushCompletedEntries();
 		return reference;
 	}
 
@@ -165,10 +312,27 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 		}
 
 		final ModelReference declaringTypeReference = reference( details.getDeclaringType() );
-		final ModelReference reference = new ModelReference( ModelReference.Kind.RECORD_COMPONENT, recordComponents.size() );
+		final ModelsArchiveImpl.RecordComponentReference recordComponent = new ModelsArchiveImpl.RecordComponentReference(
+				declaringTypeReference.id(),
+				details.getName()
+		);
+		final Integer baseRecordComponentId = baseRecordComponentIds.get( recordComponent );
+		if ( baseRecordComponentId != null ) {
+			return registerBaseReference(
+					recordComponentReferences,
+					details,
+					ModelReference.Kind.RECORD_COMPONENT,
+					baseRecordComponentId
+			);
+		}
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.RECORD_COMPONENT,
+				recordComponentOffset + recordComponents.size()
+		);
 		recordComponentReferences.put( details, reference );
-		recordComponents.add( new ModelsArchiveImpl.RecordComponentReference( declaringTypeReference.id(), details.getName() ) );
+		recordComponents.add( recordComponent );
 		captureAnnotations( reference, details );
+		flushCompletedEntries();
 		return reference;
 	}
 
@@ -185,13 +349,27 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 		}
 
 		final ModelReference declaringTypeReference = reference( details.getDeclaringType() );
-		final ModelReference reference = new ModelReference( ModelReference.Kind.CONSTRUCTOR, constructors.size() );
-		constructorReferences.put( details, reference );
-		constructors.add( new ModelsArchiveImpl.ConstructorReference(
+		final ModelsArchiveImpl.ConstructorReference constructor = new ModelsArchiveImpl.ConstructorReference(
 				declaringTypeReference.id(),
 				details.getArgumentTypes().stream().map( ClassDetails::getName ).toList()
-		) );
+		);
+		final Integer baseConstructorId = baseConstructorIds.get( constructor );
+		if ( baseConstructorId != null ) {
+			return registerBaseReference(
+					constructorReferences,
+					details,
+					ModelReference.Kind.CONSTRUCTOR,
+					baseConstructorId
+			);
+		}
+		final ModelReference reference = new ModelReference(
+				ModelReference.Kind.CONSTRUCTOR,
+				constructorOffset + constructors.size()
+		);
+		constructorReferences.put( details, reference );
+		constructors.add( constructor );
 		captureAnnotations( reference, details );
+		flushCompletedEntries();
 		return reference;
 	}
 
@@ -208,6 +386,9 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 
 	@Override
 	public ModelsArchive finish() {
+		if ( stream != null ) {
+			throw new IllegalStateException( "A streaming writer completes the archive written to its stream" );
+		}
 		checkActive();
 		finished = true;
 		return new ModelsArchiveImpl(
@@ -218,11 +399,130 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 				methods,
 				constructors,
 				recordComponents,
-				annotationUsages
+				annotationUsages,
+				fingerprintClassLoading == null ? null : computeFingerprint(),
+				base == null ? null : base.getArchiveId()
+		);
+	}
+
+	/**
+	 * Members of the base archive are referenced by their base id, their annotation
+	 * usages having been captured in the base archive.
+	 */
+	private static <T> ModelReference registerBaseReference(
+			IdentityHashMap<T, ModelReference> references,
+			T details,
+			ModelReference.Kind kind,
+			int baseId) {
+		final ModelReference reference = new ModelReference( kind, baseId );
+		references.put( details, reference );
+		return reference;
+	}
+
+	/**
+	 * When streaming, write any completed entries to the stream.  Entries are written only
+	 * once no type entry is still being built, so that each entry is written in id order.
+	 */
+	private void flushCompletedEntries() {
+		if ( stream == null || pendingTypes > 0 ) {
+			return;
+		}
+		if ( streamedFingerprintTypeNames != null ) {
+			collectFingerprintTypeNames( streamedFingerprintTypeNames );
+		}
+		try {
+			stream.writeClasses( classOffset, classes );
+			stream.writeTypes( typeOffset, types );
+			stream.writeFields( fieldOffset, fields );
+			stream.writeMethods( methodOffset, methods );
+			stream.writeConstructors( constructorOffset, constructors );
+			stream.writeRecordComponents( recordComponentOffset, recordComponents );
+			stream.writeAnnotationUsages( annotationUsageOffset, annotationUsages );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to write models archive stream", e );
+		}
+		classOffset += classes.size();
+		typeOffset += types.size();
+		fieldOffset += fields.size();
+		methodOffset += methods.size();
+		constructorOffset += constructors.size();
+		recordComponentOffset += recordComponents.size();
+		annotationUsageOffset += annotationUsages.size();
+		classes.clear();
+		types.clear();
+		fields.clear();
+		methods.clear();
+		constructors.clear();
+		recordComponents.clear();
+		annotationUsages.clear();
+	}
+
+	/**
+	 * Complete a streamed archive, writing the end of the archive to the stream.
+	 */
+	void finishStream() throws IOException {
+		checkActive();
+		finished = true;
+		flushCompletedEntries();
+		stream.finish(
+				streamedFingerprintTypeNames == null
+						? null
+						: ModelsArchiveFingerprint.compute( streamedFingerprintTypeNames, fingerprintClassLoading )
 		);
 	}
 
+	private ModelsArchiveFingerprint computeFingerprint() {
+		final LinkedHashSet<String> typeNames = new LinkedHashSet<>();
+		collectFingerprintTypeNames( typeNames );
+		return ModelsArchiveFingerprint.compute( typeNames, fingerprintClassLoading );
+	}
+
+	private void collectFingerprintTypeNames(Set<String> typeNames) {
+		for ( SerialClassDetails serialClass : classes ) {
+			if ( serialClass.getClassName() != null ) {
+				typeNames.add( serialClass.getClassName() );
+			}
+		}
+		for ( ModelsArchiveImpl.AnnotationUsageReference annotationUsage : annotationUsages ) {
+			typeNames.add( annotationUsage.annotationTypeName() );
+			collectAnnotationTypeNames( annotationUsage.values(), typeNames );
+		}
+	}
+
+	private static void collectAnnotationTypeNames(
+			Map<String, ModelsArchiveImpl.AnnotationValueReference> values,
+			Set<String> typeNames) {
+		for ( ModelsArchiveImpl.AnnotationValueReference value : values.values() ) {
+			collectAnnotationTypeNames( value, typeNames );
+		}
+	}
+
+	private static void collectAnnotationTypeNames(
+			ModelsArchiveImpl.AnnotationValueReference value,
+			Set<String> typeNames) {
+		if ( value instanceof ModelsArchiveImpl.NestedAnnotationValueReference nested ) {
+			typeNames.add( nested.annotationTypeName() );
+			collectAnnotationTypeNames( nested.values(), typeNames );
+		}
+		else if ( value instanceof ModelsArchiveImpl.ArrayAnnotationValueReference array ) {
+			for ( ModelsArchiveImpl.AnnotationValueReference element : array.values() ) {
+				collectAnnotationTypeNames( element, typeNames );
+			}
+		}
+	}
+
 	private void captureAnnotations(ModelReference targetReference, AnnotationTarget target) {
+		if ( target instanceof ArchivableAnnotationTarget archivableTarget ) {
+			final List<AnnotationUsageDescription> descriptions = archivableTarget.describeDirectAnnotationUsages();
+			if ( descriptions != null ) {
+				for ( AnnotationUsageDescription description : descriptions ) {
+					annotationUsages.add( createAnnotationUsageReference( targetReference, description ) );
+				}
+				return;
+			}
+		}
+
 		final ModelsContext modelsContext = resolveModelsContext( target );
 		for ( Annotation usage : target.getDirectAnnotationUsages() ) {
 			annotationUsages.add( createAnnotationUsageReference( targetReference, usage, modelsContext ) );
@@ -233,16 +533,69 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 			ModelReference targetReference,
 			Annotation usage,
 			ModelsContext modelsContext) {
+		final AnnotationCapture capture = resolveAnnotationCapture( usage, modelsContext );
+		return new ModelsArchiveImpl.AnnotationUsageReference(
+				targetReference,
+				capture.annotationTypeName(),
+				capture.mutableContractName(),
+				createAnnotationValueReferences( usage, capture )
+		);
+	}
+
+	/**
+	 * Described usages carry no mutable contract, having never been realized.
+	 */
+	private ModelsArchiveImpl.AnnotationUsageReference createAnnotationUsageReference(
+			ModelReference targetReference,
+			AnnotationUsageDescription description) {
+		return new ModelsArchiveImpl.AnnotationUsageReference(
+				targetReference,
+				description.annotationTypeName(),
+				null,
+				createAnnotationValueReferences( description )
+		);
+	}
+
+	private LinkedHashMap<String, ModelsArchiveImpl.AnnotationValueReference> createAnnotationValueReferences(
+			Annotation usage,
+			AnnotationCapture capture) {
 		final LinkedHashMap<String, ModelsArchiveImpl.AnnotationValueReference> values = new LinkedHashMap<>();
-		for ( Method attributeMethod : usage.annotationType().getDeclaredMethods() ) {
+		for ( Method attributeMethod : capture.attributeMethods() ) {
 			values.put( attributeMethod.getName(), createAnnotationValueReference( extractAttributeValue( usage, attributeMethod ) ) );
 		}
-		return new ModelsArchiveImpl.AnnotationUsageReference(
-				targetReference,
+		return values;
+	}
+
+	/**
+	 * The annotation type, mutable contract and (accessible) attribute methods are resolved
+	 * once per usage implementation type rather than for each usage.
+	 */
+	private AnnotationCapture resolveAnnotationCapture(Annotation usage, ModelsContext modelsContext) {
+		final AnnotationCaptureKey key = new AnnotationCaptureKey( usage.getClass(), modelsContext );
+		final AnnotationCapture existing = annotationCaptures.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Method[] attributeMethods = usage.annotationType().getDeclaredMethods();
+		for ( Method attributeMethod : attributeMethods ) {
+			if ( !attributeMethod.canAccess( usage ) ) {
+				attributeMethod.setAccessible( true );
+			}
+		}
+		final AnnotationCapture capture = new AnnotationCapture(
 				usage.annotationType().getName(),
 				determineMutableContractName( usage, modelsContext ),
-				values
+				attributeMethods
 		);
+		annotationCaptures.put( key, capture );
+		return capture;
+	}
+
+	private record AnnotationCaptureKey(Class<?> usageType, ModelsContext modelsContext) {
+	}
+
+	private record AnnotationCapture(String annotationTypeName, String mutableContractName, Method[] attributeMethods) {
 	}
 
 	private String determineMutableContractName(Annotation usage, ModelsContext modelsContext) {
@@ -265,27 +618,43 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 	}
 
 	private ModelsContext resolveModelsContext(AnnotationTarget target) {
+		final Class<?> targetType = target.getClass();
+		Method getModelContext = modelsContextAccessors.get( targetType );
+		if ( getModelContext == null ) {
+			if ( modelsContextAccessors.containsKey( targetType ) ) {
+				return null;
+			}
+			getModelContext = findModelsContextAccessor( target );
+			modelsContextAccessors.put( targetType, getModelContext );
+			if ( getModelContext == null ) {
+				return null;
+			}
+		}
+
+		try {
+			final Object result = getModelContext.invoke( target );
+			return result instanceof ModelsContext modelsContext ? modelsContext : null;
+		}
+		catch (IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException( "Could not resolve model context for annotation target: " + target, e );
+		}
+	}
+
+	private static Method findModelsContextAccessor(AnnotationTarget target) {
 		try {
 			final Method getModelContext = target.getClass().getMethod( "getModelContext" );
 			if ( !getModelContext.canAccess( target ) ) {
 				getModelContext.setAccessible( true );
 			}
-			final Object result = getModelContext.invoke( target );
-			return result instanceof ModelsContext modelsContext ? modelsContext : null;
+			return getModelContext;
 		}
 		catch (NoSuchMethodException e) {
 			return null;
 		}
-		catch (IllegalAccessException | InvocationTargetException e) {
-			throw new IllegalStateException( "Could not resolve model context for annotation target: " + target, e );
-		}
 	}
 
 	private Object extractAttributeValue(Annotation usage, Method attributeMethod) {
 		try {
-			if ( !attributeMethod.canAccess( usage ) ) {
-				attributeMethod.setAccessible( true );
-			}
 			return attributeMethod.invoke( usage );
 		}
 		catch (IllegalAccessException | InvocationTargetException e) {
@@ -338,15 +707,71 @@ public class ModelsArchiveWriterImpl implements ModelsArchiveWriter {
 	}
 
 	private ModelsArchiveImpl.AnnotationValueReference createNestedAnnotationValueReference(Annotation annotation) {
+		// nested usages are realized without a models context
+		final AnnotationCapture capture = resolveAnnotationCapture( annotation, null );
+		return new ModelsArchiveImpl.NestedAnnotationValueReference(
+				capture.annotationTypeName(),
+				createAnnotationValueReferences( annotation, capture )
+		);
+	}
+
+	private LinkedHashMap<String, ModelsArchiveImpl.AnnotationValueReference> createAnnotationValueReferences(
+			AnnotationUsageDescription description) {
 		final LinkedHashMap<String, ModelsArchiveImpl.AnnotationValueReference> values = new LinkedHashMap<>();
-		for ( Method attributeMethod : annotation.annotationType().getDeclaredMethods() ) {
-			values.put( attributeMethod.getName(), createAnnotationValueReference( extractAttributeValue( annotation, attributeMethod ) ) );
+		for ( Map.Entry<String, Object> entry : description.values().entrySet() ) {
+			values.put( entry.getKey(), createDescribedValueReference( entry.getValue() ) );
 		}
-		return new ModelsArchiveImpl.NestedAnnotationValueReference( annotation.annotationType().getName(), values );
+		return values;
+	}
+
+	private ModelsArchiveImpl.AnnotationValueReference createDescribedValueReference(Object value) {
+		if ( value == null ) {
+			return new ModelsArchiveImpl.NullAnnotationValueReference();
+		}
+		if ( value instanceof AnnotationUsageDescription nested ) {
+			return new ModelsArchiveImpl.NestedAnnotationValueReference(
+					nested.annotationTypeName(),
+					createAnnotationValueReferences( nested )
+			);
+		}
+		if ( value instanceof AnnotationUsageDescription.ClassValue classValue ) {
+			return new ModelsArchiveImpl.ClassAnnotationValueReference( referenceClassValue( classValue.className() ).id() );
+		}
+		if ( value instanceof AnnotationUsageDescription.EnumValue enumValue ) {
+			return new ModelsArchiveImpl.EnumAnnotationValueReference( enumValue.enumTypeName(), enumValue.name() );
+		}
+		if ( value instanceof AnnotationUsageDescription.ArrayValue arrayValue ) {
+			final ArrayList<ModelsArchiveImpl.AnnotationValueReference> values = new ArrayList<>( arrayValue.values().size() );
+			for ( Object element : arrayValue.values() ) {
+				values.add( createDescribedValueReference( element ) );
+			}
+			return new ModelsArchiveImpl.ArrayAnnotationValueReference( arrayValue.componentTypeName(), values );
+		}
+		if ( value instanceof Annotation
+				|| value instanceof Class<?>
+				|| value instanceof Enum<?>
+				|| value.getClass().isArray() ) {
+			throw new IllegalArgumentException( "Annotation attribute value is not described: " + value );
+		}
+		return createAnnotationValueReference( value );
 	}
 
 	private ModelReference referenceClassValue(Class<?> javaClass) {
-		return referenceClassDetails( new org.hibernate.models.internal.SimpleClassDetails( javaClass ), false );
+		return referenceClassValue( javaClass.getName() );
+	}
+
+	/**
+	 * Class values are archived by name, as for {@link org.hibernate.models.internal.SimpleClassDetails}.
+	 */
+	private ModelReference referenceClassValue(String className) {
+		final ModelReference existing = classReferencesByName.get( className );
+		if ( existing != null ) {
+			return existing;
+		}
+		final ModelReference reference = new ModelReference( ModelReference.Kind.CLASS, classOffset + classes.size() );
+		classReferencesByName.put( className, reference );
+		classes.add( new SerialClassDetailsImpl( className, className ) );
+		return reference;
 	}
 
 	private ModelsArchiveImpl.TypeReference createTypeReference(TypeDetails details, ModelReference currentReference) {
@@ -5,12 +5,14 @@
 package org.hibernate.models.serial.internal;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.models.support.AbstractModelsContext;
 import org.hibernate.models.internal.AnnotationDescriptorRegistryStandard;
 import org.hibernate.models.internal.ClassDetailsRegistryStandard;
 import org.hibernate.models.internal.ModuleDetailsRegistryStandard;
 import org.hibernate.models.serial.spi.SerialClassDetails;
+import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.MutableAnnotationDescriptorRegistry;
 import org.hibernate.models.spi.MutableClassDetailsRegistry;
@@ -48,6 +50,101 @@ public class RestoredModelContext extends AbstractModelsContext {
 		classDetailsBuilder.invalidate();
 	}
 
+	/**
+	 * Form used for lazy restoration, where the archived classes are only built
+	 * as they are accessed.
+	 *
+	 * @param classDetailsListener Notified as each ClassDetails is registered.
+	 */
+	public RestoredModelContext(
+			Map<String, SerialClassDetails> serialClassDetailsMap,
+			ClassLoading classLoading,
+			boolean trackImplementors,
+			RegistryPrimer registryPrimer,
+			Consumer<ClassDetails> classDetailsListener) {
+		super( classLoading );
+
+		final ClassDetailsBuilderImpl classDetailsBuilder = new ClassDetailsBuilderImpl( serialClassDetailsMap, classLoading );
+
+		this.annotationDescriptorRegistry = new AnnotationDescriptorRegistryStandard( this );
+		this.classDetailsRegistry = createListeningRegistry(
+				classDetailsBuilder,
+				trackImplementors,
+				classDetailsListener
+		);
+		this.moduleDetailsRegistry = new ModuleDetailsRegistryStandard( this );
+
+		applyRegistryPrimer( registryPrimer );
+	}
+
+	/**
+	 * Form used to restore a delta archive on top of the context restored from its base
+	 * archive.  The registries read through to those of the base context, whose ClassDetails
+	 * are shared as-is rather than copied - a delta archive only ever adds to its base, so
+	 * only the classes of the delta archive are built here.  The restored base should be
+	 * treated as read-only, since it is shared by every delta restored onto it.
+	 *
+	 * @param classDetailsListener For lazy restoration, notified as each ClassDetails
+	 * is registered; otherwise {@code null}, and the archived classes are built immediately.
+	 */
+	public RestoredModelContext(
+			Map<String, SerialClassDetails> serialClassDetailsMap,
+			RestoredModelContext baseContext,
+			boolean trackImplementors,
+			Consumer<ClassDetails> classDetailsListener) {
+		super( baseContext.getClassLoading() );
+
+		final ClassDetailsBuilderImpl classDetailsBuilder = new ClassDetailsBuilderImpl(
+				serialClassDetailsMap,
+				baseContext.getClassLoading()
+		);
+
+		this.annotationDescriptorRegistry = new AnnotationDescriptorRegistryStandard(
+				this,
+				baseContext.annotationDescriptorRegistry
+		);
+		this.classDetailsRegistry = new ClassDetailsRegistryStandard(
+				classDetailsBuilder,
+				trackImplementors,
+				baseContext.classDetailsRegistry,
+				this
+		) {
+			@Override
+			protected boolean isShareable(ClassDetails inherited) {
+				return true;
+			}
+
+			@Override
+			public void addClassDetails(String name, ClassDetails classDetails) {
+				super.addClassDetails( name, classDetails );
+				if ( classDetailsListener != null ) {
+					classDetailsListener.accept( classDetails );
+				}
+			}
+		};
+		this.moduleDetailsRegistry = new ModuleDetailsRegistryStandard( this, baseContext.moduleDetailsRegistry );
+
+		if ( classDetailsListener == null ) {
+			for ( String name : serialClassDetailsMap.keySet() ) {
+				classDetailsRegistry.resolveClassDetails( name );
+			}
+			classDetailsBuilder.invalidate();
+		}
+	}
+
+	private ClassDetailsRegistryStandard createListeningRegistry(
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			boolean trackImplementors,
+			Consumer<ClassDetails> classDetailsListener) {
+		return new ClassDetailsRegistryStandard( classDetailsBuilder, trackImplementors, this ) {
+			@Override
+			public void addClassDetails(String name, ClassDetails classDetails) {
+				super.addClassDetails( name, classDetails );
+				classDetailsListener.accept( classDetails );
+			}
+		};
+	}
+
 	@Override
 	public MutableAnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
 		return annotationDescriptorRegistry;
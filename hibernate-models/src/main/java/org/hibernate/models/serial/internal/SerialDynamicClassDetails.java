@@ -44,6 +44,19 @@ public class SerialDynamicClassDetails implements SerialClassDetails {
 		}
 	}
 
+	SerialDynamicClassDetails(
+			String name,
+			String className,
+			boolean isAbstract,
+			String superClassName,
+			List<SerialDynamicField> fields) {
+		this.name = name;
+		this.className = className;
+		this.isAbstract = isAbstract;
+		this.superClassName = superClassName;
+		this.fields = List.copyOf( fields );
+	}
+
 	@Override
 	public String getName() {
 		return name;
@@ -54,6 +67,18 @@ public class SerialDynamicClassDetails implements SerialClassDetails {
 		return className;
 	}
 
+	boolean isAbstract() {
+		return isAbstract;
+	}
+
+	String getSuperClassName() {
+		return superClassName;
+	}
+
+	List<SerialDynamicField> getFields() {
+		return fields;
+	}
+
 	@Override
 	public ClassDetails toClassDetails(ModelsContext context) {
 		final ClassDetails superClass = superClassName == null
@@ -73,7 +98,7 @@ public class SerialDynamicClassDetails implements SerialClassDetails {
 		return classDetails;
 	}
 
-	private record SerialDynamicField(
+	record SerialDynamicField(
 			String name,
 			String typeName,
 			TypeDetails.Kind typeKind,
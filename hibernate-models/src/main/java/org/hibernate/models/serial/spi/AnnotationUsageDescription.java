@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.spi;
+
+import java.util.List;
+import java.util.Map;
+
+/// Description of an annotation usage by name, as read from its source representation
+/// rather than from a realized [java.lang.annotation.Annotation].
+///
+/// Attribute values are described as -
+/// * `String` and boxed primitive values, as-is
+/// * class values, as [ClassValue]
+/// * enum values, as [EnumValue]
+/// * nested annotations, as [AnnotationUsageDescription]
+/// * arrays, as [ArrayValue]
+///
+/// Every attribute of the annotation, including those taking their default value, is described.
+///
+/// @param annotationTypeName The name of the annotation type.
+/// @param values The attribute values, keyed by attribute name.
+///
+/// @see ArchivableAnnotationTarget
+///
+/// @since 2.0
+/// @author Steve Ebersole
+public record AnnotationUsageDescription(String annotationTypeName, Map<String, Object> values) {
+	public AnnotationUsageDescription {
+		if ( annotationTypeName == null ) {
+			throw new IllegalArgumentException( "Annotation type name cannot be null" );
+		}
+		if ( values == null ) {
+			throw new IllegalArgumentException( "Annotation attribute values cannot be null" );
+		}
+	}
+
+	/// A class attribute value.
+	///
+	/// @param className The [binary name][Class#getName()] of the class.
+	public record ClassValue(String className) {
+	}
+
+	/// An enum attribute value.
+	///
+	/// @param enumTypeName The name of the enum type.
+	/// @param name The name of the enum constant.
+	public record EnumValue(String enumTypeName, String name) {
+	}
+
+	/// An array attribute value.
+	///
+	/// @param componentTypeName The [binary name][Class#getName()] of the array's component type.
+	/// @param values The described elements.
+	public record ArrayValue(String componentTypeName, List<Object> values) {
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.spi;
+
+import java.util.List;
+
+/// Optional contract for [annotation targets][org.hibernate.models.spi.AnnotationTarget]
+/// able to describe their direct annotation usages from their source representation
+/// (a Jandex `AnnotationInstance`, a Byte Buddy `AnnotationDescription`, ...).
+///
+/// A [ModelsArchiveWriter] captures such usages from their descriptions, without realizing
+/// the usages or loading the annotation and attribute classes.
+///
+/// @since 2.0
+/// @author Steve Ebersole
+public interface ArchivableAnnotationTarget {
+	/// Describe the target's direct annotation usages.
+	///
+	/// @return The descriptions, or `null` if the usages cannot be described from the source
+	/// representation (e.g. because they have already been realized and may since have been
+	/// changed), in which case they are captured from
+	/// [org.hibernate.models.spi.AnnotationTarget#getDirectAnnotationUsages()].
+	List<AnnotationUsageDescription> describeDirectAnnotationUsages();
+}
@@ -15,5 +15,63 @@ import org.hibernate.models.spi.RegistryPrimer;
 /// @author Steve Ebersole
 public interface ModelsArchive extends Externalizable {
 	/// Restore the archived graph using the supplied runtime dependencies.
-	RestoredModels restore(ClassLoading classLoading, RegistryPrimer registryPrimer);
+	default RestoredModels restore(ClassLoading classLoading, RegistryPrimer registryPrimer) {
+		return restore( classLoading, registryPrimer, new RestoreOptions() );
+	}
+
+	/// Restore the archived graph using the supplied runtime dependencies and options.
+	RestoredModels restore(ClassLoading classLoading, RegistryPrimer registryPrimer, RestoreOptions options);
+
+	/// Restore a delta archive - see [ModelsArchives#createDeltaWriter(ModelsArchive)] - onto
+	/// the models already restored from its base archive.
+	///
+	/// The returned models share the restored base: entries of the base archive are resolved
+	/// through `base`, and its ClassDetails are shared as-is rather than copied, so that the same
+	/// restored base may be shared by any number of delta archives.  A delta archive only ever
+	/// adds to its base; the restored base should be treated as read-only.
+	///
+	/// @param base The models restored from the base archive of this delta archive.
+	/// @param options The restore options.
+	///
+	/// @throws IllegalStateException If this is not a delta archive.
+	/// @throws IllegalArgumentException If `base` was not restored from the base of this delta archive.
+	/// @implSpec The default implementation throws [UnsupportedOperationException].
+	default RestoredModels restore(RestoredModels base, RestoreOptions options) {
+		throw new UnsupportedOperationException( "Delta archives not supported by ModelsArchive - " + this );
+	}
+
+	/// A checksum of the archive contents, to be recorded (and signed, as needed) alongside
+	/// the archive by whatever produced it, so that the archive can later be restored as
+	/// [trusted][RestoreOptions#setTrustedChecksum(byte[])].
+	///
+	/// The checksum covers the archive as written, header included, and so differs between
+	/// the serialized form, an [archive file][ModelsArchives#writeArchiveFile] and a
+	/// [stream][ModelsArchives#createStreamingWriter] of the same archive - it should be
+	/// taken from the archive as read back from the form in which it is stored.
+	///
+	/// @implSpec The default implementation throws [UnsupportedOperationException].
+	default byte[] getChecksum() {
+		throw new UnsupportedOperationException( "Checksums not supported by ModelsArchive - " + this );
+	}
+
+	/// Whether the archive is still valid for the given class loading - that is, whether
+	/// the archive was written with a fingerprint (see
+	/// [ModelsArchives#createWriter(boolean, ClassLoading)]) and the archived classes and
+	/// annotation types are unchanged.
+	///
+	/// @implSpec The default implementation always returns `false`.
+	default boolean isCurrent(ClassLoading classLoading) {
+		return false;
+	}
+
+	/// Restore the archived graph if the archive is [current][#isCurrent(ClassLoading)].
+	///
+	/// @return The restored models, or `null` if the archive is stale and the models
+	/// need to be built again.
+	default RestoredModels restoreIfCurrent(
+			ClassLoading classLoading,
+			RegistryPrimer registryPrimer,
+			RestoreOptions options) {
+		return isCurrent( classLoading ) ? restore( classLoading, registryPrimer, options ) : null;
+	}
 }
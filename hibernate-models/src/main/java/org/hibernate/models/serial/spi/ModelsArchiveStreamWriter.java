@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.spi;
+
+import java.io.IOException;
+
+/// Collects model objects referenced by an owning serialized graph, as with
+/// [ModelsArchiveWriter], writing the archive to a stream as it is collected.
+///
+/// Completed entries are written to the stream, and released by the writer, as
+/// references are added.  The stream is read back using
+/// [ModelsArchives#readArchiveStream(java.io.InputStream)].
+///
+/// @apiNote Failures writing to the stream while references are added are thrown
+/// as [java.io.UncheckedIOException].
+///
+/// @since 2.0
+/// @author Steve Ebersole
+public interface ModelsArchiveStreamWriter extends ModelReferenceCollector {
+	/// Completes archive collection, writing the end of the archive and flushing,
+	/// but not closing, the stream.
+	///
+	/// After this method returns, the writer is no longer active and further
+	/// reference calls are invalid.
+	///
+	/// @throws IOException If the end of the archive cannot be written.
+	void finish() throws IOException;
+}
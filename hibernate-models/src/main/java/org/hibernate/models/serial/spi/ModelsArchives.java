@@ -9,10 +9,16 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 import org.hibernate.models.serial.internal.ModelObjectInputStream;
 import org.hibernate.models.serial.internal.ModelObjectOutputStream;
+import org.hibernate.models.serial.internal.ModelsArchiveFile;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl;
+import org.hibernate.models.serial.internal.ModelsArchiveStream;
+import org.hibernate.models.serial.internal.ModelsArchiveStreamWriterImpl;
 import org.hibernate.models.serial.internal.ModelsArchiveWriterImpl;
+import org.hibernate.models.spi.ClassLoading;
 
 /// Entry point for creating Hibernate Models archives.
 ///
@@ -42,24 +48,92 @@ public final class ModelsArchives {
 		return new ModelsArchiveWriterImpl( trackImplementors );
 	}
 
+	/// Creates a stateful writer, as with [#createWriter(boolean)], whose archive is
+	/// fingerprinted so that it can later be checked for staleness using
+	/// [ModelsArchive#isCurrent(ClassLoading)].
+	///
+	/// The fingerprint covers the class files of the archived classes and of the
+	/// annotation types of the archived annotation usages.
+	///
+	/// @param trackImplementors Whether the restored class-details registry
+	/// should track implementors.
+	/// @param classLoading The class loading used to locate the class files.
+	///
+	/// @return A new models archive writer.
+	public static ModelsArchiveWriter createWriter(boolean trackImplementors, ClassLoading classLoading) {
+		return new ModelsArchiveWriterImpl( trackImplementors, classLoading );
+	}
+
+	/// Creates a stateful writer, as with [#createWriter(boolean)], for an archive written
+	/// as a delta against a base archive.
+	///
+	/// Classes, types and members already contained in the base archive are referenced
+	/// using the ids assigned by the base archive, and only the entries added since are
+	/// written to the delta archive.  The delta archive is restored onto the models
+	/// restored from the base archive using [ModelsArchive#restore(RestoredModels, RestoreOptions)].
+	///
+	/// @param base The base archive, which must not itself be a delta archive.
+	///
+	/// @return A new models archive writer.
+	///
+	/// @throws IllegalArgumentException If the base archive is not supported as a base.
+	public static ModelsArchiveWriter createDeltaWriter(ModelsArchive base) {
+		if ( !( base instanceof ModelsArchiveImpl baseImpl ) ) {
+			throw new IllegalArgumentException( "Unsupported ModelsArchive implementation: " + base.getClass().getName() );
+		}
+		return new ModelsArchiveWriterImpl( baseImpl );
+	}
+
+	/// Creates a stateful writer which writes the archive to the given stream as it
+	/// is collected rather than producing a [ModelsArchive].
+	///
+	/// Completed entries are encoded into a buffer of [StreamOptions#getBufferSize()]
+	/// bytes which is written to the stream whenever it fills, and are then released by
+	/// the writer.  Finishing the writer writes the end of the archive and flushes, but
+	/// does not close, the stream.  The stream is read back using [#readArchiveStream(InputStream)].
+	///
+	/// @param outputStream The stream to which the archive is written.
+	/// @param options Options for the written archive.
+	///
+	/// @return A new models archive stream writer.
+	///
+	/// @throws IOException If the archive header cannot be written.
+	public static ModelsArchiveStreamWriter createStreamingWriter(
+			OutputStream outputStream,
+			StreamOptions options) throws IOException {
+		return new ModelsArchiveStreamWriterImpl( outputStream, options );
+	}
+
+	/// Reads an archive written by a [streaming writer][#createStreamingWriter(OutputStream, StreamOptions)].
+	///
+	/// @param inputStream The stream containing the archive, positioned at its start.
+	///
+	/// @return The archive.
+	///
+	/// @throws IOException If the stream cannot be read or does not contain a valid archive.
+	public static ModelsArchive readArchiveStream(InputStream inputStream) throws IOException {
+		return ModelsArchiveStream.read( inputStream );
+	}
+
 	/// Creates an object output stream that replaces live Hibernate Models objects
 	/// with model-reference proxies.
 	///
 	/// This stream is intended for an owning serialization process, such as ORM
 	/// metadata serialization, that stores a nested payload alongside the
 	/// resulting [ModelsArchive].  As objects are written, encountered model
-	/// objects are passed to the supplied [ModelsArchiveWriter] and the payload
-	/// receives only serializable model-reference proxies.
+	/// objects are passed to the supplied writer and the payload receives only
+	/// serializable model-reference proxies.
 	///
 	/// @param outputStream The stream that receives the owning serialized payload.
-	/// @param archiveWriter The writer that collects referenced model state.
+	/// @param archiveWriter The writer that collects referenced model state - either a
+	/// [ModelsArchiveWriter] or a [ModelsArchiveStreamWriter].
 	///
 	/// @return An object output stream that performs model-reference replacement.
 	///
 	/// @throws IOException If the object stream cannot be created.
 	public static ObjectOutputStream createObjectOutputStream(
 			OutputStream outputStream,
-			ModelsArchiveWriter archiveWriter) throws IOException {
+			ModelReferenceCollector archiveWriter) throws IOException {
 		return new ModelObjectOutputStream( outputStream, archiveWriter );
 	}
 
@@ -80,4 +154,37 @@ public final class ModelsArchives {
 			RestoredModels restoredModels) throws IOException {
 		return new ModelObjectInputStream( inputStream, restoredModels );
 	}
+
+	/// Writes an archive to a file using a random-access layout which can be
+	/// [opened][#openArchiveFile(Path)] without decoding the entire archive.
+	///
+	/// @param archive The archive to write, as produced by a [ModelsArchiveWriter]
+	/// or read back from one of these files.
+	/// @param file The file to (over)write.
+	///
+	/// @throws IOException If the file cannot be written.
+	/// @throws IllegalArgumentException If the archive was not produced by Hibernate Models.
+	public static void writeArchiveFile(ModelsArchive archive, Path file) throws IOException {
+		if ( !( archive instanceof ModelsArchiveImpl archiveImpl ) ) {
+			throw new IllegalArgumentException( "Unsupported ModelsArchive implementation: " + archive.getClass().getName() );
+		}
+		ModelsArchiveFile.write( archiveImpl, file );
+	}
+
+	/// Opens an archive file written by [#writeArchiveFile(ModelsArchive, Path)].
+	///
+	/// The file is memory-mapped and its entries are decoded only as they are
+	/// accessed.  Combined with [lazy][RestoreOptions#setLazy(boolean)] restoration,
+	/// restoring only decodes the entries for the classes actually used.
+	///
+	/// @param file The archive file.
+	///
+	/// @return The archive, backed by the mapped file.
+	///
+	/// @throws IOException If the file cannot be read or is not a valid archive file.
+	///
+	/// @apiNote The file must not be modified while the returned archive is in use.
+	public static ModelsArchive openArchiveFile(Path file) throws IOException {
+		return ModelsArchiveFile.open( file );
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.spi;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/// Options controlling how a [ModelsArchive] is [restored][ModelsArchive#restore(org.hibernate.models.spi.ClassLoading, org.hibernate.models.spi.RegistryPrimer, RestoreOptions)].
+///
+/// @since 2.0
+/// @author Steve Ebersole
+public class RestoreOptions {
+	private boolean lazy;
+	private boolean parallel;
+	private Executor executor;
+	private byte[] trustedChecksum;
+
+	public RestoreOptions() {
+	}
+
+	/// Whether archived model objects are restored on demand.
+	///
+	/// When `true`, classes, types and members are materialized the first time
+	/// they are [resolved][RestoredModels#resolve(ModelReference)] (or otherwise
+	/// accessed through the restored [org.hibernate.models.spi.ModelsContext]), and
+	/// the archived annotation usages of a target are only restored the first time
+	/// that target's usages are read.  Errors in archived data are then reported
+	/// on access rather than from `restore`.
+	///
+	/// When `false` (the default), the whole archive is restored up front.
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	/// Specify whether the archive should be restored [lazily][#isLazy()].
+	public RestoreOptions setLazy(boolean lazy) {
+		this.lazy = lazy;
+		return this;
+	}
+
+	/// Whether archived annotation usages are restored in parallel.
+	///
+	/// Usages are partitioned by target, and each partition is restored on the
+	/// [executor][#getExecutor()].  The result is the same as restoring sequentially.
+	/// Only applies to eager restoration - with [lazy][#isLazy()] restoration, usages
+	/// are restored by whichever thread first reads them.
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/// Specify whether annotation usages should be restored [in parallel][#isParallel()].
+	public RestoreOptions setParallel(boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/// The executor used for [parallel][#isParallel()] restoration.  Defaults to the
+	/// [common pool][ForkJoinPool#commonPool()].
+	public Executor getExecutor() {
+		return executor == null ? ForkJoinPool.commonPool() : executor;
+	}
+
+	/// Specify the [executor][#getExecutor()] to use for parallel restoration, e.g.
+	/// one based on virtual threads.
+	public RestoreOptions setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/// The [checksum][ModelsArchive#getChecksum()] recorded for a trusted archive, or
+	/// `null` (the default) if the archive is not trusted.
+	///
+	/// A trusted archive is verified against the checksum before it is restored, rather
+	/// than each of its entries being validated.  Restoration fails with an
+	/// [IllegalStateException] if the archive does not match the checksum.
+	public byte[] getTrustedChecksum() {
+		return trustedChecksum;
+	}
+
+	/// Specify the [checksum][#getTrustedChecksum()] of a trusted archive, as recorded by
+	/// the build which produced it.
+	public RestoreOptions setTrustedChecksum(byte[] trustedChecksum) {
+		this.trustedChecksum = trustedChecksum == null ? null : trustedChecksum.clone();
+		return this;
+	}
+}
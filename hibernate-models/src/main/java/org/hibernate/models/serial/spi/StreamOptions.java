@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.serial.spi;
+
+import org.hibernate.models.spi.ClassLoading;
+
+/// Options controlling how a [streaming writer][ModelsArchives#createStreamingWriter(java.io.OutputStream, StreamOptions)]
+/// writes its archive.
+///
+/// @since 2.0
+/// @author Steve Ebersole
+public class StreamOptions {
+	/// The default [buffer size][#getBufferSize()].
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private boolean trackImplementors;
+	private boolean compressed;
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+	private ClassLoading fingerprintClassLoading;
+
+	public StreamOptions() {
+	}
+
+	/// Whether the restored class-details registry should track implementors.
+	public boolean isTrackImplementors() {
+		return trackImplementors;
+	}
+
+	/// Specify whether the restored registry should [track implementors][#isTrackImplementors()].
+	public StreamOptions setTrackImplementors(boolean trackImplementors) {
+		this.trackImplementors = trackImplementors;
+		return this;
+	}
+
+	/// Whether the archive entries are compressed, using [java.util.zip.Deflater].
+	public boolean isCompressed() {
+		return compressed;
+	}
+
+	/// Specify whether the archive entries should be [compressed][#isCompressed()].
+	public StreamOptions setCompressed(boolean compressed) {
+		this.compressed = compressed;
+		return this;
+	}
+
+	/// The number of bytes of encoded entries buffered before they are written to the
+	/// stream.  A single entry larger than the buffer is buffered whole.
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/// Specify the [buffer size][#getBufferSize()].
+	public StreamOptions setBufferSize(int bufferSize) {
+		if ( bufferSize <= 0 ) {
+			throw new IllegalArgumentException( "Buffer size must be positive: " + bufferSize );
+		}
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	/// The class loading used to [fingerprint][ModelsArchive#isCurrent(ClassLoading)] the
+	/// archive, or `null` (the default) to write no fingerprint.
+	public ClassLoading getFingerprintClassLoading() {
+		return fingerprintClassLoading;
+	}
+
+	/// Specify the class loading used to [fingerprint][#getFingerprintClassLoading()] the archive.
+	public StreamOptions setFingerprintClassLoading(ClassLoading fingerprintClassLoading) {
+		this.fingerprintClassLoading = fingerprintClassLoading;
+		return this;
+	}
+}
@@ -4,13 +4,18 @@
  */
 package org.hibernate.models.spi;
 
+import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.hibernate.models.DynamicClassException;
 import org.hibernate.models.internal.AnnotationTargetHelper;
+import org.hibernate.models.internal.EffectiveAnnotationUsages;
+import org.hibernate.models.internal.EffectivePersistableMembers;
+import org.hibernate.models.internal.PropertyIndex;
 import org.hibernate.models.internal.SimpleClassDetails;
 import org.hibernate.models.internal.util.IndexedConsumer;
 import org.hibernate.models.rendering.internal.RenderingHelper;
@@ -232,6 +237,33 @@ public interface ClassDetails extends AnnotationTarget, TypeVariableScope {
 	 */
 	boolean isImplementor(Class<?> checkType);
 
+	/**
+	 * Whether the described class is an implementor of the given {@code checkType}.
+	 * Unlike {@linkplain #isImplementor(Class)}, never requires loading the check type.
+	 */
+	default boolean isImplementor(ClassDetails checkType) {
+		if ( checkType == this || getName().equals( checkType.getName() ) ) {
+			return true;
+		}
+
+		final ClassDetails superClass = getSuperClass();
+		if ( superClass != null && superClass.isImplementor( checkType ) ) {
+			return true;
+		}
+
+		final List<TypeDetails> implementedInterfaces = getImplementedInterfaces();
+		if ( implementedInterfaces != null ) {
+			for ( TypeDetails implementedInterface : implementedInterfaces ) {
+				if ( implementedInterface.determineRawClass().isImplementor( checkType ) ) {
+					return true;
+				}
+			}
+		}
+
+		// interfaces (which have no super class) are also Objects
+		return !isPrimitive() && Object.class.getName().equals( checkType.getName() );
+	}
+
 	/**
 	 * Get the fields for this class
 	 */
@@ -362,6 +394,54 @@ public interface ClassDetails extends AnnotationTarget, TypeVariableScope {
 		} );
 	}
 
+	/**
+	 * The {@linkplain #forEachPersistableMember persistable members} of this class and each of its
+	 * super classes - super class members first - along with their types
+	 * {@linkplain MemberDetails#resolveRelativeType resolved relative} to this class.
+	 *
+	 * @return An immutable list of the members
+	 */
+	default List<EffectiveMemberDetails> getEffectivePersistableMembers() {
+		return EffectivePersistableMembers.of( this ).getMembers();
+	}
+
+	/**
+	 * The properties declared by this class - the (non-static) field, getter and setter backing
+	 * each attribute name, keyed by that name.
+	 *
+	 * @return An immutable map of the properties
+	 */
+	default Map<String, PropertyDetails> getProperties() {
+		return PropertyIndex.of( this );
+	}
+
+	/**
+	 * Find the {@linkplain #getProperties() property} declared by this class for the given attribute name.
+	 */
+	default PropertyDetails findProperty(String attributeName) {
+		assert attributeName != null;
+		return getProperties().get( attributeName );
+	}
+
+	/**
+	 * The annotation usages in effect for this class - its {@linkplain #getDirectAnnotationUsages() direct usages}
+	 * along with the {@linkplain java.lang.annotation.Inherited inherited} usages of its super classes, the usage
+	 * from the closest class taking precedence.
+	 *
+	 * @return An immutable map of the usages, keyed by annotation type
+	 */
+	default Map<Class<? extends Annotation>, ? extends Annotation> getEffectiveAnnotationUsages(ModelsContext modelsContext) {
+		return EffectiveAnnotationUsages.of( this, modelsContext ).getUsages();
+	}
+
+	/**
+	 * The {@linkplain #getEffectiveAnnotationUsages effective} usage of the given annotation type, if one.
+	 */
+	default <A extends Annotation> A getEffectiveAnnotationUsage(Class<A> annotationType, ModelsContext modelsContext) {
+		//noinspection unchecked
+		return (A) getEffectiveAnnotationUsages( modelsContext ).get( annotationType );
+	}
+
 	/**
 	 * Whether this class is part of the JDK.  Best guess.
 	 */
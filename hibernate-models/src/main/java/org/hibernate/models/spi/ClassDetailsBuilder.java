@@ -20,4 +20,18 @@ public interface ClassDetailsBuilder {
 	 * @throws UnknownClassException To indicate that the given class name is not valid
 	 */
 	ClassDetails buildClassDetails(String name, ModelsContext modelsContext);
+
+	/**
+	 * Like {@linkplain #buildClassDetails}, except here we simply return {@code null}
+	 * if there is no such class.  Implementations are encouraged to override this to
+	 * probe for the class without the cost of throwing exceptions.
+	 */
+	default ClassDetails findClassDetails(String name, ModelsContext modelsContext) {
+		try {
+			return buildClassDetails( name, modelsContext );
+		}
+		catch (UnknownClassException e) {
+			return null;
+		}
+	}
 }
@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+/**
+ * A persistable member as seen from a particular class - one of its
+ * {@linkplain ClassDetails#getEffectivePersistableMembers() effective persistable members} - along
+ * with the member's type {@linkplain MemberDetails#resolveRelativeType resolved relative} to that class.
+ *
+ * @param member The (declared or inherited) member
+ * @param type The member's type relative to the class
+ *
+ * @author Steve Ebersole
+ */
+public record EffectiveMemberDetails(MemberDetails member, TypeDetails type) {
+}
@@ -35,6 +35,37 @@ public interface ModelsContext {
 	 */
 	ClassLoading getClassLoading();
 
+	/**
+	 * Return the canonical instance, for this context, of the given resolved type.  Structurally
+	 * identical class, primitive, void, parameterized and wildcard types - same raw class, arguments
+	 * and kind - resolve to a single shared instance, so that they may be compared by reference.
+	 * Other types are returned as-is.
+	 * <p/>
+	 * The default implementation performs no interning.
+	 */
+	default <T extends TypeDetails> T internTypeDetails(T typeDetails) {
+		return typeDetails;
+	}
+
+	/**
+	 * Create a child context whose registries read through to this context's registries,
+	 * but register anything new locally.  Each mutable ClassDetails of this context is
+	 * copied into the child - along with its annotation usages - the first time it is
+	 * resolved through the child, so that changes made through the child to a
+	 * {@linkplain MutableClassDetails} or its annotation usages are never visible in this
+	 * context, nor changes made through this context to a class once the child has copied it.
+	 * Immutable ClassDetails, such as the baseline JDK types, are shared.
+	 * <p/>
+	 * Useful for building several variants of a single, already primed context.  Forking
+	 * itself copies nothing - only the classes used through the child are copied, though
+	 * iterating the child's classes copies all of them.
+	 *
+	 * @throws UnsupportedOperationException if this context does not support forking
+	 */
+	default ModelsContext fork() {
+		throw new UnsupportedOperationException( "Forking not supported by ModelsContext - " + this );
+	}
+
 	/**
 	 * Treat support.
 	 */
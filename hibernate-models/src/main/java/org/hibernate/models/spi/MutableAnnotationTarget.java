@@ -5,6 +5,8 @@
 package org.hibernate.models.spi;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * Extension of AnnotationTarget which allows manipulation of the annotations
@@ -23,6 +25,18 @@ public interface MutableAnnotationTarget extends AnnotationTarget {
 	 */
 	<X extends Annotation> void addAnnotationUsage(X annotationUsage);
 
+	/**
+	 * Add annotation usages to this target the first time its usages are accessed,
+	 * rather than immediately.  Used to avoid building usages which are never read.
+	 *
+	 * @implSpec The default implementation adds the usages immediately.
+	 */
+	default void deferAnnotationUsages(Supplier<? extends Collection<? extends Annotation>> usages) {
+		for ( Annotation usage : usages.get() ) {
+			addAnnotationUsage( usage );
+		}
+	}
+
 	/**
 	 * Remove an annotation, by type, from this target if there is such a usage.
 	 */
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+/**
+ * The members of a class backing a single attribute name - its field along with its getter
+ * and setter methods, any of which may be {@code null}.
+ *
+ * @see ClassDetails#getProperties()
+ *
+ * @param name The attribute name
+ * @param field The field named for the attribute, if one
+ * @param getter The getter for the attribute, if one
+ * @param setter The setter for the attribute, if one - matched to the getter (or field) type if overloaded
+ *
+ * @author Steve Ebersole
+ */
+public record PropertyDetails(String name, FieldDetails field, MethodDetails getter, MethodDetails setter) {
+}
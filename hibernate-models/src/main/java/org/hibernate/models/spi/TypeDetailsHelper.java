@@ -5,7 +5,11 @@
 package org.hibernate.models.spi;
 
 import org.hibernate.models.internal.ArrayTypeDetailsImpl;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
 import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.internal.ResolvedRelativeTypes;
+import org.hibernate.models.internal.ResolvedSuperTypes;
+import org.hibernate.models.internal.TypeVariableDetailsImpl;
 import org.hibernate.models.internal.util.CollectionHelper;
 
 import java.util.Collection;
@@ -27,6 +31,9 @@ public class TypeDetailsHelper {
 	/**
 	 * Resolve {@code type} to the corresponding occurrence of {@code superType} in its
 	 * type hierarchy, substituting type variables at each hierarchy edge.
+	 * <p/>
+	 * Fully resolved results are memoized on the (interned) type, so resolving the same
+	 * super type for another member of the same type is a lookup.
 	 *
 	 * @return the resolved super type, or {@code null} if {@code type} does not implement it
 	 */
@@ -34,7 +41,43 @@ public class TypeDetailsHelper {
 		if ( type == null || !type.isImplementor( superType ) ) {
 			return null;
 		}
-		return resolveSuperType( type, superType, new HashSet<>() );
+
+		final ResolvedSuperTypes resolvedSuperTypes = resolvedSuperTypes( type );
+		if ( resolvedSuperTypes != null ) {
+			final TypeDetails cached = resolvedSuperTypes.find( superType );
+			if ( cached != null ) {
+				return cached;
+			}
+		}
+
+		final TypeDetails resolved = resolveSuperType( type, superType, new HashSet<>() );
+		if ( ResolvedSuperTypes.isMemoizable( resolved ) ) {
+			final ResolvedSuperTypes memo = memoizeSuperTypes( type );
+			if ( memo != null ) {
+				memo.cache( superType, resolved );
+			}
+		}
+		return resolved;
+	}
+
+	private static ResolvedSuperTypes resolvedSuperTypes(TypeDetails type) {
+		if ( type instanceof ParameterizedTypeDetailsImpl parameterizedType ) {
+			return parameterizedType.getResolvedSuperTypes();
+		}
+		if ( type instanceof ClassTypeDetailsImpl classType ) {
+			return classType.getResolvedSuperTypes();
+		}
+		return null;
+	}
+
+	private static ResolvedSuperTypes memoizeSuperTypes(TypeDetails type) {
+		if ( type instanceof ParameterizedTypeDetailsImpl parameterizedType ) {
+			return parameterizedType.memoizeSuperTypes();
+		}
+		if ( type instanceof ClassTypeDetailsImpl classType ) {
+			return classType.memoizeSuperTypes();
+		}
+		return null;
 	}
 
 	private static TypeDetails resolveSuperType(
@@ -153,8 +196,49 @@ public class TypeDetailsHelper {
 	 * Given this model, a call to resolve the type of {@code id} relative to {@code Hat}
 	 * will return {@code ClassTypeDetails(Integer)}.  A call to resolve the type of {@code id}
 	 * relative to {@code Item} returns {@code ParameterizedTypeDetails(T)} (roughly Object)
+	 * <p/>
+	 * Type variable and parameterized types memoize their resolution per container.
 	 */
 	public static TypeDetails resolveRelativeType(TypeDetails type, TypeVariableScope container) {
+		if ( container == null ) {
+			return doResolveRelativeType( type, null );
+		}
+
+		final ResolvedRelativeTypes resolvedRelativeTypes = resolvedRelativeTypes( type );
+		if ( resolvedRelativeTypes != null ) {
+			final TypeDetails cached = resolvedRelativeTypes.findRelativeType( container );
+			if ( cached != null ) {
+				return cached;
+			}
+		}
+
+		// not computeIfAbsent - resolution may recurse into other entries
+		final TypeDetails resolved = doResolveRelativeType( type, container );
+		final ResolvedRelativeTypes memo = resolved == null ? null : memoizeRelativeTypes( type );
+		return memo == null ? resolved : memo.cacheRelativeType( container, resolved );
+	}
+
+	private static ResolvedRelativeTypes resolvedRelativeTypes(TypeDetails type) {
+		if ( type instanceof TypeVariableDetailsImpl typeVariable ) {
+			return typeVariable.getResolvedRelativeTypes();
+		}
+		if ( type instanceof ParameterizedTypeDetailsImpl parameterizedType ) {
+			return parameterizedType.getResolvedRelativeTypes();
+		}
+		return null;
+	}
+
+	private static ResolvedRelativeTypes memoizeRelativeTypes(TypeDetails type) {
+		if ( type instanceof TypeVariableDetailsImpl typeVariable ) {
+			return typeVariable.memoizeRelativeTypes();
+		}
+		if ( type instanceof ParameterizedTypeDetailsImpl parameterizedType ) {
+			return parameterizedType.memoizeRelativeTypes();
+		}
+		return null;
+	}
+
+	private static TypeDetails doResolveRelativeType(TypeDetails type, TypeVariableScope container) {
 		switch ( type.getTypeKind() ) {
 			case CLASS, PRIMITIVE, VOID, WILDCARD_TYPE -> {
 				return type;
@@ -225,6 +309,26 @@ public class TypeDetailsHelper {
 	public static ClassBasedTypeDetails resolveRelativeClassType(
 			TypeDetails memberType,
 			TypeVariableScope containerType) {
+		if ( containerType == null ) {
+			return doResolveRelativeClassType( memberType, null );
+		}
+
+		final ResolvedRelativeTypes resolvedRelativeTypes = resolvedRelativeTypes( memberType );
+		if ( resolvedRelativeTypes != null ) {
+			final ClassBasedTypeDetails cached = resolvedRelativeTypes.findRelativeClassType( containerType );
+			if ( cached != null ) {
+				return cached;
+			}
+		}
+
+		final ClassBasedTypeDetails resolved = doResolveRelativeClassType( memberType, containerType );
+		final ResolvedRelativeTypes memo = resolved == null ? null : memoizeRelativeTypes( memberType );
+		return memo == null ? resolved : memo.cacheRelativeClassType( containerType, resolved );
+	}
+
+	private static ClassBasedTypeDetails doResolveRelativeClassType(
+			TypeDetails memberType,
+			TypeVariableScope containerType) {
 		switch ( memberType.getTypeKind() ) {
 			case CLASS, PRIMITIVE, VOID -> {
 				return (ClassBasedTypeDetails) memberType;
@@ -327,11 +431,8 @@ public class TypeDetailsHelper {
 			);
 		}
 		else {
-			// Try resolving the type variable in the generic super type
-			final TypeDetails genericSuper = classDetails.getGenericSuperType();
-			final TypeDetails resolvedType = genericSuper != null ?
-					genericSuper.resolveTypeVariable( typeVariable ) :
-					null;
+			// Try resolving the type variable through the raw class' bindings
+			final TypeDetails resolvedType = classDetails.resolveTypeVariable( typeVariable );
 			if ( resolvedType != null ) {
 				return resolvedType.getTypeKind() == TypeDetails.Kind.TYPE_VARIABLE ?
 						parameterizedType.resolveTypeVariable( resolvedType.asTypeVariable() ) :
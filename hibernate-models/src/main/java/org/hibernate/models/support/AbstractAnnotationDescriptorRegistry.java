@@ -19,16 +19,56 @@ import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 public abstract class AbstractAnnotationDescriptorRegistry implements AnnotationDescriptorRegistry {
 	protected final Map<Class<? extends Annotation>, AnnotationDescriptor<? extends Annotation>> descriptorMap;
 	protected final Map<AnnotationDescriptor<? extends Annotation>, AnnotationDescriptor<? extends Annotation>> repeatableByContainerMap;
+	private final AnnotationDescriptorRegistry parent;
 
 	public AbstractAnnotationDescriptorRegistry() {
-		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>() );
+		this( (AnnotationDescriptorRegistry) null );
+	}
+
+	/**
+	 * Creates a registry which reads through to the given parent registry, but
+	 * which registers new descriptors locally.
+	 */
+	public AbstractAnnotationDescriptorRegistry(AnnotationDescriptorRegistry parent) {
+		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), parent );
 	}
 
 	public AbstractAnnotationDescriptorRegistry(
 			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
 			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap) {
+		this( descriptorMap, repeatableByContainerMap, null );
+	}
+
+	public AbstractAnnotationDescriptorRegistry(
+			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
+			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap,
+			AnnotationDescriptorRegistry parent) {
 		this.descriptorMap = descriptorMap;
 		this.repeatableByContainerMap = repeatableByContainerMap;
+		this.parent = parent;
+	}
+
+	/**
+	 * The parent registry, if one.
+	 */
+	public AnnotationDescriptorRegistry getParent() {
+		return parent;
+	}
+
+	/**
+	 * Find the descriptor for the given annotation type, registered either here or in
+	 * the {@linkplain #getParent() parent}, without creating one.
+	 */
+	public <A extends Annotation> AnnotationDescriptor<A> findDescriptor(Class<A> javaType) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> local = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+		if ( local != null ) {
+			return local;
+		}
+		if ( parent instanceof AbstractAnnotationDescriptorRegistry abstractParent ) {
+			return abstractParent.findDescriptor( javaType );
+		}
+		return null;
 	}
 
 	/**
@@ -42,7 +82,11 @@ public abstract class AbstractAnnotationDescriptorRegistry implements Annotation
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> getContainedRepeatableDescriptor(AnnotationDescriptor<A> containerDescriptor) {
 		//noinspection unchecked
-		return (AnnotationDescriptor<A>) repeatableByContainerMap.get( containerDescriptor );
+		final AnnotationDescriptor<A> local = (AnnotationDescriptor<A>) repeatableByContainerMap.get( containerDescriptor );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.getContainedRepeatableDescriptor( containerDescriptor );
 	}
 
 	/**
@@ -11,13 +11,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.dynamic.DynamicClassDetails;
+import org.hibernate.models.internal.ArrayTypeDetailsImpl;
+import org.hibernate.models.internal.ForkSupport;
 import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.internal.util.StringHelper;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
 import org.hibernate.models.spi.MutableClassDetailsRegistry;
 import org.hibernate.models.spi.TypeDetails;
 
@@ -27,13 +34,20 @@ import static org.hibernate.models.spi.ClassDetails.VOID_CLASS_DETAILS;
 import static org.hibernate.models.spi.ClassDetails.VOID_OBJECT_CLASS_DETAILS;
 
 /**
- * Base ClassDetailsRegistry implementation support
+ * Base ClassDetailsRegistry implementation support.
+ * <p/>
+ * A registry may be given a {@linkplain #getParent() parent} registry whose
+ * entries are visible through this registry, but which is never written to -
+ * classes not found locally or in the parent are created and registered locally.
+ * Mutable ClassDetails from the parent are {@linkplain #copyClassDetails copied} as they
+ * are first resolved through this registry, while immutable ones are shared.
  *
  * @author Steve Ebersole
  */
 public abstract class AbstractClassDetailsRegistry implements MutableClassDetailsRegistry {
 	protected final ModelsContext context;
 	private final boolean trackImplementors;
+	private final ClassDetailsRegistry parent;
 
 	protected final Map<String, ClassDetails> classDetailsMap;
 
@@ -42,8 +56,29 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	// interface -> implementations (and specializations)
 	protected final Map<String, Set<ClassDetails>> directImplementorMap;
 
+	// (element type, dimensions) -> array type
+	private final Map<ArrayTypeKey, ArrayTypeDetailsImpl> arrayTypeMap = new ConcurrentHashMap<>();
+	// package name -> its package-info
+	private final Map<String, ClassDetails> containerMap = new ConcurrentHashMap<>();
+
+	// copies of the parent's mutable ClassDetails are made under this lock, one at a time
+	private final Object copyLock = new Object();
+	// names of the classes being copied - registered, but not yet brought up to date
+	private final Set<String> copying = ConcurrentHashMap.newKeySet();
+
 	protected AbstractClassDetailsRegistry(boolean trackImplementors, ModelsContext context) {
-		this( trackImplementors, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), context );
+		this( trackImplementors, null, context );
+	}
+
+	protected AbstractClassDetailsRegistry(boolean trackImplementors, ClassDetailsRegistry parent, ModelsContext context) {
+		this(
+				trackImplementors,
+				new ConcurrentHashMap<>(),
+				new ConcurrentHashMap<>(),
+				new ConcurrentHashMap<>(),
+				parent,
+				context
+		);
 	}
 
 	protected AbstractClassDetailsRegistry(
@@ -52,7 +87,18 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 			Map<String, Set<ClassDetails>> directSubtypeMap,
 			Map<String, Set<ClassDetails>> directImplementorMap,
 			ModelsContext context) {
+		this( trackImplementors, classDetailsMap, directSubtypeMap, directImplementorMap, null, context );
+	}
+
+	protected AbstractClassDetailsRegistry(
+			boolean trackImplementors,
+			Map<String, ClassDetails> classDetailsMap,
+			Map<String, Set<ClassDetails>> directSubtypeMap,
+			Map<String, Set<ClassDetails>> directImplementorMap,
+			ClassDetailsRegistry parent,
+			ModelsContext context) {
 		this.trackImplementors = trackImplementors;
+		this.parent = parent;
 		this.classDetailsMap = classDetailsMap;
 		this.directSubtypeMap = directSubtypeMap;
 		this.directImplementorMap = directImplementorMap;
@@ -64,6 +110,13 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 		classDetailsMap.put( VOID_OBJECT_CLASS_DETAILS.getClassName(), VOID_OBJECT_CLASS_DETAILS );
 	}
 
+	/**
+	 * The parent registry, if one.
+	 */
+	public ClassDetailsRegistry getParent() {
+		return parent;
+	}
+
 	@Override
 	public boolean isTrackingImplementors() {
 		return trackImplementors;
@@ -80,7 +133,83 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	@Override
 	public Set<ClassDetails> getDirectSubtypes(String typeName) {
 		final Set<ClassDetails> directSubtypes = directSubtypeMap.get( typeName );
-		return directSubtypes != null ? directSubtypes : Set.of();
+		if ( parent == null ) {
+			return directSubtypes != null ? directSubtypes : Set.of();
+		}
+		return combine( parent.getDirectSubtypes( typeName ), directSubtypes );
+	}
+
+	private Set<ClassDetails> combine(Set<ClassDetails> inherited, Set<ClassDetails> local) {
+		if ( CollectionHelper.isEmpty( inherited ) ) {
+			return local != null ? local : Set.of();
+		}
+
+		boolean allShareable = true;
+		for ( ClassDetails inheritedDetails : inherited ) {
+			if ( !isShareable( inheritedDetails ) ) {
+				allShareable = false;
+				break;
+			}
+		}
+		if ( allShareable && CollectionHelper.isEmpty( local ) ) {
+			return inherited;
+		}
+
+		final Set<ClassDetails> combined = new LinkedHashSet<>();
+		for ( ClassDetails inheritedDetails : inherited ) {
+			combined.add( localize( inheritedDetails ) );
+		}
+		if ( local != null ) {
+			combined.addAll( local );
+		}
+		return combined;
+	}
+
+	/**
+	 * Resolve the view, from this registry, of a ClassDetails from the {@linkplain #getParent() parent} -
+	 * its copy, if mutable, made the first time the class is resolved through this registry.
+	 */
+	private ClassDetails localize(ClassDetails inherited) {
+		final ClassDetails local = findLocalClassDetails( inherited.getName() );
+		if ( local != null ) {
+			return local;
+		}
+		if ( isShareable( inherited ) ) {
+			return inherited;
+		}
+		synchronized ( copyLock ) {
+			final ClassDetails raced = classDetailsMap.get( inherited.getName() );
+			if ( raced != null ) {
+				return raced;
+			}
+			copying.add( inherited.getName() );
+			try {
+				return copyClassDetails( inherited.getName(), inherited );
+			}
+			finally {
+				copying.remove( inherited.getName() );
+			}
+		}
+	}
+
+	private ClassDetails findLocalClassDetails(String name) {
+		final ClassDetails local = classDetailsMap.get( name );
+		if ( local != null && !copying.isEmpty() && copying.contains( name ) ) {
+			// registered, but still being copied - wait for the copy to complete,
+			// unless it is this thread copying it, which sees the copy as it stands
+			synchronized ( copyLock ) {
+				return classDetailsMap.get( name );
+			}
+		}
+		return local;
+	}
+
+	/**
+	 * Whether a ClassDetails from the {@linkplain #getParent() parent} is shared by this registry,
+	 * rather than copied into it.  By default, only immutable ClassDetails are shared.
+	 */
+	protected boolean isShareable(ClassDetails inherited) {
+		return ForkSupport.isShareable( inherited );
 	}
 
 	@Override
@@ -101,7 +230,10 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 		}
 
 		final Set<ClassDetails> implementors = directImplementorMap.get( interfaceName );
-		return implementors != null ? implementors : Set.of();
+		if ( parent == null ) {
+			return implementors != null ? implementors : Set.of();
+		}
+		return combine( parent.getDirectImplementors( interfaceName ), implementors );
 	}
 
 	@Override
@@ -182,19 +314,84 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 
 	@Override
 	public ClassDetails findClassDetails(String name) {
-		return classDetailsMap.get( name );
+		final ClassDetails local = findLocalClassDetails( name );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+
+		final ClassDetails inherited = parent.findClassDetails( name );
+		return inherited == null ? null : localize( inherited );
+	}
+
+	/**
+	 * Copy a mutable ClassDetails from the {@linkplain #getParent() parent} into this registry, the first
+	 * time it is resolved through this registry.  The copy is rebuilt from the same source within this
+	 * registry's context - or created as a dynamic class when it cannot be rebuilt - and then brought up
+	 * to the current state of the inherited class, its added members and (deep-copied) annotation usages.
+	 */
+	protected ClassDetails copyClassDetails(String name, ClassDetails inherited) {
+		ClassDetails copy = null;
+		if ( !( inherited instanceof DynamicClassDetails ) ) {
+			try {
+				copy = createClassDetails( name );
+			}
+			catch (UnknownClassException ignore) {
+				// not something we know how to build
+			}
+		}
+		if ( copy == null ) {
+			copy = ForkSupport.copyAsDynamicClassDetails( inherited, context );
+			addClassDetails( name, copy );
+		}
+
+		if ( copy instanceof MutableClassDetails mutableCopy ) {
+			ForkSupport.copyMembers( inherited, mutableCopy, context );
+		}
+		return copy;
 	}
 
 	@Override
 	public void forEachClassDetails(ClassDetailsConsumer consumer) {
+		copyUncopiedParentClassDetails();
 		for ( Map.Entry<String, ClassDetails> entry : classDetailsMap.entrySet() ) {
 			consumer.consume( entry.getValue() );
 		}
+		if ( parent != null ) {
+			parent.forEachClassDetails( (classDetails) -> {
+				if ( isShareable( classDetails ) && !classDetailsMap.containsKey( classDetails.getName() ) ) {
+					consumer.consume( classDetails );
+				}
+			} );
+		}
 	}
 
 	@Override
 	public Stream<ClassDetails> streamClassDetails() {
-		return classDetailsMap.values().stream();
+		if ( parent == null ) {
+			return classDetailsMap.values().stream();
+		}
+
+		copyUncopiedParentClassDetails();
+		return Stream.concat(
+				classDetailsMap.values().stream(),
+				parent.streamClassDetails().filter( (classDetails) -> isShareable( classDetails )
+						&& !classDetailsMap.containsKey( classDetails.getName() ) )
+		);
+	}
+
+	/**
+	 * Iterating resolves every class, so copy the mutable classes of the {@linkplain #getParent() parent}
+	 * not yet copied - iteration never exposes the parent's mutable instances.
+	 */
+	private void copyUncopiedParentClassDetails() {
+		if ( parent == null ) {
+			return;
+		}
+		parent.forEachClassDetails( (inherited) -> {
+			if ( !isShareable( inherited ) && !classDetailsMap.containsKey( inherited.getName() ) ) {
+				localize( inherited );
+			}
+		} );
 	}
 
 	@Override
@@ -203,7 +400,7 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 			throw new IllegalArgumentException( "`name` cannot be null" );
 		}
 
-		final ClassDetails existing = classDetailsMap.get( name );
+		final ClassDetails existing = findClassDetails( name );
 		if ( existing != null ) {
 			return existing;
 		}
@@ -237,6 +434,11 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	public void addClassDetails(String name, ClassDetails classDetails) {
 		classDetailsMap.put( name, classDetails );
 
+		if ( name.endsWith( "package-info" ) ) {
+			// a (different) package-info may now be the container of the classes of its package
+			containerMap.remove( StringHelper.qualifier( name ) );
+		}
+
 		if ( classDetails.getSuperClass() != null ) {
 			Set<ClassDetails> subTypes = directSubtypeMap.get( classDetails.getSuperClass().getName() );
 			//noinspection Java8MapApi
@@ -271,7 +473,7 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 			return null;
 		}
 
-		final ClassDetails existing = classDetailsMap.get( name );
+		final ClassDetails existing = findClassDetails( name );
 		if ( existing != null ) {
 			return existing;
 		}
@@ -296,6 +498,64 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 		}
 	}
 
+	/**
+	 * Resolve the array of the given constituent type, building it through the {@code creator}
+	 * the first time.  Array types are cached per element type and dimension, so that members of
+	 * the same array type share a single instance.  The cached array is only returned for the very
+	 * constituent type it was built from.
+	 */
+	public ArrayTypeDetailsImpl resolveArrayType(
+			TypeDetails constituentType,
+			Function<TypeDetails, ArrayTypeDetailsImpl> creator) {
+		final ArrayTypeKey key = ArrayTypeKey.of( constituentType );
+		final ArrayTypeDetailsImpl existing = arrayTypeMap.get( key );
+		if ( existing != null && existing.getConstituentType() == constituentType ) {
+			return existing;
+		}
+		// not computeIfAbsent - building the array may resolve further arrays
+		final ArrayTypeDetailsImpl created = creator.apply( constituentType );
+		if ( existing != null ) {
+			// an equal, but distinct, constituent type - one which was not interned
+			return created;
+		}
+		final ArrayTypeDetailsImpl raced = arrayTypeMap.putIfAbsent( key, created );
+		return raced == null || raced.getConstituentType() != constituentType ? created : raced;
+	}
+
+	/**
+	 * Resolve the package-info of the named package - the {@linkplain ClassDetails#getContainer container}
+	 * of the classes of that package and of the package-info of any sub-package - through the
+	 * {@code resolver} the first time.  The entry is dropped when a package-info is registered for the package.
+	 */
+	public ClassDetails resolveContainer(String packageName, Function<String, ClassDetails> resolver) {
+		final ClassDetails existing = containerMap.get( packageName );
+		if ( existing != null ) {
+			return existing;
+		}
+		// not computeIfAbsent - resolving the container registers it, which touches this map
+		final ClassDetails resolved = resolver.apply( packageName );
+		if ( resolved != null ) {
+			containerMap.put( packageName, resolved );
+		}
+		return resolved;
+	}
+
+	/**
+	 * Arrays are keyed by their innermost element type rather than their constituent type, array
+	 * details being equal per array class regardless of the element type's arguments.
+	 */
+	private record ArrayTypeKey(TypeDetails elementType, int dimensions) {
+		private static ArrayTypeKey of(TypeDetails constituentType) {
+			TypeDetails elementType = constituentType;
+			int dimensions = 1;
+			while ( elementType.getTypeKind() == TypeDetails.Kind.ARRAY ) {
+				elementType = elementType.asArrayType().getConstituentType();
+				dimensions++;
+			}
+			return new ArrayTypeKey( elementType, dimensions );
+		}
+	}
+
 	public Map<String, ClassDetails> classDetailsMap() {
 		return classDetailsMap;
 	}
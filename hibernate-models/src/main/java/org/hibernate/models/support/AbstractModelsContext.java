@@ -7,6 +7,8 @@ package org.hibernate.models.support;
 import java.lang.annotation.Annotation;
 
 import org.hibernate.models.internal.BaseLineJavaTypes;
+import org.hibernate.models.internal.ClassIds;
+import org.hibernate.models.internal.TypeDetailsInterner;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
@@ -14,6 +16,7 @@ import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.MutableAnnotationDescriptorRegistry;
 import org.hibernate.models.spi.MutableClassDetailsRegistry;
 import org.hibernate.models.spi.RegistryPrimer;
+import org.hibernate.models.spi.TypeDetails;
 
 /**
  * Base support for ModelsContext implementations
@@ -22,6 +25,8 @@ import org.hibernate.models.spi.RegistryPrimer;
  */
 public abstract class AbstractModelsContext implements ModelsContext {
 	private final ClassLoading classLoadingAccess;
+	private final TypeDetailsInterner typeDetailsInterner = new TypeDetailsInterner();
+	private final ClassIds classIds = new ClassIds();
 
 	public AbstractModelsContext(ClassLoading classLoadingAccess) {
 		this.classLoadingAccess = classLoadingAccess;
@@ -38,6 +43,18 @@ public abstract class AbstractModelsContext implements ModelsContext {
 		return classLoadingAccess;
 	}
 
+	@Override
+	public <T extends TypeDetails> T internTypeDetails(T typeDetails) {
+		return typeDetailsInterner.intern( typeDetails );
+	}
+
+	/**
+	 * Dense ids for the class names of this context.
+	 */
+	public ClassIds getClassIds() {
+		return classIds;
+	}
+
 	protected void primeRegistries(RegistryPrimer registryPrimer) {
 		BaseLineJavaTypes.forEachJavaType( this::primeClassDetails );
 		applyRegistryPrimer( registryPrimer );
@@ -25,20 +25,31 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 	 */
 	Map<Class<? extends Annotation>,? extends Annotation> getUsageMap();
 
+	/**
+	 * Callback for when the usages of this target are changed through one of the mutation
+	 * methods (not when the {@linkplain #getUsageMap() usage map} is changed directly), so
+	 * that anything derived from them can be dropped.
+	 */
+	default void annotationUsagesChanged() {
+	}
+
 	@Override
 	default void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
 	@Override
 	default <X extends Annotation> void addAnnotationUsage(X annotationUsage) {
 		//noinspection unchecked,rawtypes
 		( (Map) getUsageMap() ).put( annotationUsage.annotationType(), annotationUsage );
+		annotationUsagesChanged();
 	}
 
 	@Override
 	default <X extends Annotation> void removeAnnotationUsage(AnnotationDescriptor<X> annotationType) {
 		getUsageMap().remove( annotationType.getAnnotationType() );
+		annotationUsagesChanged();
 	}
 
 	@Override
@@ -209,6 +220,7 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 		( (Map) getUsageMap() ).put( containerType.getAnnotationType(), containerTypeUsage );
 		// remove any entry for the repeatable/singular form
 		getUsageMap().remove( repeatableType.getAnnotationType() );
+		annotationUsagesChanged();
 
 		return containerTypeUsage;
 	}
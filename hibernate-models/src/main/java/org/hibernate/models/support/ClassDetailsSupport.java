@@ -6,22 +6,77 @@ package org.hibernate.models.support;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.internal.AnnotationUsageHelper;
+import org.hibernate.models.internal.ClassDetailsCaches;
 import org.hibernate.models.internal.util.IndexedConsumer;
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.EffectiveMemberDetails;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.MutableClassDetails;
 import org.hibernate.models.spi.MutableMemberDetails;
+import org.hibernate.models.spi.PropertyDetails;
 import org.hibernate.models.spi.RecordComponentDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
 
 /**
  * @author Steve Ebersole
  */
 public interface ClassDetailsSupport extends MutableClassDetails, AnnotationTargetSupport {
+	/**
+	 * The lazily built state derived from this class, {@linkplain ClassDetailsCaches#invalidate() invalidated}
+	 * when its members or annotation usages change.  {@code null} by default, in which case that state is
+	 * not cached, but built on each access as {@linkplain ClassDetails} does.
+	 */
+	default ClassDetailsCaches getCaches() {
+		return null;
+	}
+
+	@Override
+	default TypeDetails resolveTypeVariable(TypeVariableDetails typeVariable) {
+		final ClassDetailsCaches caches = getCaches();
+		return caches == null
+				? MutableClassDetails.super.resolveTypeVariable( typeVariable )
+				: caches.resolveTypeVariable( typeVariable );
+	}
+
+	@Override
+	default List<EffectiveMemberDetails> getEffectivePersistableMembers() {
+		final ClassDetailsCaches caches = getCaches();
+		return caches == null
+				? MutableClassDetails.super.getEffectivePersistableMembers()
+				: caches.getEffectivePersistableMembers();
+	}
+
+	@Override
+	default Map<Class<? extends Annotation>, ? extends Annotation> getEffectiveAnnotationUsages(ModelsContext modelsContext) {
+		final ClassDetailsCaches caches = getCaches();
+		return caches == null
+				? MutableClassDetails.super.getEffectiveAnnotationUsages( modelsContext )
+				: caches.getEffectiveAnnotationUsages( modelsContext );
+	}
+
+	@Override
+	default Map<String, PropertyDetails> getProperties() {
+		final ClassDetailsCaches caches = getCaches();
+		return caches == null
+				? MutableClassDetails.super.getProperties()
+				: caches.getProperties();
+	}
+
+	@Override
+	default void annotationUsagesChanged() {
+		final ClassDetailsCaches caches = getCaches();
+		if ( caches != null ) {
+			caches.invalidate();
+		}
+	}
 
 	@Override
 	default void forEachField(IndexedConsumer<FieldDetails> consumer) {
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.hibernate.models.dynamic.DynamicFieldDetails;
+import org.hibernate.models.dynamic.DynamicMethodDetails;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableAnnotationTarget;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.support.AbstractClassDetailsRegistry;
+import org.hibernate.models.testing.orm.JpaAnnotations;
+import org.hibernate.models.testing.orm.TableAnnotation;
+import org.hibernate.models.testing.orm.UniqueConstraintAnnotation;
+import org.hibernate.models.testing.tests.classes.ClassMarker;
+import org.hibernate.models.testing.tests.classes.MemberMarker;
+import org.hibernate.models.testing.tests.classes.RootClass;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ModelsContext#fork()}
+ *
+ * @author Steve Ebersole
+ */
+public class ForkTests {
+	@Test
+	void testForkReadsThrough() {
+		final ModelsContext parent = createModelContext( RootClass.class );
+		final ModelsContext fork = parent.fork();
+
+		final ClassDetails rootClass = fork.getClassDetailsRegistry().findClassDetails( RootClass.class.getName() );
+		assertThat( rootClass ).isNotNull();
+		assertThat( rootClass.hasDirectAnnotationUsage( ClassMarker.class ) ).isTrue();
+		assertThat( rootClass.findFieldByName( "value1" ).hasDirectAnnotationUsage( MemberMarker.class ) ).isTrue();
+
+		// the primed descriptors are visible
+		assertThat( fork.getAnnotationDescriptorRegistry().getDescriptor( Table.class ) )
+				.isSameAs( parent.getAnnotationDescriptorRegistry().getDescriptor( Table.class ) );
+
+		// immutable baseline types are shared
+		assertThat( fork.getClassDetailsRegistry().resolveClassDetails( String.class.getName() ).getFields() )
+				.hasSameSizeAs( parent.getClassDetailsRegistry().resolveClassDetails( String.class.getName() ).getFields() );
+	}
+
+	@Test
+	void testForkChangesNotVisibleInParent() {
+		final ModelsContext parent = createModelContext( RootClass.class );
+		final MutableClassDetails parentRootClass = (MutableClassDetails) parent.getClassDetailsRegistry()
+				.resolveClassDetails( RootClass.class.getName() );
+		// a change made to the parent before forking is inherited
+		parentRootClass.addAnnotationUsage( JpaAnnotations.TABLE.createUsage( parent ) );
+
+		final ModelsContext fork = parent.fork();
+		final MutableClassDetails forkRootClass = (MutableClassDetails) fork.getClassDetailsRegistry()
+				.resolveClassDetails( RootClass.class.getName() );
+		assertThat( forkRootClass ).isNotSameAs( parentRootClass );
+		assertThat( forkRootClass.hasDirectAnnotationUsage( Table.class ) ).isTrue();
+
+		( (TableAnnotation) forkRootClass.getDirectAnnotationUsage( Table.class ) ).name( "from_fork" );
+		forkRootClass.clearAnnotationUsages();
+		final FieldDetails forkValue1 = forkRootClass.findFieldByName( "value1" );
+		( (MutableAnnotationTarget) forkValue1 ).clearAnnotationUsages();
+
+		assertThat( parentRootClass.hasDirectAnnotationUsage( ClassMarker.class ) ).isTrue();
+		assertThat( parentRootClass.hasDirectAnnotationUsage( Table.class ) ).isTrue();
+		assertThat( parentRootClass.getDirectAnnotationUsage( Table.class ).name() ).isNotEqualTo( "from_fork" );
+		assertThat( parentRootClass.findFieldByName( "value1" ).hasDirectAnnotationUsage( MemberMarker.class ) ).isTrue();
+		assertThat( parent.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() ) ).isSameAs( parentRootClass );
+	}
+
+	@Test
+	void testForkIsSnapshot() {
+		final ModelsContext parent = createModelContext( RootClass.class );
+		final MutableClassDetails parentRootClass = (MutableClassDetails) parent.getClassDetailsRegistry()
+				.resolveClassDetails( RootClass.class.getName() );
+		final TableAnnotation parentTable = (TableAnnotation) JpaAnnotations.TABLE.createUsage( parent );
+		final UniqueConstraintAnnotation parentConstraint = (UniqueConstraintAnnotation) JpaAnnotations.UNIQUE_CONSTRAINT
+				.createUsage( parent );
+		parentConstraint.name( "from_parent" );
+		parentTable.uniqueConstraints( new UniqueConstraint[] { parentConstraint } );
+		parentRootClass.addAnnotationUsage( parentTable );
+
+		final ModelsContext fork = parent.fork();
+		final ClassDetails forkRootClass = fork.getClassDetailsRegistry().findClassDetails( RootClass.class.getName() );
+
+		// nested usages are copied as well
+		final UniqueConstraint forkConstraint = forkRootClass.getDirectAnnotationUsage( Table.class ).uniqueConstraints()[0];
+		assertThat( forkConstraint ).isNotSameAs( parentConstraint );
+		( (UniqueConstraintAnnotation) forkConstraint ).name( "from_fork" );
+		assertThat( parentConstraint.name() ).isEqualTo( "from_parent" );
+
+		// changes made to the parent after the fork copied the class are not visible through the fork
+		parentRootClass.clearAnnotationUsages();
+		assertThat( forkRootClass.hasDirectAnnotationUsage( ClassMarker.class ) ).isTrue();
+
+		// iterating the fork never exposes the parent's mutable classes
+		fork.getClassDetailsRegistry().forEachClassDetails( (classDetails) -> assertThat( classDetails ).isNotSameAs( parentRootClass ) );
+		assertThat( fork.getClassDetailsRegistry().findClassDetails( RootClass.class.getName() ) ).isSameAs( forkRootClass );
+	}
+
+	@Test
+	void testForkCopiesLazily() {
+		final ModelsContext parent = createModelContext( RootClass.class );
+		final MutableClassDetails parentRootClass = (MutableClassDetails) parent.getClassDetailsRegistry()
+				.resolveClassDetails( RootClass.class.getName() );
+		final ClassDetails parentStringClass = parent.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		final ClassTypeDetailsImpl rootType = new ClassTypeDetailsImpl( parentRootClass, TypeDetails.Kind.CLASS );
+		parentRootClass.addField( new DynamicFieldDetails( "parent", rootType, parentRootClass, false, false, parent ) );
+		parentRootClass.addMethod( new DynamicMethodDetails(
+				"getParent",
+				rootType,
+				parentRootClass,
+				MethodDetails.MethodKind.GETTER,
+				Modifier.PUBLIC,
+				parentRootClass,
+				List.of(),
+				false,
+				false,
+				parent
+		) );
+
+		final ModelsContext fork = parent.fork();
+		// forking copies nothing
+		assertThat( ( (AbstractClassDetailsRegistry) fork.getClassDetailsRegistry() ).getClassDetailsMap() )
+				.doesNotContainKey( RootClass.class.getName() );
+
+		final ClassDetails forkRootClass = fork.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() );
+		assertThat( forkRootClass ).isNotSameAs( parentRootClass );
+		assertThat( fork.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() ) ).isSameAs( forkRootClass );
+
+		// the types of added members are re-resolved against the fork
+		assertThat( forkRootClass.findFieldByName( "parent" ).getType().determineRawClass() ).isSameAs( forkRootClass );
+		final MethodDetails forkGetParent = forkRootClass.getMethods().stream()
+				.filter( (method) -> method.getName().equals( "getParent" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( forkGetParent ).isInstanceOf( DynamicMethodDetails.class );
+		assertThat( forkGetParent.getDeclaringType() ).isSameAs( forkRootClass );
+		assertThat( forkGetParent.getReturnType() ).isSameAs( forkRootClass );
+		assertThat( forkGetParent.getType().determineRawClass() ).isSameAs( forkRootClass );
+
+		// immutable classes are shared
+		assertThat( fork.getClassDetailsRegistry().resolveClassDetails( String.class.getName() ) ).isSameAs( parentStringClass );
+	}
+}
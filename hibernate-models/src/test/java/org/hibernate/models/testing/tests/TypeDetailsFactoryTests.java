@@ -5,11 +5,16 @@
 package org.hibernate.models.testing.tests;
 
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.internal.WildcardTypeDetailsImpl;
 import org.hibernate.models.jdk.JdkTrackingTypeSwitcher;
 import org.hibernate.models.spi.ArrayTypeDetails;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
 import org.hibernate.models.spi.TypeDetails;
 import org.hibernate.models.spi.TypeDetailsHelper;
 
@@ -95,4 +100,107 @@ class TypeDetailsFactoryTests {
 		final ArrayTypeDetails delegated = TypeDetailsHelper.arrayOf( stringType, modelsContext );
 		assertThat( delegated ).isEqualTo( stringArray );
 	}
+
+	@Test
+	void resolvedTypesAreInterned() {
+		final ModelsContext modelsContext = createModelContext( FirstHolder.class, SecondHolder.class );
+		final ClassDetails firstHolder = modelsContext.getClassDetailsRegistry().getClassDetails( FirstHolder.class.getName() );
+		final ClassDetails secondHolder = modelsContext.getClassDetailsRegistry().getClassDetails( SecondHolder.class.getName() );
+
+		final FieldDetails firstNames = firstHolder.findFieldByName( "names" );
+		final FieldDetails secondNames = secondHolder.findFieldByName( "names" );
+		assertThat( firstNames.getType() ).isSameAs( secondNames.getType() );
+		assertThat( firstNames.getType().asParameterizedType().getArguments().get( 0 ) )
+				.isSameAs( firstHolder.findFieldByName( "name" ).getType() );
+
+		assertThat( firstHolder.findFieldByName( "values" ).getType() )
+				.isSameAs( secondHolder.findFieldByName( "values" ).getType() );
+		assertThat( firstHolder.findFieldByName( "values" ).getType() )
+				.isNotSameAs( firstNames.getType() );
+
+		final TypeDetails stringType = TypeDetails.classType(
+				modelsContext.getClassDetailsRegistry().resolveClassDetails( String.class.getName() )
+		);
+		assertThat( modelsContext.internTypeDetails( stringType ) ).isSameAs( firstHolder.findFieldByName( "name" ).getType() );
+	}
+
+	@Test
+	void typesOverTypeVariablesAreNotInterned() {
+		final ModelsContext modelsContext = createModelContext( GenericHolder.class );
+		final ClassDetails genericHolder = modelsContext.getClassDetailsRegistry().getClassDetails( GenericHolder.class.getName() );
+
+		// type variables compare by identity, so interning these would only ever add to the table
+		final ParameterizedTypeDetails values = genericHolder.findFieldByName( "values" ).getType().asParameterizedType();
+		final ParameterizedTypeDetails copy = new ParameterizedTypeDetailsImpl(
+				values.getRawClassDetails(),
+				values.getArguments(),
+				values.getOwner()
+		);
+		assertThat( modelsContext.internTypeDetails( copy ) ).isSameAs( copy );
+
+		final TypeDetails bounded = genericHolder.findFieldByName( "bounded" ).getType().asParameterizedType()
+				.getArguments().get( 0 );
+		final WildcardTypeDetailsImpl boundedCopy = new WildcardTypeDetailsImpl( bounded.asWildcardType().getBound(), true );
+		assertThat( modelsContext.internTypeDetails( boundedCopy ) ).isSameAs( boundedCopy );
+	}
+
+	@Test
+	void arrayTypesAreShared() {
+		final ModelsContext modelsContext = createModelContext( FirstArrayHolder.class, SecondArrayHolder.class );
+		final ClassDetails firstHolder = modelsContext.getClassDetailsRegistry().getClassDetails( FirstArrayHolder.class.getName() );
+		final ClassDetails secondHolder = modelsContext.getClassDetailsRegistry().getClassDetails( SecondArrayHolder.class.getName() );
+
+		assertThat( firstHolder.findFieldByName( "bytes" ).getType() )
+				.isSameAs( secondHolder.findFieldByName( "bytes" ).getType() );
+		assertThat( firstHolder.findFieldByName( "names" ).getType() )
+				.isSameAs( secondHolder.findFieldByName( "names" ).getType() );
+		assertThat( firstHolder.findFieldByName( "lists" ).getType() )
+				.isSameAs( secondHolder.findFieldByName( "lists" ).getType() );
+
+		// same array class, different constituent type
+		final ArrayTypeDetails lists = firstHolder.findFieldByName( "lists" ).getType().asArrayType();
+		final ArrayTypeDetails numberLists = firstHolder.findFieldByName( "numberLists" ).getType().asArrayType();
+		assertThat( numberLists ).isNotSameAs( lists );
+		assertThat( numberLists.getArrayClassDetails() ).isSameAs( lists.getArrayClassDetails() );
+
+		final ArrayTypeDetails names = firstHolder.findFieldByName( "names" ).getType().asArrayType();
+		assertThat( names.getDimensions() ).isEqualTo( 2 );
+		assertThat( names.getArrayClassDetails() )
+				.isSameAs( modelsContext.getClassDetailsRegistry().resolveClassDetails( String[][].class.getName() ) );
+		assertThat( TypeDetails.arrayType( names.getConstituentType(), modelsContext ) ).isSameAs( names );
+	}
+
+	@SuppressWarnings("unused")
+	static class FirstHolder {
+		private String name;
+		private List<String> names;
+		private Map<String, ? extends Number> values;
+	}
+
+	@SuppressWarnings("unused")
+	static class SecondHolder {
+		private List<String> names;
+		private Map<String, ? extends Number> values;
+	}
+
+	@SuppressWarnings("unused")
+	static class GenericHolder<T> {
+		private List<T> values;
+		private List<? extends T> bounded;
+	}
+
+	@SuppressWarnings("unused")
+	static class FirstArrayHolder {
+		private byte[] bytes;
+		private String[][] names;
+		private List<String>[] lists;
+		private List<Integer>[] numberLists;
+	}
+
+	@SuppressWarnings("unused")
+	static class SecondArrayHolder {
+		private byte[] bytes;
+		private String[][] names;
+		private List<String>[] lists;
+	}
 }
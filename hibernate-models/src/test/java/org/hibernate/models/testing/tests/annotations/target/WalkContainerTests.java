@@ -7,11 +7,13 @@ package org.hibernate.models.testing.tests.annotations.target;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.models.dynamic.DynamicClassDetails;
 import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetailsRegistry;
 
 import org.junit.jupiter.api.Test;
 
@@ -79,4 +81,48 @@ public class WalkContainerTests {
 		idMember.walkSelfAndContainers( true, modelsContext, collected::add );
 		assertThat( collected ).hasSize( 9 );
 	}
+
+	@Test
+	void testContainerChainIsShared() {
+		final ModelsContext modelsContext = createModelContext( NoGeneratorEntity.class, ClassGeneratorEntity.class );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		final ClassDetails entityClass = classDetailsRegistry.getClassDetails( NoGeneratorEntity.class.getName() );
+		final ClassDetails otherEntityClass = classDetailsRegistry.getClassDetails( ClassGeneratorEntity.class.getName() );
+		assertThat( entityClass.getContainer( modelsContext ) ).isSameAs( otherEntityClass.getContainer( modelsContext ) );
+
+		final List<ClassDetails> collected = new ArrayList<>();
+		entityClass.walkContainers( true, modelsContext, collected::add );
+		final List<ClassDetails> collectedAgain = new ArrayList<>();
+		otherEntityClass.walkContainers( true, modelsContext, collectedAgain::add );
+
+		assertThat( collectedAgain ).hasSize( 7 );
+		for ( int i = 0; i < collected.size(); i++ ) {
+			assertThat( collectedAgain.get( i ) ).isSameAs( collected.get( i ) );
+		}
+	}
+
+	@Test
+	void testRegisteringPackageInfoReplacesContainer() {
+		final ModelsContext modelsContext = createModelContext( NoGeneratorEntity.class );
+		final MutableClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry()
+				.as( MutableClassDetailsRegistry.class );
+
+		final ClassDetails entityClass = classDetailsRegistry.getClassDetails( NoGeneratorEntity.class.getName() );
+		final ClassDetails container = entityClass.getContainer( modelsContext );
+		final ClassDetails parentContainer = container.getContainer( modelsContext );
+
+		final DynamicClassDetails replacement = new DynamicClassDetails(
+				container.getName(),
+				container.getClassName(),
+				false,
+				null,
+				null,
+				modelsContext
+		);
+		classDetailsRegistry.addClassDetails( replacement.getName(), replacement );
+
+		assertThat( entityClass.getContainer( modelsContext ) ).isSameAs( replacement );
+		assertThat( replacement.getContainer( modelsContext ) ).isSameAs( parentContainer );
+	}
 }
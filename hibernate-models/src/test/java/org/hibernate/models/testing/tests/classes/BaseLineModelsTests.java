@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.classes;
+
+import org.hibernate.models.internal.BaseLineModelsContext;
+import org.hibernate.models.internal.BasicModelsContextImpl;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.support.AbstractClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for the baseline Java types shared across contexts
+ *
+ * @author Steve Ebersole
+ */
+public class BaseLineModelsTests {
+	@Test
+	void testBaseLineSharedAcrossContexts() {
+		final ModelsContext context1 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+		final ModelsContext context2 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, true, null );
+
+		final ClassDetails stringDetails = context1.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		assertThat( context2.getClassDetailsRegistry().resolveClassDetails( String.class.getName() ) ).isSameAs( stringDetails );
+		assertThat( BaseLineModelsContext.baseLineClassDetailsRegistry().findClassDetails( String.class.getName() ) ).isSameAs( stringDetails );
+
+		// the shared details are immutable
+		assertThatThrownBy( () -> stringDetails.getFields().clear() ).isInstanceOf( UnsupportedOperationException.class );
+		assertThatThrownBy( () -> ( (MutableClassDetails) stringDetails ).clearAnnotationUsages() ).isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	void testLocalClassesNotShared() {
+		final ModelsContext context1 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+		final ModelsContext context2 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+
+		final ClassDetails rootClass = context1.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() );
+		assertThat( context2.getClassDetailsRegistry().findClassDetails( RootClass.class.getName() ) ).isNull();
+		assertThat( BaseLineModelsContext.baseLineClassDetailsRegistry().findClassDetails( RootClass.class.getName() ) ).isNull();
+
+		// subtypes combine the baseline and local registrations
+		assertThat( context1.getClassDetailsRegistry().getDirectSubtypes( Object.class.getName() ) )
+				.contains( rootClass )
+				.contains( context1.getClassDetailsRegistry().resolveClassDetails( Number.class.getName() ) );
+		assertThat( context2.getClassDetailsRegistry().getDirectSubtypes( Object.class.getName() ) )
+				.doesNotContain( rootClass );
+	}
+
+	@Test
+	void testBaseLineDoesNotGrow() {
+		final ModelsContext context = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+		final AbstractClassDetailsRegistry baseLineRegistry = (AbstractClassDetailsRegistry) BaseLineModelsContext.baseLineClassDetailsRegistry();
+		final int registeredCount = baseLineRegistry.getClassDetailsMap().size();
+
+		// walking the members of a shared class resolves their types in the baseline context...
+		final ClassDetails stringDetails = context.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		for ( MethodDetails method : stringDetails.getMethods() ) {
+			if ( method.getType() != null ) {
+				method.getType().determineRawClass().getMethods();
+			}
+		}
+
+		// ... without registering them there
+		assertThat( baseLineRegistry.getClassDetailsMap() ).hasSize( registeredCount );
+	}
+
+	@Test
+	void testBaseLineRetainsBuiltState() {
+		final ModelsContext context = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+
+		// sealing blocks mutation, not retention
+		final ClassDetails stringDetails = context.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		assertThat( stringDetails.getMethods() ).isSameAs( stringDetails.getMethods() );
+		assertThat( stringDetails.getImplementedInterfaces() ).isSameAs( stringDetails.getImplementedInterfaces() );
+		assertThat( stringDetails.getProperties() ).isSameAs( stringDetails.getProperties() );
+		assertThat( stringDetails.getEffectivePersistableMembers() ).isNotEmpty()
+				.isSameAs( stringDetails.getEffectivePersistableMembers() );
+	}
+}
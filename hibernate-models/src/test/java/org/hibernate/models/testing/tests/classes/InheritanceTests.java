@@ -109,6 +109,35 @@ public class InheritanceTests {
 		assertThat( leafClassDetails.getAnnotationUsage( MemberMarker.class, modelsContext ) ).isNull();
 	}
 
+	@Test
+	void testEffectiveAnnotationUsages() {
+		final ModelsContext modelsContext = buildModelContext(
+				RootClass.class,
+				TrunkClass.class,
+				BranchClass.class,
+				LeafClass.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		final ClassDetails rootClassDetails = classDetailsRegistry.getClassDetails( RootClass.class.getName() );
+		final ClassDetails trunkClassDetails = classDetailsRegistry.getClassDetails( TrunkClass.class.getName() );
+		final ClassDetails leafClassDetails = classDetailsRegistry.getClassDetails( LeafClass.class.getName() );
+
+		assertThat( rootClassDetails.getEffectiveAnnotationUsages( modelsContext ) )
+				.containsOnlyKeys( ClassMarker.class, SubclassableMarker.class );
+
+		// ClassMarker is not @Inherited - the trunk's own usage
+		assertThat( trunkClassDetails.getEffectiveAnnotationUsage( ClassMarker.class, modelsContext ) )
+				.isSameAs( trunkClassDetails.getDirectAnnotationUsage( ClassMarker.class ) );
+		assertThat( trunkClassDetails.getEffectiveAnnotationUsage( SubclassableMarker.class, modelsContext ) ).isNotNull();
+		assertThat( trunkClassDetails.getEffectiveAnnotationUsage( MemberMarker.class, modelsContext ) ).isNull();
+
+		assertThat( leafClassDetails.getEffectiveAnnotationUsages( modelsContext ) )
+				.containsOnlyKeys( ClassMarker.class, SubclassableMarker.class );
+		assertThat( leafClassDetails.getEffectiveAnnotationUsages( modelsContext ) )
+				.isSameAs( leafClassDetails.getEffectiveAnnotationUsages( modelsContext ) );
+	}
+
 	@Test
 	void testIsImplementor() {
 		final ModelsContext modelsContext = buildModelContext(
@@ -137,6 +166,38 @@ public class InheritanceTests {
 		assertThat( interfaceDetails.isInterface() ).isTrue();
 	}
 
+	@Test
+	void testIsImplementorOfClassDetails() {
+		final ModelsContext modelsContext = buildModelContext(
+				Intf.class,
+				RootClass.class,
+				TrunkClass.class,
+				BranchClass.class,
+				LeafClass.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		final ClassDetails interfaceDetails = classDetailsRegistry.getClassDetails( Intf.class.getName() );
+		final ClassDetails rootClassDetails = classDetailsRegistry.getClassDetails( RootClass.class.getName() );
+		final ClassDetails trunkClassDetails = classDetailsRegistry.getClassDetails( TrunkClass.class.getName() );
+		final ClassDetails branchClassDetails = classDetailsRegistry.getClassDetails( BranchClass.class.getName() );
+		final ClassDetails leafClassDetails = classDetailsRegistry.getClassDetails( LeafClass.class.getName() );
+
+		assertThat( rootClassDetails.isImplementor( interfaceDetails ) ).isFalse();
+		assertThat( branchClassDetails.isImplementor( interfaceDetails ) ).isTrue();
+		assertThat( leafClassDetails.isImplementor( interfaceDetails ) ).isTrue();
+		assertThat( leafClassDetails.isImplementor( rootClassDetails ) ).isTrue();
+		assertThat( leafClassDetails.isImplementor( leafClassDetails ) ).isTrue();
+		assertThat( rootClassDetails.isImplementor( leafClassDetails ) ).isFalse();
+		assertThat( interfaceDetails.isImplementor( ClassDetails.OBJECT_CLASS_DETAILS ) ).isTrue();
+
+		assertThat( leafClassDetails.isSuperclass( trunkClassDetails ) ).isTrue();
+		assertThat( leafClassDetails.isSuperclass( rootClassDetails ) ).isTrue();
+		assertThat( leafClassDetails.isSuperclass( leafClassDetails ) ).isFalse();
+		assertThat( leafClassDetails.isSuperclass( interfaceDetails ) ).isFalse();
+		assertThat( rootClassDetails.isSuperclass( leafClassDetails ) ).isFalse();
+	}
+
 	@Test
 	void testForEachDirectSubType() {
 		final ModelsContext modelsContext = buildModelContext(
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.classes;
+
+import org.hibernate.models.internal.BasicModelsContextImpl;
+import org.hibernate.models.jdk.internal.JdkReflectionData;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for reflection data shared across JDK-based contexts
+ *
+ * @author Steve Ebersole
+ */
+public class SharedReflectionDataTests {
+	@Test
+	void testReflectionSharedAcrossContexts() {
+		final ModelsContext context1 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+		final ModelsContext context2 = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, false, null );
+
+		final ClassDetails classDetails1 = context1.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() );
+		final ClassDetails classDetails2 = context2.getClassDetailsRegistry().resolveClassDetails( RootClass.class.getName() );
+		assertThat( classDetails1 ).isNotSameAs( classDetails2 );
+
+		final FieldDetails value1InContext1 = classDetails1.findFieldByName( "value1" );
+		final FieldDetails value1InContext2 = classDetails2.findFieldByName( "value1" );
+		assertThat( value1InContext1 ).isNotSameAs( value1InContext2 );
+		// the wrapped reflection objects are copies, so that accessibility does not leak between contexts
+		assertThat( value1InContext1.toJavaMember() ).isNotSameAs( value1InContext2.toJavaMember() );
+		assertThat( value1InContext1.toJavaMember() ).isEqualTo( value1InContext2.toJavaMember() );
+
+		// the raw members are read once and shared
+		assertThat( JdkReflectionData.of( RootClass.class ).getDeclaredFields() )
+				.isSameAs( JdkReflectionData.of( RootClass.class ).getDeclaredFields() );
+		assertThat( JdkReflectionData.of( RootClass.class ).getDeclaredFields() ).hasSize( classDetails1.getFields().size() );
+	}
+}
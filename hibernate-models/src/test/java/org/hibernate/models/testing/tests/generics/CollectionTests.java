@@ -14,6 +14,8 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.models.internal.BaseLineModelsContext;
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
 import org.hibernate.models.spi.ArrayTypeDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassTypeDetails;
@@ -362,6 +364,54 @@ public class CollectionTests {
 				.determineRawClass().toJavaClass() ).isEqualTo( Object.class );
 	}
 
+	@Test
+	void testResolvedSuperTypesAreMemoized() {
+		final ModelsContext modelsContext = createModelContext(
+				ClassOfCollections.class,
+				GenericStringMap.class,
+				IntermediateMap.class,
+				GenericMapContainer.class
+		);
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry()
+				.getClassDetails( ClassOfCollections.class.getName() );
+		final ClassDetails container = modelsContext.getClassDetailsRegistry()
+				.getClassDetails( GenericMapContainer.class.getName() );
+
+		final TypeDetails listOfString = classDetails.findFieldByName( "listOfString" ).getType();
+		final TypeDetails resolvedList = TypeDetailsHelper.resolveSuperType( listOfString, Collection.class );
+		assertThat( TypeDetailsHelper.resolveSuperType( listOfString, Collection.class ) ).isSameAs( resolvedList );
+
+		final TypeDetails longValues = container.findFieldByName( "longValues" ).getType();
+		final TypeDetails resolvedMap = TypeDetailsHelper.resolveSuperType( longValues, Map.class );
+		assertThat( TypeDetailsHelper.resolveSuperType( longValues, Map.class ) ).isSameAs( resolvedMap );
+		assertThat( TypeDetailsHelper.extractMapValueType( longValues ).determineRawClass().toJavaClass() )
+				.isEqualTo( Long.class );
+
+		// results involving type variables are resolved each time, but consistently
+		final TypeDetails listOfT = classDetails.findFieldByName( "listOfT" ).getType();
+		assertThat( TypeDetailsHelper.extractCollectionElementType( listOfT ).getTypeKind() )
+				.isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+		assertThat( TypeDetailsHelper.extractCollectionElementType( listOfT ).getTypeKind() )
+				.isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+	}
+
+	@Test
+	void testSharedTypesAreNotMemoized() {
+		final ClassDetails stringDetails = BaseLineModelsContext.baseLineClassDetailsRegistry()
+				.getClassDetails( String.class.getName() );
+		final ParameterizedTypeDetailsImpl comparable = (ParameterizedTypeDetailsImpl) stringDetails
+				.getImplementedInterfaces()
+				.stream()
+				.filter( (type) -> type.getName().equals( Comparable.class.getName() ) )
+				.findFirst()
+				.orElseThrow();
+
+		final TypeDetails resolved = TypeDetailsHelper.resolveSuperType( comparable, Comparable.class );
+		assertThat( resolved ).isNotNull();
+		assertThat( comparable.getResolvedSuperTypes() ).isNull();
+		assertThat( comparable.memoizeSuperTypes() ).isNull();
+	}
+
 	private static void assertMapArguments(FieldDetails field, Class<?> keyType, Class<?> valueType) {
 		assertThat( field.getMapKeyType().determineRawClass().toJavaClass() ).isEqualTo( keyType );
 		assertThat( field.getElementType().determineRawClass().toJavaClass() ).isEqualTo( valueType );
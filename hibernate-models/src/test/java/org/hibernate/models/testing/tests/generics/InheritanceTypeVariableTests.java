@@ -4,9 +4,14 @@
  */
 package org.hibernate.models.testing.tests.generics;
 
+import java.util.List;
+
+import org.hibernate.models.internal.BaseLineModelsContext;
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
 import org.hibernate.models.spi.ClassBasedTypeDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassTypeDetails;
+import org.hibernate.models.spi.EffectiveMemberDetails;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
@@ -115,6 +120,138 @@ public class InheritanceTypeVariableTests {
 		}
 	}
 
+	@Test
+	void testRelativeResolutionIsCachedPerContainer() {
+		final ModelsContext modelsContext = createModelContext(
+				Root.class,
+				Base1.class,
+				Base2.class
+		);
+
+		final ClassDetails rootClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Root.class.getName() );
+		final ClassDetails base1ClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Base1.class.getName() );
+		final ClassDetails base2ClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Base2.class.getName() );
+		final FieldDetails idField = rootClassDetails.findFieldByName( "id" );
+
+		final TypeDetails base1Type = idField.resolveRelativeType( base1ClassDetails );
+		final TypeDetails base2Type = idField.resolveRelativeType( base2ClassDetails );
+		assertThat( idField.resolveRelativeType( base1ClassDetails ) ).isSameAs( base1Type );
+		assertThat( idField.resolveRelativeType( base2ClassDetails ) ).isSameAs( base2Type );
+		assertThat( base1Type.asClassType().getClassDetails().toJavaClass() ).isEqualTo( Integer.class );
+		assertThat( base2Type.asClassType().getClassDetails().toJavaClass() ).isEqualTo( String.class );
+
+		final ClassBasedTypeDetails base1ClassType = idField.resolveRelativeClassType( base1ClassDetails );
+		assertThat( idField.resolveRelativeClassType( base1ClassDetails ) ).isSameAs( base1ClassType );
+		assertThat( idField.resolveRelativeClassType( base2ClassDetails ).getClassDetails().toJavaClass() )
+				.isEqualTo( String.class );
+	}
+
+	@Test
+	void testSharedTypesAreNotMemoized() {
+		final ModelsContext modelsContext = createModelContext( Root.class, Base1.class );
+		final ClassDetails base1ClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Base1.class.getName() );
+
+		final ParameterizedTypeDetailsImpl comparable = (ParameterizedTypeDetailsImpl) BaseLineModelsContext.baseLineClassDetailsRegistry()
+				.getClassDetails( String.class.getName() )
+				.getImplementedInterfaces()
+				.stream()
+				.filter( (type) -> type.getName().equals( Comparable.class.getName() ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( comparable.determineRelativeType( base1ClassDetails ) ).isNotNull();
+		// the baseline String is shared by every context, so must not retain anything of this one
+		assertThat( comparable.getResolvedRelativeTypes() ).isNull();
+		assertThat( comparable.memoizeRelativeTypes() ).isNull();
+	}
+
+	@Test
+	void testInheritedTypeVariableBindings() {
+		final ModelsContext modelsContext = createModelContext(
+				Pair.class,
+				SwappedPair.class,
+				ConcretePair.class
+		);
+
+		final ClassDetails pairClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Pair.class.getName() );
+		final ClassDetails swappedClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( SwappedPair.class.getName() );
+		final ClassDetails concreteClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( ConcretePair.class.getName() );
+
+		final TypeVariableDetails first = pairClassDetails.getTypeParameters().get( 0 );
+		final TypeVariableDetails second = pairClassDetails.getTypeParameters().get( 1 );
+
+		assertThat( pairClassDetails.resolveTypeVariable( first ) ).isSameAs( first );
+		assertThat( swappedClassDetails.resolveTypeVariable( first ).asTypeVariable().getIdentifier() ).isEqualTo( "B" );
+		assertThat( swappedClassDetails.resolveTypeVariable( second ).asTypeVariable().getIdentifier() ).isEqualTo( "A" );
+		assertThat( concreteClassDetails.resolveTypeVariable( first ).determineRawClass().toJavaClass() ).isEqualTo( Long.class );
+		assertThat( concreteClassDetails.resolveTypeVariable( second ).determineRawClass().toJavaClass() ).isEqualTo( String.class );
+
+		final TypeVariableDetails swappedFirst = swappedClassDetails.getTypeParameters().get( 0 );
+		assertThat( concreteClassDetails.resolveTypeVariable( swappedFirst ).determineRawClass().toJavaClass() ).isEqualTo( String.class );
+		assertThat( pairClassDetails.resolveTypeVariable( swappedFirst ) ).isNull();
+
+		assertThat( pairClassDetails.findFieldByName( "first" ).resolveRelativeClassType( concreteClassDetails )
+				.getClassDetails().toJavaClass() ).isEqualTo( Long.class );
+	}
+
+	@Test
+	void testTypeVariableBindingsAcrossFork() {
+		final ModelsContext parent = createModelContext(
+				Pair.class,
+				SwappedPair.class,
+				ConcretePair.class
+		);
+		final ClassDetails pairClassDetails = parent.getClassDetailsRegistry().getClassDetails( Pair.class.getName() );
+		final TypeVariableDetails first = pairClassDetails.getTypeParameters().get( 0 );
+
+		final ModelsContext fork = parent.fork();
+		final ClassDetails forkPairClassDetails = fork.getClassDetailsRegistry().getClassDetails( Pair.class.getName() );
+		final ClassDetails forkConcreteClassDetails = fork.getClassDetailsRegistry().getClassDetails( ConcretePair.class.getName() );
+		assertThat( forkPairClassDetails ).isNotSameAs( pairClassDetails );
+
+		// the type variable of the parent's Pair still binds against the fork's copies
+		assertThat( forkConcreteClassDetails.resolveTypeVariable( first ).determineRawClass().toJavaClass() ).isEqualTo( Long.class );
+		assertThat( pairClassDetails.findFieldByName( "first" ).resolveRelativeClassType( forkConcreteClassDetails )
+				.getClassDetails().toJavaClass() ).isEqualTo( Long.class );
+	}
+
+	@Test
+	void testEffectivePersistableMembers() {
+		final ModelsContext modelsContext = createModelContext(
+				Root.class,
+				Level1.class,
+				Level2.class,
+				Base3.class
+		);
+
+		final ClassDetails level2ClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Level2.class.getName() );
+		final ClassDetails base3ClassDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Base3.class.getName() );
+
+		final List<EffectiveMemberDetails> level2Members = level2ClassDetails.getEffectivePersistableMembers();
+		assertThat( level2Members ).extracting( (member) -> member.member().getName() ).containsExactly( "id", "middle" );
+		assertThat( level2Members.get( 0 ).type().asTypeVariable().getIdentifier() ).isEqualTo( "K" );
+		assertThat( level2Members.get( 1 ).type().determineRawClass().toJavaClass() ).isEqualTo( Short.class );
+
+		final List<EffectiveMemberDetails> base3Members = base3ClassDetails.getEffectivePersistableMembers();
+		assertThat( base3Members ).extracting( (member) -> member.member().getName() ).containsExactly( "id", "middle" );
+		assertThat( base3Members.get( 0 ).type().determineRawClass().toJavaClass() ).isEqualTo( Long.class );
+		// already resolved by the super class
+		assertThat( base3Members.get( 1 ) ).isSameAs( level2Members.get( 1 ) );
+
+		assertThat( base3ClassDetails.getEffectivePersistableMembers() ).isSameAs( base3Members );
+	}
+
+	@SuppressWarnings("unused")
+	static class Pair<F, S> {
+		F first;
+		S second;
+	}
+
+	static class SwappedPair<A, B> extends Pair<B, A> {
+	}
+
+	static class ConcretePair extends SwappedPair<String, Long> {
+	}
+
 	@SuppressWarnings("unused")
 	static class Root<I> {
 		I id;
@@ -5,12 +5,14 @@
 package org.hibernate.models.testing.tests.members;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.hibernate.models.jdk.JdkMethodDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.PropertyDetails;
 
 import org.junit.jupiter.api.Test;
 
@@ -150,6 +152,57 @@ public class MethodDetailsTests {
 	}
 
 
+	@Test
+	void testProperties() {
+		final ModelsContext modelsContext = createModelContext( PropertyClass.class );
+
+		final ClassDetails classDetails = modelsContext
+				.getClassDetailsRegistry()
+				.findClassDetails( PropertyClass.class.getName() );
+		final Map<String, PropertyDetails> properties = classDetails.getProperties();
+		assertThat( properties ).containsOnlyKeys( "id", "name", "active", "derived", "writeOnly" );
+		assertThat( classDetails.getProperties() ).isSameAs( properties );
+
+		final PropertyDetails id = classDetails.findProperty( "id" );
+		assertThat( id.field() ).isSameAs( classDetails.findFieldByName( "id" ) );
+		assertThat( id.getter().getName() ).isEqualTo( "getId" );
+		assertThat( id.setter().getArgumentTypes().get( 0 ).toJavaClass() ).isEqualTo( int.class );
+
+		final PropertyDetails name = classDetails.findProperty( "name" );
+		assertThat( name.getter().getName() ).isEqualTo( "getName" );
+		assertThat( name.setter() ).isNull();
+
+		final PropertyDetails active = classDetails.findProperty( "active" );
+		assertThat( active.getter().getName() ).isEqualTo( "getActive" );
+		assertThat( active.setter().getName() ).isEqualTo( "setActive" );
+
+		final PropertyDetails derived = classDetails.findProperty( "derived" );
+		assertThat( derived.field() ).isNull();
+		assertThat( derived.setter() ).isNull();
+
+		final PropertyDetails writeOnly = classDetails.findProperty( "writeOnly" );
+		assertThat( writeOnly.getter() ).isNull();
+		assertThat( writeOnly.setter().getName() ).isEqualTo( "setWriteOnly" );
+
+		assertThat( classDetails.findProperty( "counter" ) ).isNull();
+	}
+
+	@Test
+	void testPropertiesSkipBridgeMethods() {
+		final ModelsContext modelsContext = createModelContext( BridgedPropertyClass.class );
+
+		final ClassDetails classDetails = modelsContext
+				.getClassDetailsRegistry()
+				.findClassDetails( BridgedPropertyClass.class.getName() );
+		assertThat( classDetails.getProperties() ).containsOnlyKeys( "id" );
+
+		// not the `Object getId()` / `setId(Object)` bridges
+		final PropertyDetails id = classDetails.findProperty( "id" );
+		assertThat( id.getter().getType().determineRawClass().toJavaClass() ).isEqualTo( Long.class );
+		assertThat( id.setter().getArgumentTypes().get( 0 ).toJavaClass() ).isEqualTo( Long.class );
+	}
+
+
 	@SuppressWarnings("unused")
 	public static class RandomClass {
 		public Integer getProperty() { return null; }
@@ -169,4 +222,42 @@ public class MethodDetailsTests {
 
 		public static void somethingStatic() {}
 	}
+
+	@SuppressWarnings("unused")
+	public static class PropertyClass {
+		private static int counter;
+
+		private int id;
+		private String name;
+		private boolean active;
+
+		public int getId() { return id; }
+		public void setId(String id) {}
+		public void setId(int id) { this.id = id; }
+
+		public String getName() { return name; }
+
+		public boolean isActive() { return active; }
+		public boolean getActive() { return active; }
+		public void setActive(boolean active) { this.active = active; }
+
+		public String getDerived() { return name; }
+
+		public void setWriteOnly(long value) {}
+	}
+
+	public interface Identified<T> {
+		T getId();
+		void setId(T id);
+	}
+
+	@SuppressWarnings("unused")
+	public static class BridgedPropertyClass implements Identified<Long> {
+		private Long id;
+
+		@Override
+		public Long getId() { return id; }
+		@Override
+		public void setId(Long id) { this.id = id; }
+	}
 }
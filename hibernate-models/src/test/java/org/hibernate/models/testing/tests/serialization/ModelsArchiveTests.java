@@ -11,29 +11,53 @@ import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.hibernate.models.CompleteAnnotationDescriptor;
 import org.hibernate.models.Creator;
 import org.hibernate.models.internal.ModuleDetailsSupport;
 import org.hibernate.models.dynamic.DynamicClassDetails;
+import org.hibernate.models.jdk.JdkClassDetails;
+import org.hibernate.models.serial.internal.ModelsArchiveImpl;
+import org.hibernate.models.serial.internal.SerialClassDetailsImpl;
+import org.hibernate.models.serial.spi.AnnotationUsageDescription;
+import org.hibernate.models.serial.spi.ArchivableAnnotationTarget;
 import org.hibernate.models.serial.spi.ModelReference;
 import org.hibernate.models.serial.spi.ModelsArchive;
+import org.hibernate.models.serial.spi.ModelsArchiveStreamWriter;
 import org.hibernate.models.serial.spi.ModelsArchiveWriter;
 import org.hibernate.models.serial.spi.ModelsArchives;
+import org.hibernate.models.serial.spi.RestoreOptions;
 import org.hibernate.models.serial.spi.RestoredModels;
+import org.hibernate.models.serial.spi.StreamOptions;
+import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ConstructorDetails;
 import org.hibernate.models.spi.FieldDetails;
@@ -45,6 +69,7 @@ import org.hibernate.models.spi.TypeDetails;
 import org.hibernate.models.testing.util.SerializationHelper;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -408,6 +433,53 @@ class ModelsArchiveTests {
 		assertThat( usage.value() ).isEqualTo( "constructor" );
 	}
 
+	@Test
+	void overloadedMembersResolveByArgumentTypes() {
+		final ModelsContext sourceContext = createModelContext( OverloadedType.class );
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( OverloadedType.class.getName() );
+		final List<MethodDetails> sourceMethods = sourceClass.getMethods().stream()
+				.filter( method -> method.getName().equals( "handle" ) )
+				.toList();
+		final List<ConstructorDetails> sourceConstructors = sourceClass.getConstructors();
+		assertThat( sourceMethods ).hasSize( 6 );
+		assertThat( sourceConstructors ).hasSize( 4 );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final List<ModelReference> methodReferences = sourceMethods.stream().map( writer::reference ).toList();
+		final List<ModelReference> constructorReferences = sourceConstructors.stream().map( writer::reference ).toList();
+		final ModelsArchive archive = SerializationHelper.clone( writer.finish() );
+
+		for ( boolean lazy : new boolean[] { false, true } ) {
+			final RestoredModels restoredModels = archive.restore(
+					SIMPLE_CLASS_LOADING,
+					null,
+					new RestoreOptions().setLazy( lazy )
+			);
+			for ( int i = 0; i < sourceMethods.size(); i++ ) {
+				final MethodDetails restoredMethod = (MethodDetails) restoredModels.resolve( methodReferences.get( i ) );
+				assertThat( restoredMethod.getName() ).isEqualTo( "handle" );
+				assertThat( restoredMethod.getArgumentTypes() ).extracting( ClassDetails::getName )
+						.containsExactlyElementsOf( argumentTypeNames( sourceMethods.get( i ) ) );
+			}
+			for ( int i = 0; i < sourceConstructors.size(); i++ ) {
+				final ConstructorDetails restoredConstructor = (ConstructorDetails) restoredModels.resolve(
+						constructorReferences.get( i )
+				);
+				assertThat( restoredConstructor.getArgumentTypes() ).extracting( ClassDetails::getName )
+						.containsExactlyElementsOf( argumentTypeNames( sourceConstructors.get( i ) ) );
+			}
+		}
+	}
+
+	private static List<String> argumentTypeNames(MethodDetails method) {
+		return method.getArgumentTypes().stream().map( ClassDetails::getName ).toList();
+	}
+
+	private static List<String> argumentTypeNames(ConstructorDetails constructor) {
+		return constructor.getArgumentTypes().stream().map( ClassDetails::getName ).toList();
+	}
+
 	@Test
 	void missingEnumAnnotationValueTypeFailsRestoration() {
 		final ModelsContext sourceContext = createModelContext(
@@ -580,6 +652,524 @@ class ModelsArchiveTests {
 		assertThat( restoredField.getType().determineRawClass().getName() ).isEqualTo( String.class.getName() );
 	}
 
+	@Test
+	void lazyRestoreMaterializesEntriesOnDemand() {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class,
+				ArchivedClass.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+		final ClassDetails untouchedClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( ArchivedClass.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelReference fieldReference = writer.reference( sourceClass.findFieldByName( "name" ) );
+		writer.reference( untouchedClass );
+
+		final RestoredModels restoredModels = SerializationHelper.clone( writer.finish() )
+				.restore( SIMPLE_CLASS_LOADING, null, new RestoreOptions().setLazy( true ) );
+		final ClassDetailsRegistry restoredRegistry = restoredModels.getModelsContext().getClassDetailsRegistry();
+		assertThat( restoredRegistry.findClassDetails( AnnotatedType.class.getName() ) ).isNull();
+
+		final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve( classReference );
+		final FieldDetails restoredField = (FieldDetails) restoredModels.resolve( fieldReference );
+		assertThat( restoredRegistry.findClassDetails( AnnotatedType.class.getName() ) ).isSameAs( restoredClass );
+		assertThat( restoredRegistry.findClassDetails( ArchivedClass.class.getName() ) ).isNull();
+		assertThat( restoredField.getDeclaringType() ).isSameAs( restoredClass );
+
+		assertThat( restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+		assertThat( restoredField.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "field" );
+	}
+
+	@Test
+	void archiveFilesRestoreFromTheMappedFile(@TempDir Path tempDir) throws Exception {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class,
+				ArchivedClass.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelReference fieldReference = writer.reference( sourceClass.findFieldByName( "name" ) );
+		writer.reference( sourceContext.getClassDetailsRegistry().findClassDetails( ArchivedClass.class.getName() ) );
+
+		final Path archiveFile = tempDir.resolve( "models.archive" );
+		ModelsArchives.writeArchiveFile( writer.finish(), archiveFile );
+		final ModelsArchive archive = ModelsArchives.openArchiveFile( archiveFile );
+
+		for ( boolean lazy : new boolean[] { false, true } ) {
+			final RestoredModels restoredModels = archive.restore(
+					SIMPLE_CLASS_LOADING,
+					null,
+					new RestoreOptions().setLazy( lazy )
+			);
+			final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve( classReference );
+			final FieldDetails restoredField = (FieldDetails) restoredModels.resolve( fieldReference );
+			assertThat( restoredField.getDeclaringType() ).isSameAs( restoredClass );
+			assertThat( restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+			assertThat( restoredField.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "field" );
+		}
+
+		// an opened archive can still be java-serialized
+		final ClassDetails restoredClass = (ClassDetails) SerializationHelper.clone( archive )
+				.restore( SIMPLE_CLASS_LOADING, null )
+				.resolve( classReference );
+		assertThat( restoredClass.getName() ).isEqualTo( AnnotatedType.class.getName() );
+	}
+
+	@Test
+	void streamedArchivesRestoreFromTheStream() throws Exception {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class,
+				ArchivedClass.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+
+		for ( boolean compressed : new boolean[] { false, true } ) {
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final ModelsArchiveStreamWriter writer = ModelsArchives.createStreamingWriter(
+					output,
+					new StreamOptions().setCompressed( compressed ).setBufferSize( 16 )
+			);
+			final ModelReference classReference = writer.reference( sourceClass );
+			final ModelReference fieldReference = writer.reference( sourceClass.findFieldByName( "name" ) );
+			writer.reference( sourceContext.getClassDetailsRegistry().findClassDetails( ArchivedClass.class.getName() ) );
+			writer.finish();
+
+			final ModelsArchive archive = ModelsArchives.readArchiveStream( new ByteArrayInputStream( output.toByteArray() ) );
+			final RestoredModels restoredModels = archive.restore( SIMPLE_CLASS_LOADING, null );
+			final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve( classReference );
+			final FieldDetails restoredField = (FieldDetails) restoredModels.resolve( fieldReference );
+			assertThat( restoredField.getDeclaringType() ).isSameAs( restoredClass );
+			assertThat( restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+			assertThat( restoredField.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "field" );
+		}
+
+		assertThatThrownBy( () -> ModelsArchives.readArchiveStream( new ByteArrayInputStream( new byte[] { 1, 2, 3, 4 } ) ) )
+				.isInstanceOf( InvalidObjectException.class );
+
+		// a truncated entry claiming to be 2GB long fails reading, rather than allocating its length
+		final ByteArrayOutputStream header = new ByteArrayOutputStream();
+		ModelsArchives.createStreamingWriter( header, new StreamOptions() );
+		final ByteArrayOutputStream oversized = new ByteArrayOutputStream();
+		oversized.write( header.toByteArray() );
+		oversized.write( new byte[] { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'x' } );
+		assertThatThrownBy( () -> ModelsArchives.readArchiveStream( new ByteArrayInputStream( oversized.toByteArray() ) ) )
+				.isInstanceOf( EOFException.class );
+	}
+
+	@Test
+	void describedAnnotationUsagesAreArchivedFromTheirDescriptions() {
+		final ModelsContext sourceContext = createModelContext( ComplexAnnotation.class, MarkerAnnotation.class );
+		final ClassDetails sourceClass = new DescribedClassDetails(
+				sourceContext,
+				new AnnotationUsageDescription(
+						ComplexAnnotation.class.getName(),
+						Map.of(
+								"name", "described",
+								"kind", new AnnotationUsageDescription.EnumValue( AnnotationKind.class.getName(), "SECOND" ),
+								"javaType", new AnnotationUsageDescription.ClassValue( String.class.getName() ),
+								"nested", new AnnotationUsageDescription( MarkerAnnotation.class.getName(), Map.of( "value", "nested" ) ),
+								"tags", new AnnotationUsageDescription.ArrayValue( String.class.getName(), List.of( "a" ) ),
+								"counts", new AnnotationUsageDescription.ArrayValue( "int", List.of( 3 ) ),
+								"nestedArray", new AnnotationUsageDescription.ArrayValue( MarkerAnnotation.class.getName(), List.of() ),
+								"defaulted", "default-value"
+						)
+				)
+		);
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ClassDetails restoredClass = (ClassDetails) writer.finish()
+				.restore( SIMPLE_CLASS_LOADING, null )
+				.resolve( classReference );
+
+		final ComplexAnnotation usage = restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class );
+		assertThat( usage.name() ).isEqualTo( "described" );
+		assertThat( usage.kind() ).isEqualTo( AnnotationKind.SECOND );
+		assertThat( usage.javaType() ).isEqualTo( String.class );
+		assertThat( usage.nested().value() ).isEqualTo( "nested" );
+		assertThat( usage.tags() ).containsExactly( "a" );
+		assertThat( usage.counts() ).containsExactly( 3 );
+		assertThat( usage.nestedArray() ).isEmpty();
+	}
+
+	@Test
+	void trustedArchivesAreVerifiedAgainstTheirChecksum(@TempDir Path tempDir) throws Exception {
+		final ModelsContext sourceContext = createModelContext( AnnotatedType.class, ComplexAnnotation.class, MarkerAnnotation.class );
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelsArchive sourceArchive = writer.finish();
+		final byte[] checksum = sourceArchive.getChecksum();
+
+		final ModelsArchive archive = SerializationHelper.clone( sourceArchive );
+		assertThat( archive.getChecksum() ).isEqualTo( checksum );
+
+		final byte[] otherChecksum = checksum.clone();
+		otherChecksum[0]++;
+		assertThatThrownBy( () -> SerializationHelper.clone( sourceArchive )
+				.restore( SIMPLE_CLASS_LOADING, null, new RestoreOptions().setTrustedChecksum( otherChecksum ) ) )
+				.isInstanceOf( IllegalStateException.class )
+				.hasMessageContaining( "trusted checksum" );
+
+		final ClassDetails restoredClass = (ClassDetails) archive
+				.restore( SIMPLE_CLASS_LOADING, null, new RestoreOptions().setTrustedChecksum( checksum ) )
+				.resolve( classReference );
+		assertThat( restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+
+		// the checksum of an archive file covers the file, header included
+		final Path archiveFile = tempDir.resolve( "models.archive" );
+		ModelsArchives.writeArchiveFile( sourceArchive, archiveFile );
+		final byte[] fileChecksum = ModelsArchives.openArchiveFile( archiveFile ).getChecksum();
+		final ClassDetails restoredFileClass = (ClassDetails) ModelsArchives.openArchiveFile( archiveFile )
+				.restore( SIMPLE_CLASS_LOADING, null, new RestoreOptions().setTrustedChecksum( fileChecksum ) )
+				.resolve( classReference );
+		assertThat( restoredFileClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+
+		final byte[] fileBytes = Files.readAllBytes( archiveFile );
+		// the track-implementors flag follows the magic and version
+		fileBytes[8] = 1;
+		Files.write( archiveFile, fileBytes );
+		assertThatThrownBy( () -> ModelsArchives.openArchiveFile( archiveFile )
+				.restore( SIMPLE_CLASS_LOADING, null, new RestoreOptions().setTrustedChecksum( fileChecksum ) ) )
+				.isInstanceOf( IllegalStateException.class )
+				.hasMessageContaining( "trusted checksum" );
+	}
+
+	@Test
+	void archivesAreReproducible(@TempDir Path tempDir) throws Exception {
+		final ModelsArchive archive1 = writeAnnotatedTypeArchive();
+		final ModelsArchive archive2 = writeAnnotatedTypeArchive();
+		assertThat( archive1.getChecksum() ).isEqualTo( archive2.getChecksum() );
+
+		final Path archiveFile1 = tempDir.resolve( "models1.archive" );
+		final Path archiveFile2 = tempDir.resolve( "models2.archive" );
+		ModelsArchives.writeArchiveFile( archive1, archiveFile1 );
+		ModelsArchives.writeArchiveFile( archive2, archiveFile2 );
+		assertThat( Files.readAllBytes( archiveFile1 ) ).isEqualTo( Files.readAllBytes( archiveFile2 ) );
+	}
+
+	private static ModelsArchive writeAnnotatedTypeArchive() {
+		final ModelsContext sourceContext = createModelContext( AnnotatedType.class, ComplexAnnotation.class, MarkerAnnotation.class );
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		writer.reference( sourceContext.getClassDetailsRegistry().findClassDetails( AnnotatedType.class.getName() ) );
+		return writer.finish();
+	}
+
+	@Test
+	void invalidArchiveFilesAreRejected(@TempDir Path tempDir) throws Exception {
+		final Path archiveFile = tempDir.resolve( "models.archive" );
+		Files.write( archiveFile, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 } );
+		assertThatThrownBy( () -> ModelsArchives.openArchiveFile( archiveFile ) )
+				.isInstanceOf( InvalidObjectException.class );
+
+		Files.write( archiveFile, new byte[] { 0x48, 0x4D, 0x4F, 0x46, 0, 0, 0, 1 } );
+		assertThatThrownBy( () -> ModelsArchives.openArchiveFile( archiveFile ) )
+				.isInstanceOf( InvalidObjectException.class );
+	}
+
+	@Test
+	void fingerprintedArchivesDetectChangedClassFiles(@TempDir Path tempDir) throws Exception {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false, SIMPLE_CLASS_LOADING );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelsArchive archive = SerializationHelper.clone( writer.finish() );
+		assertThat( archive.isCurrent( SIMPLE_CLASS_LOADING ) ).isTrue();
+
+		final RestoredModels restoredModels = archive.restoreIfCurrent( SIMPLE_CLASS_LOADING, null, new RestoreOptions() );
+		assertThat( restoredModels ).isNotNull();
+		assertThat( ( (ClassDetails) restoredModels.resolve( classReference ) ).getName() )
+				.isEqualTo( AnnotatedType.class.getName() );
+
+		// simulate a recompiled annotation type
+		final Path changedClassFile = tempDir.resolve( "ComplexAnnotation.class" );
+		Files.write( changedClassFile, new byte[] { 1, 2, 3 } );
+		final ClassLoading changedClassLoading = new ChangedClassFileClassLoading(
+				ComplexAnnotation.class.getName(),
+				changedClassFile.toUri().toURL()
+		);
+		assertThat( archive.isCurrent( changedClassLoading ) ).isFalse();
+		assertThat( archive.restoreIfCurrent( changedClassLoading, null, new RestoreOptions() ) ).isNull();
+
+		// archives written without a fingerprint are never current
+		final ModelsArchiveWriter unfingerprintedWriter = ModelsArchives.createWriter( false );
+		unfingerprintedWriter.reference( sourceClass );
+		assertThat( unfingerprintedWriter.finish().isCurrent( SIMPLE_CLASS_LOADING ) ).isFalse();
+	}
+
+	@Test
+	void deltaArchivesRestoreOntoTheirRestoredBase() {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class,
+				ArchivedClass.class
+		);
+		final ClassDetails sharedClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+		final ClassDetails addedClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( ArchivedClass.class.getName() );
+
+		final ModelsArchiveWriter baseWriter = ModelsArchives.createWriter( false );
+		final ModelReference sharedClassReference = baseWriter.reference( sharedClass );
+		final ModelReference sharedFieldReference = baseWriter.reference( sharedClass.findFieldByName( "name" ) );
+		final ModelsArchive baseArchive = SerializationHelper.clone( baseWriter.finish() );
+
+		final ModelsArchiveWriter deltaWriter = ModelsArchives.createDeltaWriter( baseArchive );
+		assertThat( deltaWriter.reference( sharedClass ) ).isEqualTo( sharedClassReference );
+		assertThat( deltaWriter.reference( sharedClass.findFieldByName( "name" ) ) ).isEqualTo( sharedFieldReference );
+		final ModelReference addedClassReference = deltaWriter.reference( addedClass );
+		final ModelReference addedFieldReference = deltaWriter.reference( addedClass.findFieldByName( "value" ) );
+		final ModelsArchive deltaArchive = SerializationHelper.clone( deltaWriter.finish() );
+
+		assertThatIllegalStateException().isThrownBy( () -> deltaArchive.restore( SIMPLE_CLASS_LOADING, null ) );
+
+		final RestoredModels restoredBase = baseArchive.restore( SIMPLE_CLASS_LOADING, null );
+		for ( boolean lazy : new boolean[] { false, true } ) {
+			final RestoredModels restoredDelta = deltaArchive.restore( restoredBase, new RestoreOptions().setLazy( lazy ) );
+			final ClassDetails restoredAddedClass = (ClassDetails) restoredDelta.resolve( addedClassReference );
+			assertThat( restoredAddedClass.getName() ).isEqualTo( ArchivedClass.class.getName() );
+			assertThat( ( (FieldDetails) restoredDelta.resolve( addedFieldReference ) ).getDeclaringType() )
+					.isSameAs( restoredAddedClass );
+
+			// the restored base is shared, rather than copied
+			final ClassDetails restoredSharedClass = (ClassDetails) restoredDelta.resolve( sharedClassReference );
+			assertThat( restoredSharedClass ).isSameAs( restoredBase.resolve( sharedClassReference ) );
+			assertThat( restoredDelta.resolve( sharedFieldReference ) ).isSameAs( restoredBase.resolve( sharedFieldReference ) );
+			assertThat( restoredSharedClass.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "type" );
+			assertThat( ( (FieldDetails) restoredDelta.resolve( sharedFieldReference ) )
+					.getDirectAnnotationUsage( ComplexAnnotation.class )
+					.name() ).isEqualTo( "field" );
+
+			// the delta is not visible through the shared base
+			assertThat( restoredBase.getModelsContext()
+					.getClassDetailsRegistry()
+					.findClassDetails( ArchivedClass.class.getName() ) ).isNull();
+		}
+
+		final ModelsArchive otherArchive = ModelsArchives.createWriter( false ).finish();
+		final RestoredModels otherRestored = otherArchive.restore( SIMPLE_CLASS_LOADING, null );
+		assertThatIllegalArgumentException().isThrownBy( () -> deltaArchive.restore( otherRestored, new RestoreOptions() ) );
+		assertThatIllegalArgumentException().isThrownBy( () -> ModelsArchives.createDeltaWriter( deltaArchive ) );
+	}
+
+	@Test
+	void lazyRestoreReportsAnnotationFailuresOnAccess() {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelsArchive archive = SerializationHelper.clone( writer.finish() );
+
+		final RestoredModels restoredModels = archive.restore(
+				new BlockingClassLoading( AnnotationKind.class.getName() ),
+				null,
+				new RestoreOptions().setLazy( true )
+		);
+		final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve( classReference );
+		assertThatIllegalStateException()
+				.isThrownBy( () -> restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class ) )
+				.withMessageContaining( AnnotationKind.class.getName() );
+	}
+
+	@Test
+	void parallelRestoreMatchesSequentialRestore() {
+		final ModelsContext sourceContext = createModelContext(
+				AnnotatedType.class,
+				ComplexAnnotation.class,
+				MarkerAnnotation.class,
+				ConstructorAnnotatedType.class
+		);
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( AnnotatedType.class.getName() );
+		final ClassDetails sourceConstructorClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( ConstructorAnnotatedType.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		final ModelReference classReference = writer.reference( sourceClass );
+		final ModelReference fieldReference = writer.reference( sourceClass.findFieldByName( "name" ) );
+		final List<ModelReference> references = new ArrayList<>( List.of( classReference, fieldReference ) );
+		sourceConstructorClass.getConstructors().forEach( constructor -> references.add( writer.reference( constructor ) ) );
+		final ModelsArchive archive = SerializationHelper.clone( writer.finish() );
+
+		final RestoredModels sequentialModels = archive.restore( SIMPLE_CLASS_LOADING, null );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final RestoredModels restoredModels = archive.restore(
+					SIMPLE_CLASS_LOADING,
+					null,
+					new RestoreOptions().setParallel( true ).setExecutor( executor )
+			);
+
+			assertThat( registeredClassNames( restoredModels ) ).isEqualTo( registeredClassNames( sequentialModels ) );
+			for ( ModelReference reference : references ) {
+				final AnnotationTarget sequentialTarget = (AnnotationTarget) sequentialModels.resolve( reference );
+				final AnnotationTarget parallelTarget = (AnnotationTarget) restoredModels.resolve( reference );
+				assertThat( parallelTarget.getName() ).isEqualTo( sequentialTarget.getName() );
+				assertThat( describeUsages( parallelTarget ) ).isEqualTo( describeUsages( sequentialTarget ) );
+			}
+
+			final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve( classReference );
+			final FieldDetails restoredField = (FieldDetails) restoredModels.resolve( fieldReference );
+
+			final ComplexAnnotation classUsage = restoredClass.getDirectAnnotationUsage( ComplexAnnotation.class );
+			assertThat( classUsage.name() ).isEqualTo( "type" );
+			assertThat( classUsage.javaType() ).isEqualTo( String.class );
+			assertThat( classUsage.nestedArray() ).extracting( MarkerAnnotation::value ).containsExactly( "x", "y" );
+			assertThat( restoredField.getDirectAnnotationUsage( ComplexAnnotation.class ).name() ).isEqualTo( "field" );
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertThatThrownBy( () -> archive.restore(
+				new BlockingClassLoading( ComplexAnnotation.class.getName() ),
+				null,
+				new RestoreOptions().setParallel( true )
+		) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "blocked class" );
+	}
+
+	private static Set<String> registeredClassNames(RestoredModels restoredModels) {
+		final Set<String> classNames = new TreeSet<>();
+		restoredModels.getModelsContext().getClassDetailsRegistry()
+				.forEachClassDetails( classDetails -> classNames.add( classDetails.getName() ) );
+		return classNames;
+	}
+
+	private static Set<String> describeUsages(AnnotationTarget target) {
+		final Set<String> descriptions = new TreeSet<>();
+		target.getDirectAnnotationUsages().forEach( usage -> descriptions.add( describeValue( usage ) ) );
+		return descriptions;
+	}
+
+	// restored usages are proxies, which only equal themselves - so compare their attribute values
+	private static String describeValue(Object value) {
+		if ( value instanceof Annotation usage ) {
+			final StringJoiner attributes = new StringJoiner( ", ", "@" + usage.annotationType().getName() + "(", ")" );
+			final Method[] attributeMethods = usage.annotationType().getDeclaredMethods();
+			Arrays.sort( attributeMethods, Comparator.comparing( Method::getName ) );
+			for ( Method attributeMethod : attributeMethods ) {
+				try {
+					attributes.add( attributeMethod.getName() + "=" + describeValue( attributeMethod.invoke( usage ) ) );
+				}
+				catch (ReflectiveOperationException e) {
+					throw new AssertionError( e );
+				}
+			}
+			return attributes.toString();
+		}
+		if ( value instanceof Class<?> type ) {
+			return type.getName() + ".class";
+		}
+		if ( value != null && value.getClass().isArray() ) {
+			final StringJoiner elements = new StringJoiner( ", ", "{", "}" );
+			for ( int i = 0; i < Array.getLength( value ); i++ ) {
+				elements.add( describeValue( Array.get( value, i ) ) );
+			}
+			return elements.toString();
+		}
+		return String.valueOf( value );
+	}
+
+	@Test
+	void binaryArchiveDoesNotJavaSerializeTableEntries() throws Exception {
+		final ModelsContext sourceContext = createModelContext( TypeFixture.class );
+		final ClassDetails sourceClass = sourceContext.getClassDetailsRegistry()
+				.findClassDetails( TypeFixture.class.getName() );
+
+		final ModelsArchiveWriter writer = ModelsArchives.createWriter( false );
+		writer.reference( sourceClass );
+		sourceClass.getFields().forEach( field -> writer.reference( field.getType() ) );
+		final ModelsArchive archive = writer.finish();
+
+		final ByteArrayOutputStream archiveBytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream objectOutputStream = new ObjectOutputStream( archiveBytes ) ) {
+			objectOutputStream.writeObject( archive );
+		}
+		// the binary form does not contain the names of the Java-serialized table-entry records
+		assertThat( archiveBytes.toString( StandardCharsets.ISO_8859_1 ) ).doesNotContain( "TypeReference" );
+
+		final RestoredModels restoredModels = SerializationHelper.clone( archive ).restore( SIMPLE_CLASS_LOADING, null );
+		assertThat( restoredModels.getModelsContext().getClassDetailsRegistry().findClassDetails( TypeFixture.class.getName() ) )
+				.isNotNull();
+	}
+
+	@Test
+	void legacyFormatArchivesCanStillBeRead() throws Exception {
+		final ByteArrayOutputStream legacyBytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream objectOutputStream = new ObjectOutputStream( legacyBytes ) ) {
+			// magic, version 1, trackImplementors
+			objectOutputStream.writeInt( 0x484D4F44 );
+			objectOutputStream.writeInt( 1 );
+			objectOutputStream.writeBoolean( false );
+			// class table
+			objectOutputStream.writeInt( 1 );
+			objectOutputStream.writeObject( new SerialClassDetailsImpl( ArchivedClass.class.getName(), ArchivedClass.class.getName() ) );
+			// empty type, field, method, constructor, record-component and annotation-usage tables
+			for ( int i = 0; i < 6; i++ ) {
+				objectOutputStream.writeInt( 0 );
+			}
+		}
+
+		final ModelsArchiveImpl archive = new ModelsArchiveImpl();
+		try ( ObjectInputStream objectInputStream = new ObjectInputStream( new ByteArrayInputStream( legacyBytes.toByteArray() ) ) ) {
+			archive.readExternal( objectInputStream );
+		}
+		final RestoredModels restoredModels = archive.restore( SIMPLE_CLASS_LOADING, null );
+		final ClassDetails restoredClass = (ClassDetails) restoredModels.resolve(
+				new ModelReference( ModelReference.Kind.CLASS, 0 )
+		);
+		assertThat( restoredClass.getName() ).isEqualTo( ArchivedClass.class.getName() );
+		assertThat( restoredClass.findFieldByName( "value" ) ).isNotNull();
+	}
+
+	/**
+	 * Class details whose (only) annotation usage is described rather than realized.
+	 */
+	private static class DescribedClassDetails extends JdkClassDetails implements ArchivableAnnotationTarget {
+		private final AnnotationUsageDescription description;
+
+		private DescribedClassDetails(ModelsContext modelsContext, AnnotationUsageDescription description) {
+			super( ArchivedClass.class, modelsContext );
+			this.description = description;
+		}
+
+		@Override
+		public List<AnnotationUsageDescription> describeDirectAnnotationUsages() {
+			return List.of( description );
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private static class ArchivedClass {
 		private String value;
@@ -624,6 +1214,31 @@ class ModelsArchiveTests {
 		}
 	}
 
+	private record ChangedClassFileClassLoading(String changedClassName, URL changedClassFile) implements ClassLoading {
+		@Override
+		public <T> Class<T> classForName(String name) {
+			return SIMPLE_CLASS_LOADING.classForName( name );
+		}
+
+		@Override
+		public <T> Class<T> findClassForName(String name) {
+			return SIMPLE_CLASS_LOADING.findClassForName( name );
+		}
+
+		@Override
+		public URL locateResource(String resourceName) {
+			if ( resourceName.equals( changedClassName.replace( '.', '/' ) + ".class" ) ) {
+				return changedClassFile;
+			}
+			return SIMPLE_CLASS_LOADING.locateResource( resourceName );
+		}
+
+		@Override
+		public <S> Collection<S> loadJavaServices(Class<S> serviceType) {
+			return SIMPLE_CLASS_LOADING.loadJavaServices( serviceType );
+		}
+	}
+
 	private record BlockingClassLoading(String blockedClassName) implements ClassLoading {
 		@Override
 		public <T> Class<T> classForName(String name) {
@@ -805,6 +1420,42 @@ class ModelsArchiveTests {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	private static class OverloadedType {
+		private OverloadedType(String value) {
+		}
+
+		private OverloadedType(String[] values) {
+		}
+
+		private OverloadedType(Nested nested) {
+		}
+
+		private OverloadedType(int[][] grid) {
+		}
+
+		void handle(String value) {
+		}
+
+		void handle(String[] values) {
+		}
+
+		void handle(Nested nested) {
+		}
+
+		void handle(Nested[] nested) {
+		}
+
+		void handle(int value) {
+		}
+
+		void handle(long[] values) {
+		}
+
+		private static class Nested {
+		}
+	}
+
 	@Repeatable(RepeatableMarkers.class)
 	@Target(ElementType.TYPE)
 	@Retention(RetentionPolicy.RUNTIME)